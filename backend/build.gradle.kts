@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.2.1"
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2"
     jacoco
 }
 
@@ -47,11 +48,16 @@ dependencies {
     // Redis
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
+    // Near Cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // Swagger/OpenAPI
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.3.0")
 
     // Database
     runtimeOnly("com.mysql:mysql-connector-j")
+    implementation("org.flywaydb:flyway-core")
+    implementation("org.flywaydb:flyway-mysql")
     runtimeOnly("com.h2database:h2")
 
     // Test
@@ -70,6 +76,11 @@ dependencies {
     testImplementation("org.testcontainers:mysql:1.19.3")
     testImplementation("org.testcontainers:junit-jupiter:1.19.3")
     testImplementation("com.redis:testcontainers-redis:2.0.1")
+
+    // JMH Benchmark
+    jmh("org.testcontainers:testcontainers:1.19.3")
+    jmh("com.redis:testcontainers-redis:2.0.1")
+    jmh("org.springframework:spring-test")
 }
 
 jacoco {
@@ -85,6 +96,13 @@ tasks.jacocoTestReport {
     }
 }
 
+jmh {
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
     finalizedBy(tasks.jacocoTestReport)
@@ -0,0 +1,74 @@
+package com.hoops.common.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터의 요청당 비용 비교
+ * 검증된 클레임 캐시를 켰을 때(SHA-256 해시 + 캐시 조회)와 껐을 때(매 요청 HMAC 검증 + 클레임 파싱)
+ * 활성 사용자 수만큼의 토큰을 번갈아 사용하여 캐시가 여러 토큰을 동시에 들고 있는 상황을 재현한다
+ *
+ * 실행: ./gradlew jmh (할당량은 gc 프로파일러의 gc.alloc.rate.norm 항목)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-32-characters-long";
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    @Param({"1", "1000"})
+    private int activeUsers;
+
+    private JwtAuthenticationFilter filter;
+    private String[] authorizationHeaders;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtTokenProviderImpl tokenProvider = new JwtTokenProviderImpl(
+                new JwtProperties(SECRET, 1800000L, 1209600000L, 600000L));
+        JwtClaimsCache claimsCache = new JwtClaimsCache(tokenProvider,
+                new JwtClaimsCacheProperties(cacheEnabled, 10_000L), new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(claimsCache);
+
+        authorizationHeaders = new String[activeUsers];
+        for (int i = 0; i < activeUsers; i++) {
+            authorizationHeaders[i] = "Bearer " + tokenProvider.createTokens(i + 1L, "benchmark").accessToken();
+        }
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/matches");
+        request.addHeader("Authorization", authorizationHeaders[next]);
+        next = (next + 1) % authorizationHeaders.length;
+
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.hoops.common.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring Security 필터 체인 전체의 요청당 비용 비교 (GET /api/matches)
+ * anonymousFastPath: 헤더 없는 공개 조회, 최소 체인으로 처리
+ * anonymousFullChain: 같은 요청이 전체 체인을 거치는 경우 (Bearer가 아닌 Authorization 헤더로 최소 체인을 비켜 감, 변경 전 경로)
+ * authenticated: Bearer 토큰으로 전체 체인 + 검증된 클레임 캐시 적중
+ *
+ * 실행: ./gradlew jmh (할당량은 gc 프로파일러의 gc.alloc.rate.norm 항목)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecurityFilterChainBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-32-characters-long";
+
+    @Param({"anonymousFastPath", "anonymousFullChain", "authenticated"})
+    private String scenario;
+
+    private AnnotationConfigWebApplicationContext context;
+    private Filter securityFilterChain;
+    private String authorizationHeader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "cors.allowed-origins", "http://localhost:3000",
+                "jwt.secret", SECRET
+        )));
+        context.register(BenchmarkWebConfig.class, SecurityConfig.class, JwtAuthenticationFilter.class,
+                JwtClaimsCache.class, JwtTokenProviderImpl.class);
+        context.refresh();
+        securityFilterChain = context.getBean("springSecurityFilterChain", Filter.class);
+
+        authorizationHeader = switch (scenario) {
+            case "anonymousFullChain" -> "Basic YmVuY2htYXJrOmJlbmNobWFyaw==";
+            case "authenticated" -> "Bearer " + context.getBean(JwtTokenProviderImpl.class)
+                    .createTokens(1L, "benchmark").accessToken();
+            default -> null;
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int filter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/matches");
+        if (authorizationHeader != null) {
+            request.addHeader("Authorization", authorizationHeader);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        securityFilterChain.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class BenchmarkWebConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
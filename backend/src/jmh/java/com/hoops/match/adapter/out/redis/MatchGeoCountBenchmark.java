@@ -0,0 +1,126 @@
+package com.hoops.match.adapter.out.redis;
+
+import com.hoops.match.application.port.out.MatchGeoIndexPort.GeoIndexEntry;
+import com.hoops.match.domain.vo.MatchStatus;
+import com.redis.testcontainers.RedisContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반경 내 매치 개수 조회 방식 비교
+ * 기존 GEORADIUS 전체 조회 후 size(), Lua 스크립트 정확 개수
+ *
+ * 실행: ./gradlew jmh (할당량은 gc 프로파일러의 gc.alloc.rate.norm 항목)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MatchGeoCountBenchmark {
+
+    private static final String GEO_KEY = "matches:geo";
+    private static final int BULK_CHUNK_SIZE = 10_000;
+
+    // 서울 시청
+    private static final BigDecimal CENTER_LNG = new BigDecimal("126.9780");
+    private static final BigDecimal CENTER_LAT = new BigDecimal("37.5665");
+    private static final double RADIUS_KM = 50.0;
+
+    @Param({"10000", "100000", "1000000"})
+    private int matchCount;
+
+    private RedisContainer redis;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private MatchGeoRedisAdapter adapter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redis = new RedisContainer("redis:7-alpine");
+        redis.start();
+
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getFirstMappedPort());
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        adapter = new MatchGeoRedisAdapter(redisTemplate);
+        adapter.clearAll();
+        loadMatches();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+        redis.stop();
+    }
+
+    /**
+     * 서울 중심 반경 약 60km 안에 매치를 무작위로 배치 (재현 가능하도록 고정 시드)
+     */
+    private void loadMatches() {
+        Random random = new Random(42);
+        List<GeoIndexEntry> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+        for (long id = 1; id <= matchCount; id++) {
+            double lng = CENTER_LNG.doubleValue() + (random.nextDouble() - 0.5) * 1.4;
+            double lat = CENTER_LAT.doubleValue() + (random.nextDouble() - 0.5) * 1.1;
+            chunk.add(new GeoIndexEntry(id, BigDecimal.valueOf(lng), BigDecimal.valueOf(lat),
+                    MatchStatus.PENDING, random.nextInt(10) + 1));
+
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                adapter.addMatchesBulk(chunk);
+                chunk.clear();
+            }
+        }
+        adapter.addMatchesBulk(chunk);
+    }
+
+    /**
+     * 기존 구현: 반경 내 모든 멤버를 조회하여 개수를 센다
+     */
+    @Benchmark
+    public long georadiusMaterialized() {
+        Circle circle = new Circle(
+                new Point(CENTER_LNG.doubleValue(), CENTER_LAT.doubleValue()),
+                new Distance(RADIUS_KM, RedisGeoCommands.DistanceUnit.KILOMETERS));
+        RedisGeoCommands.GeoRadiusCommandArgs args = RedisGeoCommands.GeoRadiusCommandArgs
+                .newGeoRadiusArgs()
+                .sortAscending();
+
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results =
+                redisTemplate.opsForGeo().radius(GEO_KEY, circle, args);
+        return results == null ? 0 : results.getContent().size();
+    }
+
+    @Benchmark
+    public long luaExactCount() {
+        return adapter.countMatchesWithinRadius(CENTER_LNG, CENTER_LAT, RADIUS_KM);
+    }
+}
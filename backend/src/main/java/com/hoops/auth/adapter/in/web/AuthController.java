@@ -22,6 +22,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -85,4 +86,16 @@ public class AuthController {
         TokenPair tokenPair = tokenUseCase.refresh(request.refreshToken());
         return ResponseEntity.ok(TokenResponse.from(tokenPair));
     }
+
+    @Operation(summary = "Log out from all devices", description = "Revokes every refresh token of the current user. Issued access tokens stay valid until they expire.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "All refresh tokens revoked"),
+            @ApiResponse(responseCode = "401", description = "Authentication required")
+    })
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutEverywhere(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId) {
+        tokenUseCase.logoutEverywhere(userId);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,232 @@
+package com.hoops.auth.adapter.out.redis;
+
+import com.hoops.auth.adapter.out.redis.exception.RedisRefreshTokenStoreException;
+import com.hoops.auth.application.port.out.RefreshTokenStorePort;
+import com.hoops.auth.infrastructure.config.RefreshTokenProperties;
+import com.hoops.common.security.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Refresh Token 저장소 (Redis)
+ *
+ * 사용자마다 세 종류의 Key를 두며, Cluster 환경에서도 같은 슬롯에 있도록 사용자 ID를 Hash Tag로 감싼다.
+ * - auth:refresh:{userId}:token:{토큰 해시} → 패밀리 ID (발급된 모든 토큰, 교체된 뒤에도 재사용 감지를 위해 만료까지 유지)
+ * - auth:refresh:{userId}:family:{패밀리 ID} → Hash {토큰 해시: 0(유효) 또는 교체된 시각(ms)}
+ * - auth:refresh:{userId}:families → 패밀리 ID Set (모든 기기 로그아웃용)
+ * - auth:refresh:{userId}:legacy:{토큰 해시} → 패밀리 도입 이전에 발급되어 이미 한 번 사용된 토큰
+ * 모든 Key의 TTL은 Refresh Token 유효 기간이며, 로테이션마다 패밀리와 Set의 TTL이 연장된다.
+ *
+ * 여러 탭이 동시에 갱신하면 같은 토큰이 거의 동시에 두 번 제시되므로, 교체된 토큰도 잠시 동안은 유효하게 보고
+ * 새 토큰을 하나 더 발급한다. 유예 시간이 지난 뒤 다시 제시된 토큰만 재사용으로 판단한다.
+ * 패밀리 Set에서 만료된 패밀리 ID는 등록/로테이션 때 함께 정리한다
+ * (패밀리 Key는 인자로 받은 접두어로 만들며, Hash Tag가 같아 같은 슬롯에 있다).
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenRedisAdapter implements RefreshTokenStorePort {
+
+    private static final String KEY_PREFIX = "auth:refresh:";
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    /**
+     * 패밀리 Set에 ARGV[1]을 넣고 만료된 패밀리 ID를 정리 (KEYS[3]: 패밀리 Set, TTL_ARG: TTL, PREFIX_ARG: 패밀리 Key 접두어)
+     */
+    private static final String TRACK_FAMILY = """
+            redis.call('SADD', KEYS[3], ARGV[1])
+            for _, familyId in ipairs(redis.call('SMEMBERS', KEYS[3])) do
+                if redis.call('EXISTS', ARGV[PREFIX_ARG] .. familyId) == 0 then
+                    redis.call('SREM', KEYS[3], familyId)
+                end
+            end
+            redis.call('EXPIRE', KEYS[3], ARGV[TTL_ARG])
+            """;
+
+    /**
+     * KEYS[1]: 토큰, KEYS[2]: 패밀리, KEYS[3]: 패밀리 Set
+     * ARGV[1]: 패밀리 ID, ARGV[2]: 토큰 해시, ARGV[3]: TTL(초), ARGV[4]: 패밀리 Key 접두어
+     */
+    private static final RedisScript<Long> REGISTER_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3])
+            redis.call('HSET', KEYS[2], ARGV[2], '0')
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            """ + TRACK_FAMILY.replace("TTL_ARG", "3").replace("PREFIX_ARG", "4") + """
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 제시된 토큰, KEYS[2]: 패밀리, KEYS[3]: 패밀리 Set, KEYS[4]: 다음 토큰
+     * ARGV[1]: 패밀리 ID, ARGV[2]: 제시된 토큰 해시, ARGV[3]: 다음 토큰 해시, ARGV[4]: TTL(초)
+     * ARGV[5]: 재사용 유예 시간(ms), ARGV[6]: 패밀리 Key 접두어
+     * 인스턴스 간 시계 차이가 없도록 교체 시각은 Redis 서버 시각(TIME)을 사용한다
+     * 반환: 1 교체, -1 재사용 감지(패밀리 폐기), 0 폐기/만료/알 수 없는 토큰
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 or redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local grace = tonumber(ARGV[5])
+            local state = redis.call('HGET', KEYS[2], ARGV[2])
+            if not state or (state ~= '0' and now - tonumber(state) > grace) then
+                redis.call('DEL', KEYS[2])
+                redis.call('SREM', KEYS[3], ARGV[1])
+                return -1
+            end
+            if state == '0' then
+                redis.call('HSET', KEYS[2], ARGV[2], tostring(now))
+            end
+            redis.call('HSET', KEYS[2], ARGV[3], '0')
+            local entries = redis.call('HGETALL', KEYS[2])
+            for i = 1, #entries, 2 do
+                if entries[i + 1] ~= '0' and now - tonumber(entries[i + 1]) > grace then
+                    redis.call('HDEL', KEYS[2], entries[i])
+                end
+            end
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            redis.call('SET', KEYS[4], ARGV[1], 'EX', ARGV[4])
+            """ + TRACK_FAMILY.replace("TTL_ARG", "4").replace("PREFIX_ARG", "6") + """
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JwtProperties jwtProperties;
+    private final RefreshTokenProperties refreshTokenProperties;
+
+    @Override
+    public void register(Long userId, String familyId, String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        try {
+            redisTemplate.execute(REGISTER_SCRIPT,
+                    List.of(tokenKey(userId, tokenHash), familyKey(userId, familyId), familiesKey(userId)),
+                    familyId, tokenHash, ttlSeconds(), familyKeyPrefix(userId));
+        } catch (Exception e) {
+            throw new RedisRefreshTokenStoreException(
+                    "Failed to register refresh token: userId=" + userId + ", familyId=" + familyId, e);
+        }
+    }
+
+    @Override
+    public RotationResult rotate(Long userId, String familyId, String presentedToken, String nextToken) {
+        String presentedHash = hash(presentedToken);
+        String nextHash = hash(nextToken);
+        Long result;
+        try {
+            result = redisTemplate.execute(ROTATE_SCRIPT,
+                    List.of(tokenKey(userId, presentedHash), familyKey(userId, familyId),
+                            familiesKey(userId), tokenKey(userId, nextHash)),
+                    familyId, presentedHash, nextHash, ttlSeconds(),
+                    String.valueOf(refreshTokenProperties.reuseGrace().toMillis()), familyKeyPrefix(userId));
+        } catch (Exception e) {
+            throw new RedisRefreshTokenStoreException(
+                    "Failed to rotate refresh token: userId=" + userId + ", familyId=" + familyId, e);
+        }
+
+        if (result == null || result == 0) {
+            return RotationResult.REVOKED;
+        }
+        return result == 1 ? RotationResult.ROTATED : RotationResult.REUSE_DETECTED;
+    }
+
+    /**
+     * 이전 방식의 토큰은 만료까지 최대 Refresh Token 유효 기간이 남아 있으므로 그동안만 사용 기록을 둔다
+     */
+    @Override
+    public boolean claimLegacy(Long userId, String refreshToken) {
+        try {
+            Boolean claimed = redisTemplate.opsForValue().setIfAbsent(
+                    legacyKey(userId, hash(refreshToken)), "1",
+                    Duration.ofSeconds(Long.parseLong(ttlSeconds())));
+            return Boolean.TRUE.equals(claimed);
+        } catch (Exception e) {
+            throw new RedisRefreshTokenStoreException("Failed to claim legacy refresh token: userId=" + userId, e);
+        }
+    }
+
+    /**
+     * 패밀리 Key만 지우면 그 패밀리의 모든 토큰이 무효가 된다 (토큰 Key는 만료될 때까지 남아도 검증에 실패함)
+     */
+    @Override
+    public void revokeAll(Long userId) {
+        try {
+            Set<String> familyIds = redisTemplate.opsForSet().members(familiesKey(userId));
+            List<String> keys = new ArrayList<>();
+            keys.add(familiesKey(userId));
+            if (familyIds != null) {
+                familyIds.forEach(familyId -> keys.add(familyKey(userId, familyId)));
+            }
+            redisTemplate.delete(keys);
+        } catch (Exception e) {
+            throw new RedisRefreshTokenStoreException("Failed to revoke refresh tokens: userId=" + userId, e);
+        }
+    }
+
+    @Override
+    public void clearAll() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>();
+            cursor.forEachRemaining(keys::add);
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (Exception e) {
+            throw new RedisRefreshTokenStoreException("Failed to clear refresh token store", e);
+        }
+    }
+
+    private String tokenKey(Long userId, String tokenHash) {
+        return userPrefix(userId) + ":token:" + tokenHash;
+    }
+
+    private String legacyKey(Long userId, String tokenHash) {
+        return userPrefix(userId) + ":legacy:" + tokenHash;
+    }
+
+    private String familyKey(Long userId, String familyId) {
+        return familyKeyPrefix(userId) + familyId;
+    }
+
+    private String familyKeyPrefix(Long userId) {
+        return userPrefix(userId) + ":family:";
+    }
+
+    private String familiesKey(Long userId) {
+        return userPrefix(userId) + ":families";
+    }
+
+    private String userPrefix(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private String ttlSeconds() {
+        return String.valueOf(Math.max(1L, jwtProperties.refreshTokenExpiry() / 1000));
+    }
+
+    /**
+     * 저장소가 노출되어도 토큰을 재사용할 수 없도록 SHA-256 해시로만 저장한다
+     */
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
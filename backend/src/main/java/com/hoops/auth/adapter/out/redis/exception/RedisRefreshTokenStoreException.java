@@ -0,0 +1,19 @@
+package com.hoops.auth.adapter.out.redis.exception;
+
+import com.hoops.common.exception.ApplicationException;
+
+/**
+ * Redis Refresh Token 저장소 작업 실패 시 발생하는 예외
+ */
+public class RedisRefreshTokenStoreException extends ApplicationException {
+
+    private static final String ERROR_CODE = "REDIS_REFRESH_TOKEN_STORE_ERROR";
+
+    public RedisRefreshTokenStoreException(String message) {
+        super(ERROR_CODE, message);
+    }
+
+    public RedisRefreshTokenStoreException(String message, Throwable cause) {
+        super(ERROR_CODE, message, cause);
+    }
+}
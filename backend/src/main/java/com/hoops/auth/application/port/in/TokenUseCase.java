@@ -11,4 +11,9 @@ public interface TokenUseCase {
      * 토큰을 갱신합니다.
      */
     TokenPair refresh(String refreshToken);
+
+    /**
+     * 사용자의 모든 Refresh Token을 폐기합니다 (모든 기기에서 로그아웃).
+     */
+    void logoutEverywhere(Long userId);
 }
@@ -1,7 +1,11 @@
 package com.hoops.auth.application.port.out;
 
+import com.hoops.auth.domain.vo.RefreshTokenClaims;
 import com.hoops.auth.domain.vo.TempTokenClaims;
 import com.hoops.auth.domain.vo.TokenPair;
+import com.hoops.auth.domain.vo.VerifiedTokenClaims;
+
+import java.util.Optional;
 
 /**
  * JWT 토큰 Port
@@ -9,9 +13,10 @@ import com.hoops.auth.domain.vo.TokenPair;
 public interface JwtTokenPort {
 
     /**
-     * Access Token과 Refresh Token을 생성합니다.
+     * 지정한 토큰 패밀리에 속하는 Access Token과 Refresh Token을 생성합니다.
+     * 새 패밀리의 발급과 등록은 TokenIssuer가 담당합니다.
      */
-    TokenPair createTokens(Long userId);
+    TokenPair createTokens(Long userId, String familyId);
 
     /**
      * 임시 토큰을 생성합니다 (회원가입 전 사용).
@@ -29,12 +34,20 @@ public interface JwtTokenPort {
     TempTokenClaims getClaimsFromTempToken(String tempToken);
 
     /**
-     * Refresh Token으로 새로운 토큰을 발급합니다.
+     * Refresh Token의 서명, 만료, 토큰 종류를 검증하고 클레임을 추출합니다.
+     * 폐기 여부는 확인하지 않으므로 토큰 저장소와 함께 사용해야 합니다.
+     * 토큰 패밀리 도입 이전에 발급된 토큰은 familyId가 없는 클레임으로 반환합니다.
      */
-    TokenPair refreshTokens(String refreshToken);
+    RefreshTokenClaims getClaimsFromRefreshToken(String refreshToken);
 
     /**
      * 토큰 유효성을 검증합니다.
      */
     boolean validateToken(String token);
+
+    /**
+     * Access Token을 한 번만 파싱하여 서명과 만료를 검증하고 userId와 만료 시각을 반환합니다.
+     * 검증에 실패하거나, Access Token이 아니거나, userId가 없으면 빈 값을 반환합니다.
+     */
+    Optional<VerifiedTokenClaims> verifyToken(String token);
 }
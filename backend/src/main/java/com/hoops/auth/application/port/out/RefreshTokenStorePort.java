@@ -0,0 +1,44 @@
+package com.hoops.auth.application.port.out;
+
+/**
+ * Refresh Token 저장소 Port
+ *
+ * 로그인마다 토큰 패밀리를 만들고, 패밀리마다 현재 유효한 Refresh Token 하나만 기억한다.
+ * 토큰은 해시로만 저장하며, 만료 시각이 지나면 함께 사라진다.
+ */
+public interface RefreshTokenStorePort {
+
+    /**
+     * 새 토큰 패밀리와 그 첫 Refresh Token을 등록
+     */
+    void register(Long userId, String familyId, String refreshToken);
+
+    /**
+     * 제시된 토큰이 패밀리의 유효한 토큰이면 다음 토큰으로 교체한다
+     * 교체된 토큰도 짧은 유예 시간 동안은 유효하게 보고(동시 갱신), 그 이후 다시 제시되면 탈취로 보고 패밀리를 폐기한다
+     */
+    RotationResult rotate(Long userId, String familyId, String presentedToken, String nextToken);
+
+    /**
+     * 토큰 패밀리 도입 이전에 발급된 Refresh Token을 한 번만 사용된 것으로 표시
+     *
+     * @return 처음 제시된 토큰이면 true, 이미 사용된 토큰이면 false
+     */
+    boolean claimLegacy(Long userId, String refreshToken);
+
+    /**
+     * 사용자의 모든 토큰 패밀리 폐기 (모든 기기에서 로그아웃)
+     */
+    void revokeAll(Long userId);
+
+    void clearAll();
+
+    enum RotationResult {
+        /** 현재 토큰이었으며 다음 토큰으로 교체됨 */
+        ROTATED,
+        /** 이미 교체된 토큰이 재사용되어 패밀리를 폐기함 */
+        REUSE_DETECTED,
+        /** 알 수 없거나 폐기/만료된 패밀리의 토큰 */
+        REVOKED
+    }
+}
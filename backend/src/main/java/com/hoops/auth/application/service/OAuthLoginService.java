@@ -31,6 +31,7 @@ public class OAuthLoginService implements OAuthLoginUseCase {
     private final JwtTokenPort jwtTokenPort;
     private final AuthAccountRepositoryPort authAccountRepository;
     private final UserInfoPort userInfoPort;
+    private final TokenIssuer tokenIssuer;
 
     @Override
     public String getAuthorizationUrl(AuthProvider provider) {
@@ -61,9 +62,7 @@ public class OAuthLoginService implements OAuthLoginUseCase {
 
     private OAuthCallbackResult handleExistingUser(AuthAccount authAccount) {
         AuthUserInfo userInfo = findUserByAuthAccount(authAccount);
-        TokenPair tokens = jwtTokenPort.createTokens(userInfo.id());
-
-        authAccountRepository.save(authAccount.withRefreshToken(tokens.refreshToken()));
+        TokenPair tokens = tokenIssuer.issue(userInfo.id());
 
         return OAuthCallbackResult.forExistingUser(
                 tokens.accessToken(),
@@ -27,6 +27,7 @@ public class SignupService implements SignupUseCase {
     private final JwtTokenPort jwtTokenPort;
     private final UserInfoPort userInfoPort;
     private final AuthAccountRepositoryPort authAccountRepository;
+    private final TokenIssuer tokenIssuer;
 
     @Override
     public AuthResult signup(SignupCommand command) {
@@ -35,8 +36,8 @@ public class SignupService implements SignupUseCase {
         validateNicknameNotDuplicated(nickname);
 
         AuthUserInfo savedUserInfo = createUser(claims, nickname);
-        TokenPair tokens = jwtTokenPort.createTokens(savedUserInfo.id());
-        createAuthAccount(claims, savedUserInfo.id(), tokens.refreshToken());
+        createAuthAccount(claims, savedUserInfo.id());
+        TokenPair tokens = tokenIssuer.issue(savedUserInfo.id());
 
         return new AuthResult(
                 tokens.accessToken(),
@@ -68,12 +69,11 @@ public class SignupService implements SignupUseCase {
         return userInfoPort.createUser(createUserCommand);
     }
 
-    private void createAuthAccount(TempTokenClaims claims, Long userId, String refreshToken) {
+    private void createAuthAccount(TempTokenClaims claims, Long userId) {
         AuthAccount authAccount = AuthAccount.create(
                 userId,
                 claims.provider(),
-                claims.providerId(),
-                refreshToken
+                claims.providerId()
         );
         authAccountRepository.save(authAccount);
     }
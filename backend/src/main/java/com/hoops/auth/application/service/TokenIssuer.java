@@ -0,0 +1,28 @@
+package com.hoops.auth.application.service;
+
+import com.hoops.auth.application.port.out.JwtTokenPort;
+import com.hoops.auth.application.port.out.RefreshTokenStorePort;
+import com.hoops.auth.domain.vo.TokenPair;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 로그인/회원가입 시 토큰 발급
+ * 새 토큰 패밀리를 만들고 Refresh Token을 저장소에 등록한다 (auth_accounts에는 기록하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenIssuer {
+
+    private final JwtTokenPort jwtTokenPort;
+    private final RefreshTokenStorePort refreshTokenStore;
+
+    public TokenPair issue(Long userId) {
+        String familyId = UUID.randomUUID().toString();
+        TokenPair tokens = jwtTokenPort.createTokens(userId, familyId);
+        refreshTokenStore.register(userId, familyId, tokens.refreshToken());
+        return tokens;
+    }
+}
@@ -1,21 +1,69 @@
 package com.hoops.auth.application.service;
 
+import com.hoops.auth.application.exception.InvalidRefreshTokenException;
 import com.hoops.auth.application.port.in.TokenUseCase;
 import com.hoops.auth.application.port.out.JwtTokenPort;
+import com.hoops.auth.application.port.out.RefreshTokenStorePort;
+import com.hoops.auth.application.port.out.RefreshTokenStorePort.RotationResult;
+import com.hoops.auth.domain.vo.RefreshTokenClaims;
 import com.hoops.auth.domain.vo.TokenPair;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 토큰 갱신과 폐기
+ *
+ * 갱신은 서명 검증 후 Redis 스크립트 한 번으로 토큰을 교체하며 DB를 조회하지 않는다.
+ * 이미 교체된 Refresh Token이 다시 들어오면 탈취된 것으로 보고 그 패밀리 전체를 폐기한다.
+ * 폐기 이후에도 이미 발급된 Access Token은 만료될 때까지 유효하다.
+ *
+ * 토큰 패밀리 도입 이전에 발급된 Refresh Token(familyId 없음)은 배포 직후 모두가 로그아웃되지 않도록
+ * 한 번만 받아 새 패밀리를 시작해 준다. 같은 토큰이 다시 제시되면 거부한다.
+ * 이런 토큰은 저장소에 패밀리가 없으므로 모든 기기 로그아웃으로 폐기되지 않으며, 최대 Refresh Token 유효 기간이 지나면 사라진다.
+ */
+@Slf4j
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class TokenService implements TokenUseCase {
 
     private final JwtTokenPort jwtTokenPort;
+    private final RefreshTokenStorePort refreshTokenStore;
+    private final TokenIssuer tokenIssuer;
 
     @Override
     public TokenPair refresh(String refreshToken) {
-        return jwtTokenPort.refreshTokens(refreshToken);
+        RefreshTokenClaims claims = jwtTokenPort.getClaimsFromRefreshToken(refreshToken);
+        if (claims.isLegacy()) {
+            return migrateLegacy(claims.userId(), refreshToken);
+        }
+
+        TokenPair next = jwtTokenPort.createTokens(claims.userId(), claims.familyId());
+
+        RotationResult result = refreshTokenStore.rotate(
+                claims.userId(), claims.familyId(), refreshToken, next.refreshToken());
+
+        return switch (result) {
+            case ROTATED -> next;
+            case REUSE_DETECTED -> {
+                log.warn("Refresh token reuse detected, token family revoked: userId={}, familyId={}",
+                        claims.userId(), claims.familyId());
+                throw new InvalidRefreshTokenException("Refresh token has already been used");
+            }
+            case REVOKED -> throw new InvalidRefreshTokenException("Refresh token has been revoked");
+        };
+    }
+
+    private TokenPair migrateLegacy(Long userId, String refreshToken) {
+        if (!refreshTokenStore.claimLegacy(userId, refreshToken)) {
+            throw new InvalidRefreshTokenException("Refresh token has already been used");
+        }
+        log.info("Legacy refresh token migrated to a new token family: userId={}", userId);
+        return tokenIssuer.issue(userId);
+    }
+
+    @Override
+    public void logoutEverywhere(Long userId) {
+        refreshTokenStore.revokeAll(userId);
     }
 }
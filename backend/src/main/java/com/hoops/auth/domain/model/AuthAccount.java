@@ -17,23 +17,14 @@ public class AuthAccount {
     private final String passwordHash;
     private final String refreshToken;
 
-    public static AuthAccount create(Long userId, AuthProvider provider, String providerId, String refreshToken) {
+    /**
+     * Refresh Token은 토큰 저장소에서 관리하므로 계정에는 기록하지 않는다
+     */
+    public static AuthAccount create(Long userId, AuthProvider provider, String providerId) {
         return AuthAccount.builder()
                 .userId(userId)
                 .provider(provider)
                 .providerId(providerId)
-                .refreshToken(refreshToken)
-                .build();
-    }
-
-    public AuthAccount withRefreshToken(String newRefreshToken) {
-        return AuthAccount.builder()
-                .id(this.id)
-                .userId(this.userId)
-                .provider(this.provider)
-                .providerId(this.providerId)
-                .passwordHash(this.passwordHash)
-                .refreshToken(newRefreshToken)
                 .build();
     }
 }
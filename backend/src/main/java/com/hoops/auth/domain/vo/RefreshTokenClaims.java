@@ -0,0 +1,19 @@
+package com.hoops.auth.domain.vo;
+
+/**
+ * Verified claims of a refresh token.
+ * Every refresh token belongs to a token family that starts at login and is carried through each rotation.
+ * Tokens issued before token families were introduced have no family id.
+ */
+public record RefreshTokenClaims(
+        Long userId,
+        String familyId
+) {
+    public static RefreshTokenClaims of(Long userId, String familyId) {
+        return new RefreshTokenClaims(userId, familyId);
+    }
+
+    public boolean isLegacy() {
+        return familyId == null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.hoops.auth.domain.vo;
+
+import java.time.Instant;
+
+/**
+ * Claims of a token whose signature and expiry have already been verified.
+ * Holds only what authentication needs, so it can be cached until the token expires.
+ */
+public record VerifiedTokenClaims(
+        Long userId,
+        Instant expiresAt
+) {
+    public static VerifiedTokenClaims of(Long userId, Instant expiresAt) {
+        return new VerifiedTokenClaims(userId, expiresAt);
+    }
+}
@@ -4,6 +4,6 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties(KakaoOAuthProperties.class)
+@EnableConfigurationProperties({KakaoOAuthProperties.class, RefreshTokenProperties.class})
 public class AuthConfig {
 }
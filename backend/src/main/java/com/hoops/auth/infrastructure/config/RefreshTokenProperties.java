@@ -0,0 +1,24 @@
+package com.hoops.auth.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Refresh Token 저장소 설정 프로퍼티
+ *
+ * @param reuseGrace 교체된 토큰을 재사용으로 보지 않는 유예 시간 (여러 탭의 동시 갱신 허용)
+ */
+@ConfigurationProperties(prefix = "auth.refresh-token")
+public record RefreshTokenProperties(
+        Duration reuseGrace
+) {
+
+    private static final Duration DEFAULT_REUSE_GRACE = Duration.ofSeconds(10);
+
+    public RefreshTokenProperties {
+        if (reuseGrace == null || reuseGrace.isNegative()) {
+            reuseGrace = DEFAULT_REUSE_GRACE;
+        }
+    }
+}
@@ -15,7 +15,7 @@ import javax.sql.DataSource;
  * 분산 환경에서 스케줄러 중복 실행을 방지하기 위한 설정.
  * DB 기반 락을 사용하여 하나의 인스턴스만 스케줄러를 실행하도록 보장한다.
  *
- * 주의: shedlock 테이블은 schema.sql에서 생성되어야 한다.
+ * 주의: shedlock 테이블은 Flyway 마이그레이션(V1__init_schema.sql)에서 생성된다.
  */
 @Configuration
 @EnableSchedulerLock(defaultLockAtMostFor = "PT5M")
@@ -0,0 +1,24 @@
+package com.hoops.common.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경기 취소 이벤트
+ */
+public class MatchCancelledEvent extends MatchEvent {
+
+    public static final String EVENT_TYPE = "MATCH_CANCELLED";
+
+    public MatchCancelledEvent() {
+        super();
+    }
+
+    public MatchCancelledEvent(Long matchId, Long hostId, String matchTitle, LocalDateTime occurredAt) {
+        super(matchId, hostId, matchTitle, occurredAt);
+    }
+
+    @Override
+    public String getEventType() {
+        return EVENT_TYPE;
+    }
+}
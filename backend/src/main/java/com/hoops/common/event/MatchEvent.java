@@ -0,0 +1,46 @@
+package com.hoops.common.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경기 관련 이벤트의 베이스 클래스
+ */
+public abstract class MatchEvent {
+
+    private final Long matchId;
+    private final Long hostId;
+    private final String matchTitle;
+    private final LocalDateTime occurredAt;
+
+    protected MatchEvent() {
+        this.matchId = null;
+        this.hostId = null;
+        this.matchTitle = null;
+        this.occurredAt = null;
+    }
+
+    protected MatchEvent(Long matchId, Long hostId, String matchTitle, LocalDateTime occurredAt) {
+        this.matchId = matchId;
+        this.hostId = hostId;
+        this.matchTitle = matchTitle;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getMatchId() {
+        return matchId;
+    }
+
+    public Long getHostId() {
+        return hostId;
+    }
+
+    public String getMatchTitle() {
+        return matchTitle;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public abstract String getEventType();
+}
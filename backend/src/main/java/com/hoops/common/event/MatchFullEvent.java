@@ -0,0 +1,24 @@
+package com.hoops.common.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경기 정원 마감 이벤트
+ */
+public class MatchFullEvent extends MatchEvent {
+
+    public static final String EVENT_TYPE = "MATCH_FULL";
+
+    public MatchFullEvent() {
+        super();
+    }
+
+    public MatchFullEvent(Long matchId, Long hostId, String matchTitle, LocalDateTime occurredAt) {
+        super(matchId, hostId, matchTitle, occurredAt);
+    }
+
+    @Override
+    public String getEventType() {
+        return EVENT_TYPE;
+    }
+}
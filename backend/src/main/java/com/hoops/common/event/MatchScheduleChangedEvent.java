@@ -0,0 +1,24 @@
+package com.hoops.common.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경기 일정(날짜/시작/종료 시각) 변경 이벤트
+ */
+public class MatchScheduleChangedEvent extends MatchEvent {
+
+    public static final String EVENT_TYPE = "MATCH_SCHEDULE_CHANGED";
+
+    public MatchScheduleChangedEvent() {
+        super();
+    }
+
+    public MatchScheduleChangedEvent(Long matchId, Long hostId, String matchTitle, LocalDateTime occurredAt) {
+        super(matchId, hostId, matchTitle, occurredAt);
+    }
+
+    @Override
+    public String getEventType() {
+        return EVENT_TYPE;
+    }
+}
@@ -13,9 +13,9 @@ public class ParticipationCancelledEvent extends ParticipationEvent {
         super();
     }
 
-    public ParticipationCancelledEvent(Long participationId, Long matchId, Long userId,
+    public ParticipationCancelledEvent(Long participationId, Long matchId, Long hostId, Long userId,
                                        String matchTitle, LocalDateTime occurredAt) {
-        super(participationId, matchId, userId, matchTitle, occurredAt);
+        super(participationId, matchId, hostId, userId, matchTitle, occurredAt);
     }
 
     @Override
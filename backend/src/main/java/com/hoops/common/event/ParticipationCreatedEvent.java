@@ -13,9 +13,9 @@ public class ParticipationCreatedEvent extends ParticipationEvent {
         super();
     }
 
-    public ParticipationCreatedEvent(Long participationId, Long matchId, Long userId,
+    public ParticipationCreatedEvent(Long participationId, Long matchId, Long hostId, Long userId,
                                      String matchTitle, LocalDateTime occurredAt) {
-        super(participationId, matchId, userId, matchTitle, occurredAt);
+        super(participationId, matchId, hostId, userId, matchTitle, occurredAt);
     }
 
     @Override
@@ -9,6 +9,7 @@ public abstract class ParticipationEvent {
 
     private final Long participationId;
     private final Long matchId;
+    private final Long hostId;
     private final Long userId;
     private final String matchTitle;
     private final LocalDateTime occurredAt;
@@ -16,15 +17,17 @@ public abstract class ParticipationEvent {
     protected ParticipationEvent() {
         this.participationId = null;
         this.matchId = null;
+        this.hostId = null;
         this.userId = null;
         this.matchTitle = null;
         this.occurredAt = null;
     }
 
-    protected ParticipationEvent(Long participationId, Long matchId, Long userId,
+    protected ParticipationEvent(Long participationId, Long matchId, Long hostId, Long userId,
                                   String matchTitle, LocalDateTime occurredAt) {
         this.participationId = participationId;
         this.matchId = matchId;
+        this.hostId = hostId;
         this.userId = userId;
         this.matchTitle = matchTitle;
         this.occurredAt = occurredAt;
@@ -38,6 +41,10 @@ public abstract class ParticipationEvent {
         return matchId;
     }
 
+    public Long getHostId() {
+        return hostId;
+    }
+
     public Long getUserId() {
         return userId;
     }
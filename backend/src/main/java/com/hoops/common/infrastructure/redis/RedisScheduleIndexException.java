@@ -0,0 +1,15 @@
+package com.hoops.common.infrastructure.redis;
+
+import com.hoops.common.exception.ApplicationException;
+
+/**
+ * Redis 사용자 일정 인덱스 작업 실패 시 발생하는 예외
+ */
+public class RedisScheduleIndexException extends ApplicationException {
+
+    private static final String ERROR_CODE = "REDIS_SCHEDULE_INDEX_ERROR";
+
+    public RedisScheduleIndexException(String message, Throwable cause) {
+        super(ERROR_CODE, message, cause);
+    }
+}
@@ -0,0 +1,192 @@
+package com.hoops.common.infrastructure.redis;
+
+import com.hoops.common.schedule.ScheduleInterval;
+import com.hoops.common.schedule.ScheduleOverlapLookup;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 경기 시간 구간 인덱스 (Redis Sorted Set)
+ *
+ * 시작 시각을 score, "matchId:종료 시각"을 member로 저장한다.
+ * 경기는 하루 안에서 시작하고 끝나므로, 새 구간 [start, end)와 겹칠 수 있는 구간은
+ * 시작 시각이 (start - 1일, end) 범위에 있는 구간뿐이다. 이 범위만 ZRANGEBYSCORE로 읽어 O(log n)으로 판단한다.
+ *
+ * 인덱스는 DB 조회 결과로 통째로 로드되며, 변경 시 세대 번호를 올린다.
+ * 로드 직전에 읽은 세대 번호가 그 사이 바뀌었다면 로드를 버려 오래된 DB 조회 결과가 인덱스를 덮어쓰지 않게 한다.
+ * 컨텍스트별 어댑터가 네임스페이스를 달리하여 생성해 사용한다.
+ */
+public class ScheduleIntervalRedisIndex {
+
+    private static final long MAX_INTERVAL_SECONDS = Duration.ofDays(1).toSeconds();
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    /**
+     * KEYS[1]: 인덱스, KEYS[2]: 세대 번호
+     * ARGV[1]: 조회 하한(미포함), ARGV[2]: 새 구간 종료(미포함), ARGV[3]: 새 구간 시작
+     * 반환: {-1, 세대} 인덱스 없음, {0, 0} 겹침 없음, {matchId, 0} 겹치는 후보
+     */
+    private static final RedisScript<List> LOOKUP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {-1, tonumber(redis.call('GET', KEYS[2]) or '0')}
+            end
+            local members = redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. ARGV[1], '(' .. ARGV[2])
+            for _, member in ipairs(members) do
+                local sep = string.find(member, ':', 1, true)
+                if sep and tonumber(string.sub(member, sep + 1)) > tonumber(ARGV[3]) then
+                    return {tonumber(string.sub(member, 1, sep - 1)), 0}
+                end
+            end
+            return {0, 0}
+            """, List.class);
+
+    /**
+     * 세대 번호가 그대로일 때만 인덱스를 교체
+     * 구간이 없는 사용자도 로드 여부를 알 수 있도록 score 0의 '_' member를 함께 넣는다 (어떤 조회 범위에도 포함되지 않음)
+     * KEYS[1]: 인덱스, KEYS[2]: 세대 번호
+     * ARGV[1]: 기대 세대, ARGV[2]: TTL(초), ARGV[3..]: score, member 쌍
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(redis.call('GET', KEYS[2]) or '0') ~= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZADD', KEYS[1], 0, '_')
+            for i = 3, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 세대 번호를 올리고, 인덱스가 로드되어 있을 때만 구간 추가 (부분 인덱스를 만들지 않는다)
+     * KEYS[1]: 인덱스, KEYS[2]: 세대 번호
+     * ARGV[1]: 세대 번호 TTL(초), ARGV[2]: score, ARGV[3]: member
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('ZADD', KEYS[1], ARGV[2], ARGV[3])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 인덱스, KEYS[2]: 세대 번호, ARGV[1]: 세대 번호 TTL(초)
+     */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String namespace;
+    private final long ttlSeconds;
+    private final long generationTtlSeconds;
+
+    public ScheduleIntervalRedisIndex(RedisTemplate<String, String> redisTemplate, String namespace, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.namespace = namespace;
+        this.ttlSeconds = ttl.toSeconds();
+        // 로드 중에 세대 번호가 먼저 만료되지 않도록 인덱스보다 길게 유지
+        this.generationTtlSeconds = ttl.toSeconds() * 2;
+    }
+
+    @SuppressWarnings("unchecked")
+    public ScheduleOverlapLookup findOverlap(Long ownerId, LocalDateTime start, LocalDateTime end) {
+        long startSeconds = toSeconds(start);
+        try {
+            List<Long> result = redisTemplate.execute(LOOKUP_SCRIPT, keys(ownerId),
+                    String.valueOf(startSeconds - MAX_INTERVAL_SECONDS),
+                    String.valueOf(toSeconds(end)),
+                    String.valueOf(startSeconds));
+            if (result == null || result.get(0) < 0) {
+                return ScheduleOverlapLookup.notLoaded(result == null ? 0L : result.get(1));
+            }
+            return result.get(0) == 0 ? ScheduleOverlapLookup.noOverlap() : ScheduleOverlapLookup.overlap(result.get(0));
+        } catch (Exception e) {
+            throw new RedisScheduleIndexException("Failed to look up schedule index: ownerId=" + ownerId, e);
+        }
+    }
+
+    /**
+     * @return 로드했으면 true, 그 사이 변경이 있어 로드를 버렸으면 false
+     */
+    public boolean load(Long ownerId, long generation, List<ScheduleInterval> intervals) {
+        List<String> args = new ArrayList<>(2 + intervals.size() * 2);
+        args.add(String.valueOf(generation));
+        args.add(String.valueOf(ttlSeconds));
+        for (ScheduleInterval interval : intervals) {
+            args.add(String.valueOf(toSeconds(interval.start())));
+            args.add(member(interval));
+        }
+
+        try {
+            Long loaded = redisTemplate.execute(LOAD_SCRIPT, keys(ownerId), args.toArray());
+            return loaded != null && loaded == 1;
+        } catch (Exception e) {
+            throw new RedisScheduleIndexException("Failed to load schedule index: ownerId=" + ownerId, e);
+        }
+    }
+
+    public void add(Long ownerId, ScheduleInterval interval) {
+        try {
+            redisTemplate.execute(ADD_SCRIPT, keys(ownerId),
+                    String.valueOf(generationTtlSeconds),
+                    String.valueOf(toSeconds(interval.start())),
+                    member(interval));
+        } catch (Exception e) {
+            throw new RedisScheduleIndexException("Failed to add schedule interval: ownerId=" + ownerId, e);
+        }
+    }
+
+    public void invalidate(Long ownerId) {
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT, keys(ownerId), String.valueOf(generationTtlSeconds));
+        } catch (Exception e) {
+            throw new RedisScheduleIndexException("Failed to invalidate schedule index: ownerId=" + ownerId, e);
+        }
+    }
+
+    public void clearAll() {
+        ScanOptions options = ScanOptions.scanOptions().match(namespace + ":*").count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>();
+            cursor.forEachRemaining(keys::add);
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (Exception e) {
+            throw new RedisScheduleIndexException("Failed to clear schedule index: namespace=" + namespace, e);
+        }
+    }
+
+    /**
+     * Cluster 환경에서도 두 Key가 같은 슬롯에 있도록 소유자 ID를 Hash Tag로 감싼다
+     */
+    private List<String> keys(Long ownerId) {
+        String indexKey = namespace + ":{" + ownerId + "}";
+        return List.of(indexKey, indexKey + ":gen");
+    }
+
+    private String member(ScheduleInterval interval) {
+        return interval.matchId() + ":" + toSeconds(interval.end());
+    }
+
+    private long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,17 @@
+package com.hoops.common.schedule;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 일정 인덱스에 저장하는 경기 시간 구간 [start, end)
+ */
+public record ScheduleInterval(
+        Long matchId,
+        LocalDateTime start,
+        LocalDateTime end
+) {
+
+    public boolean overlapsWith(LocalDateTime otherStart, LocalDateTime otherEnd) {
+        return start.isBefore(otherEnd) && otherStart.isBefore(end);
+    }
+}
@@ -0,0 +1,31 @@
+package com.hoops.common.schedule;
+
+/**
+ * 사용자 일정 인덱스 겹침 조회 결과
+ *
+ * @param loaded 인덱스가 로드되어 있는지 여부
+ * @param overlappingMatchId 겹치는 후보 경기 ID (없으면 null)
+ * @param generation 인덱스가 없을 때의 세대 번호. DB에서 다시 로드할 때 그 사이 변경이 있었는지 확인하는 데 사용
+ */
+public record ScheduleOverlapLookup(
+        boolean loaded,
+        Long overlappingMatchId,
+        long generation
+) {
+
+    public static ScheduleOverlapLookup notLoaded(long generation) {
+        return new ScheduleOverlapLookup(false, null, generation);
+    }
+
+    public static ScheduleOverlapLookup noOverlap() {
+        return new ScheduleOverlapLookup(true, null, 0L);
+    }
+
+    public static ScheduleOverlapLookup overlap(Long matchId) {
+        return new ScheduleOverlapLookup(true, matchId, 0L);
+    }
+
+    public boolean hasOverlap() {
+        return overlappingMatchId != null;
+    }
+}
@@ -1,23 +1,21 @@
 package com.hoops.common.security;
 
-import com.hoops.auth.application.port.out.JwtTokenPort;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Collections;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
  * JWT Authentication Filter.
  *
  * Validates JWT token on every request and sets authentication info in SecurityContext.
+ * Verified claims are served from {@link JwtClaimsCache} so a repeated token skips signature verification.
+ * The token is read in place from the Authorization header and only the user id is kept,
+ * so an authenticated request allocates little more than a {@link UserIdAuthentication}.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -25,10 +23,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtTokenPort jwtTokenProvider;
+    private final JwtClaimsCache claimsCache;
 
-    public JwtAuthenticationFilter(JwtTokenPort jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    public JwtAuthenticationFilter(JwtClaimsCache claimsCache) {
+        this.claimsCache = claimsCache;
     }
 
     @Override
@@ -37,35 +35,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        String token = extractTokenFromRequest(request);
+        String authorization = request.getHeader(AUTHORIZATION_HEADER);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
-
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            userId,
-                            null,
-                            Collections.emptyList()
-                    );
-
-            authentication.setDetails(
-                    new WebAuthenticationDetailsSource().buildDetails(request)
-            );
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (hasBearerToken(authorization)) {
+            claimsCache.verify(authorization, BEARER_PREFIX.length())
+                    .ifPresent(claims -> SecurityContextHolder.getContext()
+                            .setAuthentication(new UserIdAuthentication(claims.userId())));
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
-
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
-            return bearerToken.substring(BEARER_PREFIX.length());
-        }
-
-        return null;
+    private boolean hasBearerToken(String authorization) {
+        return authorization != null
+                && authorization.length() > BEARER_PREFIX.length()
+                && authorization.startsWith(BEARER_PREFIX);
     }
 }
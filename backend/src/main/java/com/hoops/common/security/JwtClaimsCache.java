@@ -0,0 +1,166 @@
+package com.hoops.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hoops.auth.application.port.out.JwtTokenPort;
+import com.hoops.auth.domain.vo.VerifiedTokenClaims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 검증된 JWT 클레임 캐시 (인스턴스 로컬)
+ *
+ * 같은 Access Token으로 들어오는 요청마다 HMAC 서명 검증과 클레임 파싱을 반복하지 않도록
+ * 검증 결과를 토큰의 SHA-256 해시를 Key로 저장한다. 원본 토큰은 메모리에 남기지 않는다.
+ * 항목은 토큰의 만료 시각(exp)에 함께 만료되므로 만료된 토큰이 캐시로 인증되는 일은 없다.
+ * 검증에 실패한 토큰은 저장하지 않아 잘못된 토큰으로 캐시를 채울 수 없다.
+ *
+ * 캐시 적중 경로에서는 토큰 문자열을 잘라내지 않고 헤더에서 바로 해시하며,
+ * 스레드별로 재사용하는 MessageDigest와 버퍼를 사용하여 Key 객체 외의 할당을 만들지 않는다.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private static final String CACHE_NAME = "jwtClaimsCache";
+    private static final int HASH_LENGTH = 32;
+    private static final char MAX_TOKEN_CHAR = 0x7F;
+
+    private static final ThreadLocal<TokenHasher> HASHER = ThreadLocal.withInitial(TokenHasher::new);
+
+    private final JwtTokenPort jwtTokenProvider;
+    private final boolean enabled;
+    private final Cache<TokenHash, VerifiedTokenClaims> cache;
+
+    public JwtClaimsCache(JwtTokenPort jwtTokenProvider,
+                          JwtClaimsCacheProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = properties.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없으면 토큰을 검증하여 성공한 결과만 저장한다
+     */
+    public Optional<VerifiedTokenClaims> verify(String token) {
+        return verify(token, 0);
+    }
+
+    /**
+     * source의 tokenStart 위치부터 끝까지를 토큰으로 보고 검증한다 (Authorization 헤더에서 바로 읽기 위함)
+     * 토큰 문자열은 캐시에 없을 때만 잘라낸다
+     */
+    public Optional<VerifiedTokenClaims> verify(String source, int tokenStart) {
+        if (!enabled) {
+            return jwtTokenProvider.verifyToken(source.substring(tokenStart));
+        }
+
+        TokenHash key = HASHER.get().hash(source, tokenStart);
+        if (key == null) {
+            // JWT는 Base64URL과 '.'로만 구성되므로 ASCII가 아닌 문자가 있으면 검증할 필요가 없다
+            return Optional.empty();
+        }
+
+        VerifiedTokenClaims cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        String token = source.substring(tokenStart);
+        return Optional.ofNullable(cache.get(key, k -> jwtTokenProvider.verifyToken(token).orElse(null)));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 토큰의 SHA-256 해시 (원본 토큰 대신 Key로 사용)
+     */
+    private record TokenHash(long h0, long h1, long h2, long h3) {
+    }
+
+    /**
+     * 스레드별 SHA-256 계산기
+     * 토큰 문자를 한 바이트씩 넣어 바이트 배열 변환과 부분 문자열 생성을 피한다
+     */
+    private static final class TokenHasher {
+
+        private final MessageDigest digest;
+        private final byte[] buffer = new byte[HASH_LENGTH];
+
+        private TokenHasher() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        /**
+         * @return ASCII가 아닌 문자가 있으면 null
+         */
+        private TokenHash hash(String source, int start) {
+            digest.reset();
+            for (int i = start; i < source.length(); i++) {
+                char c = source.charAt(i);
+                if (c > MAX_TOKEN_CHAR) {
+                    return null;
+                }
+                digest.update((byte) c);
+            }
+
+            try {
+                digest.digest(buffer, 0, HASH_LENGTH);
+            } catch (DigestException e) {
+                throw new IllegalStateException("Failed to hash token", e);
+            }
+            return new TokenHash(readLong(0), readLong(8), readLong(16), readLong(24));
+        }
+
+        private long readLong(int offset) {
+            long value = 0L;
+            for (int i = offset; i < offset + Long.BYTES; i++) {
+                value = (value << 8) | (buffer[i] & 0xFFL);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 항목의 수명을 토큰의 남은 유효 시간으로 정한다 (조회나 갱신으로 연장되지 않음)
+     */
+    private static final class UntilTokenExpiry implements Expiry<TokenHash, VerifiedTokenClaims> {
+
+        @Override
+        public long expireAfterCreate(TokenHash key, VerifiedTokenClaims claims, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), claims.expiresAt());
+            return remaining.isNegative() ? 0L : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenHash key, VerifiedTokenClaims claims, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenHash key, VerifiedTokenClaims claims, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
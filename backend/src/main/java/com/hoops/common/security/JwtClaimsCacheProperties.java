@@ -0,0 +1,24 @@
+package com.hoops.common.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 검증된 JWT 클레임 캐시 설정 프로퍼티
+ */
+@ConfigurationProperties(prefix = "jwt.claims-cache")
+public record JwtClaimsCacheProperties(
+        Boolean enabled,
+        Long maximumSize
+) {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+
+    public JwtClaimsCacheProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (maximumSize == null) {
+            maximumSize = DEFAULT_MAXIMUM_SIZE;
+        }
+    }
+}
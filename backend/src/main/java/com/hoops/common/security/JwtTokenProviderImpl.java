@@ -4,8 +4,10 @@ import com.hoops.auth.application.port.out.JwtTokenPort;
 import com.hoops.auth.application.exception.InvalidRefreshTokenException;
 import com.hoops.auth.application.exception.InvalidTempTokenException;
 import com.hoops.auth.domain.vo.AuthProvider;
+import com.hoops.auth.domain.vo.RefreshTokenClaims;
 import com.hoops.auth.domain.vo.TempTokenClaims;
 import com.hoops.auth.domain.vo.TokenPair;
+import com.hoops.auth.domain.vo.VerifiedTokenClaims;
 import com.hoops.common.exception.InvalidTokenClaimException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -16,6 +18,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import org.springframework.stereotype.Component;
 
@@ -30,6 +34,7 @@ public class JwtTokenProviderImpl implements JwtTokenPort {
     private static final String TOKEN_TYPE_REFRESH = "refresh";
     private static final String TOKEN_TYPE_TEMP = "temp";
     private static final String USER_ID_CLAIM = "userId";
+    private static final String FAMILY_ID_CLAIM = "familyId";
     private static final String PROVIDER_CLAIM = "provider";
     private static final String PROVIDER_ID_CLAIM = "providerId";
     private static final String EMAIL_CLAIM = "email";
@@ -46,9 +51,9 @@ public class JwtTokenProviderImpl implements JwtTokenPort {
     }
 
     @Override
-    public TokenPair createTokens(Long userId) {
+    public TokenPair createTokens(Long userId, String familyId) {
         String accessToken = createAccessToken(userId);
-        String refreshToken = createRefreshToken(userId);
+        String refreshToken = createRefreshToken(userId, familyId);
         return TokenPair.of(accessToken, refreshToken);
     }
 
@@ -110,7 +115,7 @@ public class JwtTokenProviderImpl implements JwtTokenPort {
     }
 
     @Override
-    public TokenPair refreshTokens(String refreshToken) {
+    public RefreshTokenClaims getClaimsFromRefreshToken(String refreshToken) {
         try {
             Claims claims = parseClaimsFromToken(refreshToken);
 
@@ -119,11 +124,12 @@ public class JwtTokenProviderImpl implements JwtTokenPort {
                 throw new InvalidRefreshTokenException("Not a refresh token");
             }
 
-            Long userId = getUserIdFromClaims(claims);
-            return createTokens(userId);
+            // 패밀리 도입 이전에 발급된 토큰은 familyId가 없다 (TokenService가 한 번만 받아 준다)
+            String familyId = claims.get(FAMILY_ID_CLAIM, String.class);
+            return RefreshTokenClaims.of(getUserIdFromClaims(claims), familyId);
         } catch (ExpiredJwtException e) {
             throw new InvalidRefreshTokenException("Refresh token has expired");
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException | InvalidTokenClaimException e) {
             throw new InvalidRefreshTokenException();
         }
     }
@@ -138,6 +144,27 @@ public class JwtTokenProviderImpl implements JwtTokenPort {
         }
     }
 
+    @Override
+    public Optional<VerifiedTokenClaims> verifyToken(String token) {
+        try {
+            Claims claims = parseClaimsFromToken(token);
+            // Refresh/임시 토큰은 요청 인증에 쓸 수 없다 (Refresh Token은 폐기와 재사용 감지를 거쳐야 함)
+            if (!TOKEN_TYPE_ACCESS.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+                return Optional.empty();
+            }
+            // 발급하는 모든 토큰에는 만료 시각이 있으므로, 없는 토큰은 캐시 만료를 정할 수 없어 거부한다
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(VerifiedTokenClaims.of(
+                    getUserIdFromClaims(claims),
+                    claims.getExpiration().toInstant()
+            ));
+        } catch (JwtException | IllegalArgumentException | InvalidTokenClaimException e) {
+            return Optional.empty();
+        }
+    }
+
     private String createAccessToken(Long userId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + jwtProperties.accessTokenExpiry());
@@ -151,13 +178,18 @@ public class JwtTokenProviderImpl implements JwtTokenPort {
                 .compact();
     }
 
-    private String createRefreshToken(Long userId) {
+    /**
+     * 같은 초에 같은 사용자로 발급해도 토큰이 달라지도록 고유 ID(jti)를 넣는다 (토큰 저장소의 Key가 토큰 해시이므로)
+     */
+    private String createRefreshToken(Long userId, String familyId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + jwtProperties.refreshTokenExpiry());
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .claim(USER_ID_CLAIM, userId)
                 .claim(TOKEN_TYPE_CLAIM, TOKEN_TYPE_REFRESH)
+                .claim(FAMILY_ID_CLAIM, familyId)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(secretKey)
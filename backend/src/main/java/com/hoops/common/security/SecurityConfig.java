@@ -1,11 +1,15 @@
 package com.hoops.common.security;
 
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -15,6 +19,11 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -24,7 +33,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
  */
 @Configuration
 @EnableWebSecurity
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, JwtClaimsCacheProperties.class})
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
@@ -36,7 +45,35 @@ public class SecurityConfig {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
+    /**
+     * 인증 정보 없이 들어온 공개 조회 요청용 최소 체인
+     *
+     * 아래 securityFilterChain에서 permitAll인 GET 엔드포인트 중 Authorization 헤더가 없는 요청만 받는다.
+     * 공개 조회 엔드포인트는 사용자 ID를 사용하지 않으므로 JWT 검증, 익명 인증, 인가,
+     * 예외 변환, 요청 캐시, 로그아웃 필터를 거치지 않고 CORS와 보안 헤더만 적용한다.
+     * 헤더가 있는 요청은 기존처럼 securityFilterChain에서 인증된다.
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain anonymousPublicReadFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(anonymousPublicReads())
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .anonymous(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .servletApi(AbstractHttpConfigurer::disable)
+                .exceptionHandling(AbstractHttpConfigurer::disable);
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -45,13 +82,17 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(authorize -> authorize
+                        // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인가되었다
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Swagger UI
                         .requestMatchers("/swagger-ui/**").permitAll()
                         .requestMatchers("/swagger-ui.html").permitAll()
                         .requestMatchers("/v3/api-docs/**").permitAll()
                         .requestMatchers("/swagger-resources/**").permitAll()
 
-                        // 인증 없이 접근 가능한 엔드포인트
+                        // 인증 없이 접근 가능한 엔드포인트 (모든 기기 로그아웃은 인증 필요)
+                        .requestMatchers(HttpMethod.POST, "/api/auth/logout-all").authenticated()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/health").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
@@ -78,6 +119,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * JwtAuthenticationFilter는 Security 체인 안에서만 실행한다 (서블릿 필터로 중복 등록하지 않음)
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration =
+                new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -92,4 +144,36 @@ public class SecurityConfig {
         source.registerCorsConfiguration("/**", configuration);
         return source;
     }
+
+    /**
+     * Authorization 헤더 없이 들어온 공개 GET 요청
+     * securityFilterChain의 permitAll GET 규칙과 같은 범위이며, 그 안의 인증 필요 경로는 제외한다
+     */
+    private static RequestMatcher anonymousPublicReads() {
+        RequestMatcher publicReads = new OrRequestMatcher(
+                get("/swagger-ui/**"),
+                get("/swagger-ui.html"),
+                get("/v3/api-docs/**"),
+                get("/swagger-resources/**"),
+                get("/api/health"),
+                get("/actuator/**"),
+                get("/api/matches/**"),
+                get("/api/locations/**"),
+                get("/api/users/*")
+        );
+        RequestMatcher authenticatedReads = new OrRequestMatcher(
+                get("/api/matches/hosted"),
+                get("/api/users/me")
+        );
+
+        return new AndRequestMatcher(
+                request -> request.getHeader(HttpHeaders.AUTHORIZATION) == null,
+                publicReads,
+                new NegatedRequestMatcher(authenticatedReads)
+        );
+    }
+
+    private static RequestMatcher get(String pattern) {
+        return new AntPathRequestMatcher(pattern, HttpMethod.GET.name());
+    }
 }
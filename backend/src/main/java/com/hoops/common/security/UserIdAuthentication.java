@@ -0,0 +1,85 @@
+package com.hoops.common.security;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * JWT로 인증된 사용자의 Authentication
+ *
+ * 컨트롤러는 principal(사용자 ID)만 사용하므로 권한 목록, 자격 증명, 요청 상세(세션 ID, 원격 주소)를 담지 않는다.
+ * 요청마다 만드는 객체를 사용자 ID 하나로 줄이기 위해 UsernamePasswordAuthenticationToken 대신 사용한다.
+ */
+public final class UserIdAuthentication implements Authentication {
+
+    private final Long userId;
+    private boolean authenticated = true;
+
+    public UserIdAuthentication(Long userId) {
+        this.userId = Objects.requireNonNull(userId);
+    }
+
+    @Override
+    public Long getPrincipal() {
+        return userId;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    /**
+     * 인증 해제만 허용한다 (인증 상태로 되돌릴 수 없음)
+     */
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (isAuthenticated) {
+            throw new IllegalArgumentException("Cannot mark a user id authentication as trusted");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserIdAuthentication that)) {
+            return false;
+        }
+        return authenticated == that.authenticated && userId.equals(that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, authenticated);
+    }
+
+    @Override
+    public String toString() {
+        return "UserIdAuthentication[userId=" + userId + ", authenticated=" + authenticated + "]";
+    }
+}
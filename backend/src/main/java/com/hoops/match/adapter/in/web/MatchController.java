@@ -6,6 +6,7 @@ import com.hoops.match.adapter.in.web.dto.MatchListResponse;
 import com.hoops.match.adapter.in.web.dto.MatchResponse;
 import com.hoops.match.adapter.in.web.dto.UpdateMatchRequest;
 import com.hoops.match.application.dto.MatchLocationQueryResult;
+import com.hoops.match.application.dto.MatchSummaryQueryResult;
 import com.hoops.match.application.port.in.CancelMatchCommand;
 import com.hoops.match.application.port.in.CancelMatchUseCase;
 import com.hoops.match.application.port.in.CreateMatchUseCase;
@@ -14,8 +15,11 @@ import com.hoops.match.application.port.in.ReactivateMatchCommand;
 import com.hoops.match.application.port.in.ReactivateMatchUseCase;
 import com.hoops.match.application.port.in.UpdateMatchUseCase;
 import com.hoops.match.domain.model.Match;
+import com.hoops.match.domain.vo.MatchListView;
+import com.hoops.match.domain.vo.MatchSearchCursor;
 import com.hoops.match.domain.vo.MatchSortType;
 import com.hoops.match.domain.vo.MatchStatus;
+import com.hoops.match.domain.vo.MatchViewport;
 import com.hoops.match.domain.vo.SearchDistance;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -84,13 +88,30 @@ public class MatchController {
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "경기 상태 필터", example = "PENDING") @RequestParam(required = false) MatchStatus status,
-            @Parameter(description = "정렬 방식 (DISTANCE, URGENCY)", example = "DISTANCE") @RequestParam(defaultValue = "DISTANCE") String sort) {
+            @Parameter(description = "정렬 방식 (DISTANCE, URGENCY)", example = "DISTANCE") @RequestParam(defaultValue = "DISTANCE") String sort,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, DISTANCE 정렬에서만 사용하며 지정 시 page는 무시)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "응답 방식 (SUMMARY: 상세 설명 제외, DETAIL)", example = "DETAIL") @RequestParam(defaultValue = "DETAIL") String view) {
         Double radiusKm = null;
         if (distance != null) {
             SearchDistance searchDistance = SearchDistance.from(distance);
             radiusKm = (double) searchDistance.getKm();
         }
         MatchSortType sortType = MatchSortType.from(sort);
+        MatchSearchCursor searchCursor = cursor != null ? MatchSearchCursor.decode(cursor) : null;
+        MatchListView listView = MatchListView.from(view);
+
+        if (listView == MatchListView.SUMMARY) {
+            MatchSummaryQueryResult summaryResult = matchQueryUseCase.getMatchSummariesByLocation(
+                    latitude, longitude, radiusKm, page, size, status, sortType, searchCursor);
+
+            List<MatchResponse> items = summaryResult.matches().stream()
+                    .map(swd -> MatchResponse.of(swd.summary(), swd.distanceKm()))
+                    .toList();
+            String nextCursor = summaryResult.nextCursor() != null ? summaryResult.nextCursor().encode() : null;
+
+            return ResponseEntity.ok(new MatchListResponse(
+                    items, summaryResult.totalCount(), summaryResult.hasMore(), nextCursor));
+        }
 
         MatchLocationQueryResult result = matchQueryUseCase.getMatchesByLocation(
                 latitude,
@@ -99,14 +120,40 @@ public class MatchController {
                 page,
                 size,
                 status,
-                sortType
+                sortType,
+                searchCursor
         );
 
         List<MatchResponse> items = result.matches().stream()
                 .map(mwd -> MatchResponse.of(mwd.match(), mwd.distanceKm()))
                 .toList();
 
-        return ResponseEntity.ok(new MatchListResponse(items, result.totalCount(), result.hasMore()));
+        String nextCursor = result.nextCursor() != null ? result.nextCursor().encode() : null;
+
+        return ResponseEntity.ok(new MatchListResponse(items, result.totalCount(), result.hasMore(), nextCursor));
+    }
+
+    @Operation(summary = "지도 영역 경기 목록 조회", description = "지도 화면의 남서쪽 ~ 북동쪽 좌표 영역 내의 경기 목록을 조회합니다. 정렬 순서는 보장되지 않으며 거리는 영역 중심 기준입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 영역 좌표 또는 조회 개수")
+    })
+    @GetMapping("/viewport")
+    public ResponseEntity<MatchListResponse> getMatchesInViewport(
+            @Parameter(description = "남쪽 위도", example = "37.54") @RequestParam BigDecimal minLatitude,
+            @Parameter(description = "서쪽 경도", example = "126.95") @RequestParam BigDecimal minLongitude,
+            @Parameter(description = "북쪽 위도", example = "37.59") @RequestParam BigDecimal maxLatitude,
+            @Parameter(description = "동쪽 경도", example = "127.01") @RequestParam BigDecimal maxLongitude,
+            @Parameter(description = "최대 조회 개수 (1 이상, 최대 300)", example = "100") @RequestParam(defaultValue = "100") int size) {
+        MatchViewport viewport = new MatchViewport(minLatitude, minLongitude, maxLatitude, maxLongitude);
+
+        MatchLocationQueryResult result = matchQueryUseCase.getMatchesInViewport(viewport, size);
+
+        List<MatchResponse> items = result.matches().stream()
+                .map(mwd -> MatchResponse.of(mwd.match(), mwd.distanceKm()))
+                .toList();
+
+        return ResponseEntity.ok(new MatchListResponse(items, result.totalCount(), result.hasMore(), null));
     }
 
     @Operation(summary = "경기 수정", description = "경기 정보를 수정합니다. 호스트만 수정 가능합니다.")
@@ -5,5 +5,6 @@ import java.util.List;
 public record MatchListResponse(
         List<MatchResponse> items,
         int totalCount,
-        boolean hasMore
+        boolean hasMore,
+        String nextCursor
 ) {}
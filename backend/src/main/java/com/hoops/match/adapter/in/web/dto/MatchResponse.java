@@ -1,5 +1,6 @@
 package com.hoops.match.adapter.in.web.dto;
 
+import com.hoops.match.application.dto.MatchSummary;
 import com.hoops.match.domain.model.Match;
 import java.math.BigDecimal;
 
@@ -66,4 +67,29 @@ public record MatchResponse(
                 distanceKm
         );
     }
+
+    /**
+     * 목록 요약 응답 (description 제외)
+     */
+    public static MatchResponse of(MatchSummary summary, Double distanceKm) {
+        return new MatchResponse(
+                summary.id(),
+                summary.hostId(),
+                summary.hostNickname(),
+                summary.title(),
+                null,
+                summary.latitude(),
+                summary.longitude(),
+                summary.address(),
+                summary.matchDate().toString(),
+                summary.startTime().toString(),
+                summary.endTime().toString(),
+                summary.maxParticipants(),
+                summary.currentParticipants(),
+                summary.status().name(),
+                summary.remainingSlots(),
+                summary.recruitmentStatus().name(),
+                distanceKm
+        );
+    }
 }
@@ -1,13 +1,24 @@
 package com.hoops.match.adapter.out;
 
+import com.hoops.common.event.MatchFullEvent;
+import com.hoops.match.application.dto.MatchSummary;
+import com.hoops.match.application.event.MatchRecruitmentChangedEvent;
+import com.hoops.match.application.event.MatchSlotReleasedEvent;
+import com.hoops.match.application.event.MatchSlotReservedEvent;
 import com.hoops.match.application.exception.MatchFullException;
 import com.hoops.match.application.exception.MatchNotFoundException;
+import com.hoops.match.application.exception.MatchNotRecruitingException;
 import com.hoops.match.application.port.out.MatchParticipationPort;
 import com.hoops.match.application.port.out.MatchRepositoryPort;
+import com.hoops.match.application.port.out.MatchSlotReservationPort;
+import com.hoops.match.application.port.out.MatchSlotReservationPort.ReservationResult;
 import com.hoops.match.domain.model.Match;
+import com.hoops.match.domain.vo.MatchStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,12 +27,20 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * MatchParticipationPort를 구현하여 외부 컨텍스트(Participation 등)에
  * 경기 참가 관련 기능을 제공합니다.
+ *
+ * 참가자 추가 시 Redis 카운터에서 자리를 먼저 예약하여,
+ * 정원이 찬 매치에 대한 요청은 DB까지 가지 않고 바로 거절합니다.
+ * 참가자 수는 조건부 UPDATE 한 번으로 변경하므로 매치 행을 미리 잠그지 않습니다.
  */
 @Component
 @RequiredArgsConstructor
 public class MatchParticipationAdapter implements MatchParticipationPort {
 
+    private static final List<MatchStatus> RECRUITING_STATUSES = List.of(MatchStatus.PENDING, MatchStatus.CONFIRMED);
+
     private final MatchRepositoryPort matchRepository;
+    private final MatchSlotReservationPort slotReservation;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Optional<MatchParticipationData> findMatchForParticipation(Long matchId) {
@@ -53,24 +72,75 @@ public class MatchParticipationAdapter implements MatchParticipationPort {
     @Override
     @Transactional(timeout = 5)
     public void addParticipant(Long matchId) {
-        Match match = matchRepository.findByIdWithLock(matchId)
-                .orElseThrow(() -> new MatchNotFoundException(matchId));
+        reserveSlot(matchId);
 
-        if (match.isFull()) {
+        if (!matchRepository.tryIncrementParticipants(matchId)) {
+            // 매치가 없으면 MatchNotFoundException, 모집 중이 아니면 상태 오류, 그 외에는 정원 초과
+            MatchSummary current = findSummary(matchId);
+            // 카운터가 DB보다 많은 자리를 가리키고 있으므로 삭제하여 다음 요청에서 DB 기준으로 다시 로드
+            slotReservation.evict(matchId);
+            if (!RECRUITING_STATUSES.contains(current.status())) {
+                throw new MatchNotRecruitingException(matchId, current.status());
+            }
             throw new MatchFullException(matchId);
         }
 
-        match.addParticipant();
-        matchRepository.save(match);
+        MatchSummary summary = findSummary(matchId);
+        publishRecruitmentChanged(summary);
+        // 조건부 UPDATE가 마지막 자리를 채운 요청에서만 FULL로 바뀌므로 한 번만 발행된다
+        if (summary.status() == MatchStatus.FULL) {
+            eventPublisher.publishEvent(new MatchFullEvent(summary.id(), summary.hostId(),
+                    summary.title(), LocalDateTime.now()));
+        }
     }
 
     @Override
     @Transactional
     public void removeParticipant(Long matchId) {
-        Match match = matchRepository.findById(matchId)
+        if (!matchRepository.decrementParticipants(matchId)) {
+            // 참가자가 없는 매치는 변경할 것이 없다 (매치가 없으면 예외)
+            findSummary(matchId);
+            return;
+        }
+
+        publishRecruitmentChanged(findSummary(matchId));
+        eventPublisher.publishEvent(new MatchSlotReleasedEvent(matchId));
+    }
+
+    /**
+     * Redis 카운터에서 자리를 하나 예약
+     * 카운터가 없으면 DB의 남은 자리로 초기화한 뒤 다시 시도하며,
+     * 예약 후 트랜잭션이 롤백되면 MatchSlotReservedEvent 리스너가 자리를 반환한다
+     */
+    private void reserveSlot(Long matchId) {
+        ReservationResult result = slotReservation.tryReserve(matchId);
+        if (result == ReservationResult.NOT_LOADED) {
+            Match match = matchRepository.findById(matchId)
+                    .orElseThrow(() -> new MatchNotFoundException(matchId));
+            slotReservation.loadIfAbsent(matchId, match.getRemainingSlots());
+            result = slotReservation.tryReserve(matchId);
+        }
+
+        if (result == ReservationResult.REJECTED) {
+            throw new MatchFullException(matchId);
+        }
+        // 재시도 사이에 카운터가 삭제되었다면(NOT_LOADED) 예약 없이 DB 조건부 UPDATE로 판단한다
+        if (result == ReservationResult.RESERVED) {
+            eventPublisher.publishEvent(new MatchSlotReservedEvent(matchId));
+        }
+    }
+
+    /**
+     * 조건부 UPDATE 이후의 참가자 수/상태를 DB에서 다시 읽는다 (영속성 컨텍스트를 거치지 않는 Projection)
+     */
+    private MatchSummary findSummary(Long matchId) {
+        return matchRepository.findSummariesByIds(List.of(matchId)).stream()
+                .findFirst()
                 .orElseThrow(() -> new MatchNotFoundException(matchId));
+    }
 
-        match.removeParticipant();
-        matchRepository.save(match);
+    private void publishRecruitmentChanged(MatchSummary summary) {
+        eventPublisher.publishEvent(new MatchRecruitmentChangedEvent(
+                summary.id(), summary.status(), summary.remainingSlots()));
     }
 }
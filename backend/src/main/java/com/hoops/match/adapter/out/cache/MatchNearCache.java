@@ -0,0 +1,101 @@
+package com.hoops.match.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hoops.match.domain.model.Match;
+import com.hoops.match.infrastructure.config.MatchNearCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 검색 결과 조회용 매치 스냅샷 Near Cache (인스턴스 로컬)
+ * 크기와 TTL로 만료되며, 변경 이벤트와 Redis Pub/Sub으로 인스턴스 간 무효화된다
+ * 도메인 객체는 변경 가능하므로 저장/조회 시 모두 복사본을 사용한다
+ *
+ * 무효화마다 ID별 세대(스트라이프 카운터)를 올리고, DB 조회 전에 읽은 세대가 그대로일 때만 캐시에 넣는다
+ * 조회 도중 무효화된 매치의 이전 스냅샷이 다시 캐시되는 것을 막기 위함이다
+ */
+@Component
+public class MatchNearCache {
+
+    private static final String CACHE_NAME = "matchNearCache";
+    private static final int GENERATION_STRIPES = 4096;
+
+    private final Cache<Long, Match> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public MatchNearCache(MatchNearCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 있는 매치만 반환 (없는 ID는 결과에서 제외)
+     */
+    public Map<Long, Match> getAllPresent(Collection<Long> matchIds) {
+        Map<Long, Match> present = new HashMap<>();
+        cache.getAllPresent(matchIds).forEach((id, match) -> present.put(id, snapshot(match)));
+        return present;
+    }
+
+    /**
+     * DB 조회 직전의 무효화 세대 (조회 결과와 함께 putAll에 전달)
+     */
+    public Map<Long, Long> generations(Collection<Long> matchIds) {
+        Map<Long, Long> captured = new HashMap<>();
+        for (Long matchId : matchIds) {
+            captured.put(matchId, generations.get(stripe(matchId)));
+        }
+        return captured;
+    }
+
+    /**
+     * 조회 이후 무효화되지 않은 매치만 저장
+     * 세대 확인과 저장을 같은 키의 compute 안에서 수행해 invalidate와 교차하지 않는다
+     */
+    public void putAll(List<Match> matches, Map<Long, Long> capturedGenerations) {
+        for (Match match : matches) {
+            Long captured = capturedGenerations.get(match.getId());
+            if (captured == null) {
+                continue;
+            }
+            cache.asMap().compute(match.getId(), (id, current) ->
+                    generations.get(stripe(id)) == captured ? snapshot(match) : current);
+        }
+    }
+
+    public void invalidate(Long matchId) {
+        generations.incrementAndGet(stripe(matchId));
+        cache.invalidate(matchId);
+    }
+
+    public void invalidateAll() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+    }
+
+    private int stripe(Long matchId) {
+        return Long.hashCode(matchId) & (GENERATION_STRIPES - 1);
+    }
+
+    private Match snapshot(Match match) {
+        return Match.reconstitute(match.getId(), match.getVersion(), match.getHostId(), match.getHostNickname(),
+                match.getTitle(), match.getDescription(), match.getLatitude(), match.getLongitude(),
+                match.getAddress(), match.getMatchDate(), match.getStartTime(), match.getEndTime(),
+                match.getMaxParticipants(), match.getCurrentParticipants(), match.getStatus(),
+                match.getCancelledAt());
+    }
+}
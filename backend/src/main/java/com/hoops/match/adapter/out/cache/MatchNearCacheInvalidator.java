@@ -0,0 +1,93 @@
+package com.hoops.match.adapter.out.cache;
+
+import com.hoops.match.application.event.MatchCreatedEvent;
+import com.hoops.match.application.event.MatchRecruitmentChangedEvent;
+import com.hoops.match.application.event.MatchRemovedFromGeoIndexEvent;
+import com.hoops.match.application.event.MatchUpdatedEvent;
+import com.hoops.match.application.event.MatchesStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+/**
+ * 매치 변경 이벤트를 받아 Near Cache를 무효화
+ * 트랜잭션 커밋 후 로컬 캐시를 비우고, Redis Pub/Sub으로 다른 인스턴스에도 전파한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchNearCacheInvalidator implements MessageListener {
+
+    public static final String CHANNEL = "matches:near-cache:invalidate";
+
+    private final MatchNearCache matchNearCache;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchCreated(MatchCreatedEvent event) {
+        invalidate(event.matchId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchRemovedFromGeoIndex(MatchRemovedFromGeoIndexEvent event) {
+        invalidate(event.matchId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchRecruitmentChanged(MatchRecruitmentChangedEvent event) {
+        invalidate(event.matchId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchUpdated(MatchUpdatedEvent event) {
+        invalidate(event.matchId());
+    }
+
+    /**
+     * 일괄 변경은 매치 ID를 쉼표로 이어 메시지 하나로 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchesStatusChanged(MatchesStatusChangedEvent event) {
+        event.matchIds().forEach(matchNearCache::invalidate);
+        publish(event.matchIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",")));
+    }
+
+    /**
+     * 다른 인스턴스(자기 자신 포함)가 발행한 무효화 메시지 수신 (매치 ID 하나 또는 쉼표로 구분된 목록)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            for (String matchId : body.split(",")) {
+                matchNearCache.invalidate(Long.parseLong(matchId.trim()));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed near cache invalidation message: {}", body);
+        }
+    }
+
+    private void invalidate(Long matchId) {
+        matchNearCache.invalidate(matchId);
+        publish(String.valueOf(matchId));
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 인스턴스의 캐시는 TTL로 만료된다
+            log.warn("Failed to publish near cache invalidation: matchIds={}", message, e);
+        }
+    }
+}
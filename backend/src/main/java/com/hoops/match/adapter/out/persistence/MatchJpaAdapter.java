@@ -1,15 +1,20 @@
 package com.hoops.match.adapter.out.persistence;
 
+import com.hoops.match.adapter.out.cache.MatchNearCache;
+import com.hoops.match.application.dto.MatchSummary;
 import com.hoops.match.application.port.out.MatchRepositoryPort;
 import com.hoops.match.domain.model.Match;
 import com.hoops.match.domain.vo.MatchStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
@@ -17,11 +22,14 @@ import java.util.Optional;
 public class MatchJpaAdapter implements MatchRepositoryPort {
 
     private final SpringDataMatchRepository springDataMatchRepository;
+    private final MatchNearCache matchNearCache;
 
     @Override
     public Match save(Match match) {
         MatchJpaEntity entity = MatchMapper.toEntity(match);
         MatchJpaEntity savedEntity = springDataMatchRepository.save(entity);
+        // 커밋 전 스냅샷이 다시 채워질 수 있으므로 커밋 후 이벤트에서 한 번 더 무효화한다
+        matchNearCache.invalidate(savedEntity.getId());
         return MatchMapper.toDomain(savedEntity);
     }
 
@@ -31,8 +39,21 @@ public class MatchJpaAdapter implements MatchRepositoryPort {
     }
 
     @Override
-    public Optional<Match> findByIdWithLock(Long id) {
-        return springDataMatchRepository.findByIdWithLock(id).map(MatchMapper::toDomain);
+    public boolean tryIncrementParticipants(Long matchId) {
+        boolean updated = springDataMatchRepository.incrementParticipantsIfAvailable(matchId) > 0;
+        if (updated) {
+            matchNearCache.invalidate(matchId);
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean decrementParticipants(Long matchId) {
+        boolean updated = springDataMatchRepository.decrementParticipantsIfPresent(matchId) > 0;
+        if (updated) {
+            matchNearCache.invalidate(matchId);
+        }
+        return updated;
     }
 
     @Override
@@ -49,17 +70,23 @@ public class MatchJpaAdapter implements MatchRepositoryPort {
     }
 
     @Override
-    public List<Match> findMatchesToStart(LocalDate date, LocalTime time, List<MatchStatus> statuses) {
-        return springDataMatchRepository.findMatchesToStart(date, time, statuses).stream()
-                .map(MatchMapper::toDomain)
-                .toList();
+    public List<Long> findMatchIdsToStart(LocalDate date, LocalTime time, List<MatchStatus> statuses) {
+        return springDataMatchRepository.findMatchIdsToStart(date, time, statuses);
     }
 
     @Override
-    public List<Match> findMatchesToEnd(LocalDate date, LocalTime time, MatchStatus status) {
-        return springDataMatchRepository.findMatchesToEnd(date, time, status).stream()
-                .map(MatchMapper::toDomain)
-                .toList();
+    public List<Long> findMatchIdsToEnd(LocalDate date, LocalTime time, MatchStatus status) {
+        return springDataMatchRepository.findMatchIdsToEnd(date, time, status);
+    }
+
+    @Override
+    public int updateStatus(List<Long> matchIds, List<MatchStatus> fromStatuses, MatchStatus toStatus) {
+        if (matchIds.isEmpty()) {
+            return 0;
+        }
+        int updated = springDataMatchRepository.updateStatusByIds(matchIds, fromStatuses, toStatus);
+        matchIds.forEach(matchNearCache::invalidate);
+        return updated;
     }
 
     @Override
@@ -87,14 +114,47 @@ public class MatchJpaAdapter implements MatchRepositoryPort {
     }
 
     @Override
-    public List<Match> findAllSearchableMatches() {
-        return springDataMatchRepository.findAllSearchableMatches().stream()
-                .map(MatchMapper::toDomain)
+    public List<Match> findAllByIdsCached(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Match> found = matchNearCache.getAllPresent(ids);
+
+        List<Long> missingIds = ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .distinct()
+                .toList();
+        if (!missingIds.isEmpty()) {
+            Map<Long, Long> generations = matchNearCache.generations(missingIds);
+            List<Match> loaded = springDataMatchRepository.findAllById(missingIds).stream()
+                    .map(MatchMapper::toDomain)
+                    .toList();
+            matchNearCache.putAll(loaded, generations);
+            loaded.forEach(match -> found.put(match.getId(), match));
+        }
+
+        return ids.stream()
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
     @Override
-    public List<Long> findSearchableMatchIds() {
-        return springDataMatchRepository.findSearchableMatchIds();
+    public List<MatchSummary> findSummariesByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return springDataMatchRepository.findSummariesByIds(ids);
+    }
+
+    @Override
+    public List<MatchSummary> findIndexableSummariesAfter(Long lastId, int limit) {
+        return springDataMatchRepository.findIndexableSummariesAfter(lastId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Long> findIndexableMatchIdsAfter(Long lastId, int limit) {
+        return springDataMatchRepository.findIndexableMatchIdsAfter(lastId, PageRequest.of(0, limit));
     }
 }
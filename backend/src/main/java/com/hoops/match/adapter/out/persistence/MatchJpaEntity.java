@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import java.math.BigDecimal;
@@ -17,7 +18,11 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "matches")
+@Table(name = "matches", indexes = {
+        @Index(name = "idx_match_status_date_start", columnList = "status, match_date, start_time"),
+        @Index(name = "idx_match_status_date_end", columnList = "status, match_date, end_time"),
+        @Index(name = "idx_match_host_status", columnList = "host_id, status")
+})
 public class MatchJpaEntity extends BaseTimeEntity {
 
     @Id
@@ -1,27 +1,49 @@
 package com.hoops.match.adapter.out.persistence;
 
+import com.hoops.match.application.dto.MatchSummary;
 import com.hoops.match.domain.vo.MatchStatus;
 
-import jakarta.persistence.LockModeType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
-import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface SpringDataMatchRepository extends JpaRepository<MatchJpaEntity, Long> {
 
     /**
-     * 비관적 락을 사용하여 경기 조회
-     * 참가자 수 변경 시 Race Condition 방지용
+     * 모집 중(PENDING, CONFIRMED)이고 남은 자리가 있을 때만 참가자 수를 1 증가시키고, 정원에 도달하면 FULL로 변경
+     * 행 락을 미리 잡지 않고 UPDATE 한 번으로 확인과 증가를 처리하며, 영향받은 행 수로 성공 여부를 알린다
+     * 참가 검증 이후 취소되거나 시작된 매치는 상태 조건에서 걸러지므로 참가자가 추가되거나 FULL로 되살아나지 않는다
+     * 상태를 먼저 대입하여 MySQL(좌→우 평가)과 표준 SQL 모두 증가 전 값으로 계산한다
+     * 다른 수정과의 낙관적 락 충돌을 감지할 수 있도록 version도 함께 올린다
      */
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT m FROM MatchJpaEntity m WHERE m.id = :matchId")
-    Optional<MatchJpaEntity> findByIdWithLock(@Param("matchId") Long matchId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MatchJpaEntity m SET " +
+            "m.status = CASE WHEN m.currentParticipants + 1 >= m.maxParticipants " +
+            "THEN com.hoops.match.domain.vo.MatchStatus.FULL ELSE m.status END, " +
+            "m.currentParticipants = m.currentParticipants + 1, " +
+            "m.version = m.version + 1 " +
+            "WHERE m.id = :matchId AND m.currentParticipants < m.maxParticipants " +
+            "AND m.status IN (com.hoops.match.domain.vo.MatchStatus.PENDING, " +
+            "com.hoops.match.domain.vo.MatchStatus.CONFIRMED)")
+    int incrementParticipantsIfAvailable(@Param("matchId") Long matchId);
+
+    /**
+     * 참가자가 있을 때만 참가자 수를 1 감소시키고, FULL이었다면 PENDING으로 되돌림
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MatchJpaEntity m SET " +
+            "m.status = CASE WHEN m.status = com.hoops.match.domain.vo.MatchStatus.FULL " +
+            "THEN com.hoops.match.domain.vo.MatchStatus.PENDING ELSE m.status END, " +
+            "m.currentParticipants = m.currentParticipants - 1, " +
+            "m.version = m.version + 1 " +
+            "WHERE m.id = :matchId AND m.currentParticipants > 0")
+    int decrementParticipantsIfPresent(@Param("matchId") Long matchId);
 
     /**
      * Bounding Box + ST_Distance_Sphere를 활용한 위치 기반 경기 검색
@@ -63,20 +85,35 @@ public interface SpringDataMatchRepository extends JpaRepository<MatchJpaEntity,
             @Param("limit") int limit,
             @Param("offset") int offset);
 
-@Query("SELECT m FROM MatchJpaEntity m WHERE m.status IN :statuses " +
+    /**
+     * 시작 시간이 지난 매치 ID 조회 (엔티티를 읽지 않고 ID만 가져와 상태 일괄 변경에 사용)
+     */
+    @Query("SELECT m.id FROM MatchJpaEntity m WHERE m.status IN :statuses " +
             "AND (m.matchDate < :date OR (m.matchDate = :date AND m.startTime <= :time))")
-    List<MatchJpaEntity> findMatchesToStart(
+    List<Long> findMatchIdsToStart(
             @Param("date") LocalDate date,
             @Param("time") LocalTime time,
             @Param("statuses") List<MatchStatus> statuses);
 
-    @Query("SELECT m FROM MatchJpaEntity m WHERE m.status = :status " +
+    @Query("SELECT m.id FROM MatchJpaEntity m WHERE m.status = :status " +
             "AND (m.matchDate < :date OR (m.matchDate = :date AND m.endTime <= :time))")
-    List<MatchJpaEntity> findMatchesToEnd(
+    List<Long> findMatchIdsToEnd(
             @Param("date") LocalDate date,
             @Param("time") LocalTime time,
             @Param("status") MatchStatus status);
 
+    /**
+     * 지정한 매치 중 아직 fromStatuses 상태인 매치만 toStatus로 일괄 변경
+     * ID 조회 이후 취소 등으로 상태가 바뀐 매치는 조건에서 걸러진다
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MatchJpaEntity m SET m.status = :toStatus, m.version = m.version + 1 " +
+            "WHERE m.id IN :ids AND m.status IN :fromStatuses")
+    int updateStatusByIds(
+            @Param("ids") List<Long> ids,
+            @Param("fromStatuses") List<MatchStatus> fromStatuses,
+            @Param("toStatus") MatchStatus toStatus);
+
     @Query("SELECT m FROM MatchJpaEntity m WHERE m.hostId = :hostId ORDER BY m.matchDate DESC, m.startTime DESC")
     List<MatchJpaEntity> findByHostIdOrderByMatchDateDesc(@Param("hostId") Long hostId);
 
@@ -84,9 +121,29 @@ public interface SpringDataMatchRepository extends JpaRepository<MatchJpaEntity,
             "AND m.status NOT IN ('CANCELLED', 'ENDED')")
     List<MatchJpaEntity> findActiveMatchesByHostId(@Param("hostId") Long hostId);
 
-    @Query("SELECT m FROM MatchJpaEntity m WHERE m.status IN ('PENDING', 'CONFIRMED')")
-    List<MatchJpaEntity> findAllSearchableMatches();
+    /**
+     * 목록 조회용 요약 Projection
+     * 생성자 표현식 결과는 영속성 컨텍스트에 등록되지 않아 스냅샷/Dirty Checking 비용이 없고,
+     * TEXT 컬럼인 description을 읽지 않는다
+     */
+    @Query("SELECT new com.hoops.match.application.dto.MatchSummary(" +
+            "m.id, m.hostId, m.hostNickname, m.title, m.latitude, m.longitude, m.address, " +
+            "m.matchDate, m.startTime, m.endTime, m.maxParticipants, m.currentParticipants, m.status) " +
+            "FROM MatchJpaEntity m WHERE m.id IN :ids")
+    List<MatchSummary> findSummariesByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * Geo Index 대상 매치 요약을 ID 순서로 lastId 이후부터 조회 (Keyset 페이지네이션)
+     * PK 범위 조회이므로 몇 번째 청크든 앞 청크를 다시 읽지 않는다
+     */
+    @Query("SELECT new com.hoops.match.application.dto.MatchSummary(" +
+            "m.id, m.hostId, m.hostNickname, m.title, m.latitude, m.longitude, m.address, " +
+            "m.matchDate, m.startTime, m.endTime, m.maxParticipants, m.currentParticipants, m.status) " +
+            "FROM MatchJpaEntity m WHERE m.id > :lastId AND m.status IN ('PENDING', 'CONFIRMED', 'FULL') " +
+            "ORDER BY m.id")
+    List<MatchSummary> findIndexableSummariesAfter(@Param("lastId") Long lastId, Pageable pageable);
 
-    @Query("SELECT m.id FROM MatchJpaEntity m WHERE m.status IN ('PENDING', 'CONFIRMED')")
-    List<Long> findSearchableMatchIds();
+    @Query("SELECT m.id FROM MatchJpaEntity m WHERE m.id > :lastId " +
+            "AND m.status IN ('PENDING', 'CONFIRMED', 'FULL') ORDER BY m.id")
+    List<Long> findIndexableMatchIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
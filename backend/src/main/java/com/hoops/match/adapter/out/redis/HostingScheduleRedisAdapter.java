@@ -0,0 +1,54 @@
+package com.hoops.match.adapter.out.redis;
+
+import com.hoops.common.infrastructure.redis.ScheduleIntervalRedisIndex;
+import com.hoops.common.schedule.ScheduleInterval;
+import com.hoops.common.schedule.ScheduleOverlapLookup;
+import com.hoops.match.application.port.out.HostingScheduleIndexPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+public class HostingScheduleRedisAdapter implements HostingScheduleIndexPort {
+
+    private static final String NAMESPACE = "matches:hosting-schedule";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private final ScheduleIntervalRedisIndex index;
+
+    public HostingScheduleRedisAdapter(RedisTemplate<String, String> redisTemplate) {
+        this.index = new ScheduleIntervalRedisIndex(redisTemplate, NAMESPACE, TTL);
+    }
+
+    @Override
+    public ScheduleOverlapLookup findOverlap(Long hostId, LocalDateTime start, LocalDateTime end) {
+        return index.findOverlap(hostId, start, end);
+    }
+
+    @Override
+    public void load(Long hostId, long generation, List<ScheduleInterval> intervals) {
+        boolean loaded = index.load(hostId, generation, intervals);
+        log.debug("Loaded hosting schedule index: hostId={}, intervals={}, loaded={}",
+                hostId, intervals.size(), loaded);
+    }
+
+    @Override
+    public void add(Long hostId, ScheduleInterval interval) {
+        index.add(hostId, interval);
+    }
+
+    @Override
+    public void invalidate(Long hostId) {
+        index.invalidate(hostId);
+    }
+
+    @Override
+    public void clearAll() {
+        index.clearAll();
+    }
+}
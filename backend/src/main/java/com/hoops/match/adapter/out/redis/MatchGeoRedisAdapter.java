@@ -1,22 +1,39 @@
 package com.hoops.match.adapter.out.redis;
 
 import com.hoops.match.adapter.out.redis.exception.RedisGeoIndexException;
+import com.hoops.match.application.dto.MatchSummary;
 import com.hoops.match.application.port.out.MatchGeoIndexPort;
+import com.hoops.match.domain.vo.MatchSearchCursor;
+import com.hoops.match.domain.vo.MatchStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Point;
 import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.domain.geo.BoundingBox;
+import org.springframework.data.redis.domain.geo.GeoReference;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 @Slf4j
 @Component
@@ -24,17 +41,276 @@ import java.util.Set;
 public class MatchGeoRedisAdapter implements MatchGeoIndexPort {
 
     private static final String GEO_KEY = "matches:geo";
+    private static final String STATUS_GEO_KEY_PREFIX = "matches:geo:";
+    private static final String URGENCY_KEY = "matches:urgency";
+    private static final String URGENCY_SEARCH_TMP_KEY = "matches:urgency:tmp";
+    private static final String SUMMARY_KEY = "matches:summary";
+    private static final String MEMBER_PREFIX = "match:";
+    private static final String REBUILD_KEY_INFIX = ":rebuild:";
+
+    /**
+     * 재구축 도중 인스턴스가 종료되어도 스테이징 Key가 남지 않도록 거는 만료 시간
+     */
+    private static final Duration REBUILD_KEY_TTL = Duration.ofHours(1);
+
+    /**
+     * Redis GEO 거리 계산과 동일한 지구 반지름 (km)
+     */
+    private static final double EARTH_RADIUS_KM = 6372.797560856;
+
+    /**
+     * 긴급도 점수 = 남은 자리 * 가중치 + 거리(km)
+     * 검색 반경(최대 50km)보다 충분히 큰 값이어야 남은 자리 순서가 거리에 의해 뒤집히지 않는다
+     */
+    private static final long URGENCY_WEIGHT = 1000L;
+
+    /**
+     * 요약 벌크 저장 시 HSET 한 번에 담는 최대 필드 수
+     */
+    private static final int SUMMARY_BULK_CHUNK_SIZE = 1000;
+
+    /**
+     * 상태별 Geo Index를 유지하는 검색 대상 상태
+     */
+    private static final List<MatchStatus> INDEXED_STATUSES = List.of(
+            MatchStatus.PENDING,
+            MatchStatus.CONFIRMED,
+            MatchStatus.FULL
+    );
+
+    /**
+     * KEYS[1]: 전체 Geo Key, KEYS[2]: 긴급도 Key, KEYS[3]: 대상 상태 Key, KEYS[4..]: 나머지 상태 Key
+     * ARGV: 경도, 위도, 멤버, 남은 자리
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('GEOADD', KEYS[1], ARGV[1], ARGV[2], ARGV[3])
+            redis.call('ZADD', KEYS[2], ARGV[4], ARGV[3])
+            for i = 4, #KEYS do
+                redis.call('ZREM', KEYS[i], ARGV[3])
+            end
+            return redis.call('GEOADD', KEYS[3], ARGV[1], ARGV[2], ARGV[3])
+            """, Long.class);
+
+    /**
+     * 전체 Geo Key의 GeoHash score를 그대로 복사하여 상태 Key 간 이동하고 남은 자리를 갱신
+     * KEYS[1]: 전체 Geo Key, KEYS[2]: 긴급도 Key, KEYS[3]: 대상 상태 Key, KEYS[4..]: 나머지 상태 Key
+     * ARGV[1]: 멤버, ARGV[2]: 남은 자리
+     */
+    private static final RedisScript<Long> MOVE_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not score then
+                return 0
+            end
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            for i = 4, #KEYS do
+                redis.call('ZREM', KEYS[i], ARGV[1])
+            end
+            redis.call('ZADD', KEYS[3], score, ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 커서 (거리, ID) 이후의 반경 검색 결과를 offset개 건너뛰고 limit 개수만 반환
+     * 거리 오름차순 결과에서 이진 탐색으로 커서 위치를 찾고, 같은 거리 묶음은 ID 순으로 정렬하여 이어간다
+     * 오프셋 페이지도 같은 (거리, ID) 순서에서 건너뛰므로 커서 페이지와 동률 처리 순서가 같다
+     * 반경 안 전체를 가져오지 않도록 COUNT limit+1 부터 조회하고, 커서 이후로 한 페이지가 차지 않으면 COUNT를 4배씩 늘려 다시 조회한다
+     * (한 건을 더 가져와 마지막 같은 거리 묶음이 COUNT에 잘리지 않았는지 확인한다)
+     * KEYS[1]: 검색 대상 Geo Key, KEYS[2]: 요약 Key (선택)
+     * ARGV: 경도, 위도, 반경(km), 커서 거리, 커서 ID, limit, 멤버 접두사 길이, offset
+     * 반환: { 멤버, 거리, 멤버, 거리, ... }
+     *       요약 Key가 주어지면 { 멤버, 거리, 요약, ... } (요약이 없으면 nil)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SEARCH_AFTER_SCRIPT = new DefaultRedisScript<>("""
+            local lastDist = tonumber(ARGV[4])
+            local lastId = tonumber(ARGV[5])
+            local limit = tonumber(ARGV[6])
+            local prefixLength = tonumber(ARGV[7])
+            local offset = tonumber(ARGV[8])
+            local want = (offset + limit) * 2
+            local count = offset + limit + 1
+
+            local page
+            while true do
+                local results = redis.call('GEOSEARCH', KEYS[1],
+                    'FROMLONLAT', ARGV[1], ARGV[2], 'BYRADIUS', ARGV[3], 'km', 'ASC', 'WITHDIST', 'COUNT', count)
+
+                local lo, hi = 1, #results + 1
+                while lo < hi do
+                    local mid = math.floor((lo + hi) / 2)
+                    if tonumber(results[mid][2]) < lastDist then
+                        lo = mid + 1
+                    else
+                        hi = mid
+                    end
+                end
+
+                page = {}
+                local i = lo
+                while i <= #results and #page < want do
+                    local dist = tonumber(results[i][2])
+                    local group = {}
+                    while i <= #results and tonumber(results[i][2]) == dist do
+                        local id = tonumber(string.sub(results[i][1], prefixLength + 1))
+                        table.insert(group, { id, results[i][1], results[i][2] })
+                        i = i + 1
+                    end
+                    table.sort(group, function(a, b) return a[1] < b[1] end)
+                    for _, entry in ipairs(group) do
+                        if #page < want and (dist > lastDist or entry[1] > lastId) then
+                            table.insert(page, entry[2])
+                            table.insert(page, entry[3])
+                        end
+                    end
+                end
+
+                -- 반경 안을 모두 가져왔거나, 페이지가 찼고 그 뒤에 더 먼 결과가 있어 마지막 묶음이 온전하면 끝낸다
+                if #results < count or (#page == want and i <= #results) then
+                    break
+                end
+                count = count * 4
+            end
+            if offset > 0 then
+                local sliced = {}
+                for j = offset * 2 + 1, #page do
+                    table.insert(sliced, page[j])
+                end
+                page = sliced
+            end
+            if #KEYS < 2 or #page == 0 then
+                return page
+            end
+
+            local members = {}
+            for j = 1, #page, 2 do
+                table.insert(members, page[j])
+            end
+            local summaries = redis.call('HMGET', KEYS[2], unpack(members))
+            local withSummaries = {}
+            for j = 1, #members do
+                table.insert(withSummaries, page[j * 2 - 1])
+                table.insert(withSummaries, page[j * 2])
+                table.insert(withSummaries, summaries[j])
+            end
+            return withSummaries
+            """, List.class);
+
+    /**
+     * 반경 검색 결과(거리 score)와 긴급도 Key(남은 자리 score)를 서버에서 교집합하여 페이지 단위로 반환
+     * KEYS[1]: 검색 대상 Geo Key, KEYS[2]: 긴급도 Key, KEYS[3]: 임시 Key, KEYS[4]: 요약 Key (선택)
+     * ARGV: 경도, 위도, 반경(km), 시작 인덱스, 끝 인덱스, 긴급도 가중치
+     * 반환: { 전체 개수, 멤버, score, 멤버, score, ... }
+     *       요약 Key가 주어지면 { 전체 개수, 멤버, score, 요약, ... } (요약이 없으면 nil)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> URGENCY_SEARCH_SCRIPT = new DefaultRedisScript<>("""
+            local found = redis.call('GEOSEARCHSTORE', KEYS[3], KEYS[1],
+                'FROMLONLAT', ARGV[1], ARGV[2], 'BYRADIUS', ARGV[3], 'km', 'STOREDIST')
+            if found == 0 then
+                return { '0' }
+            end
+            local total = redis.call('ZINTERSTORE', KEYS[3], 2, KEYS[3], KEYS[2], 'WEIGHTS', 1, ARGV[6])
+            local page = redis.call('ZRANGE', KEYS[3], ARGV[4], ARGV[5], 'WITHSCORES')
+            redis.call('DEL', KEYS[3])
+            if #KEYS < 4 or #page == 0 then
+                table.insert(page, 1, tostring(total))
+                return page
+            end
+
+            local members = {}
+            for j = 1, #page, 2 do
+                table.insert(members, page[j])
+            end
+            local summaries = redis.call('HMGET', KEYS[4], unpack(members))
+            local withSummaries = { tostring(total) }
+            for j = 1, #members do
+                table.insert(withSummaries, page[j * 2 - 1])
+                table.insert(withSummaries, page[j * 2])
+                table.insert(withSummaries, summaries[j])
+            end
+            return withSummaries
+            """, List.class);
+
+    /**
+     * KEYS[1]: 전체 Geo Key, KEYS[2]: 긴급도 Key, KEYS[3]: 요약 Key, KEYS[4..]: 모든 상태 Key
+     * ARGV[1]: 멤버
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HDEL', KEYS[3], ARGV[1])
+            local removed = 0
+            for i = 1, #KEYS do
+                if i ~= 3 then
+                    removed = removed + redis.call('ZREM', KEYS[i], ARGV[1])
+                end
+            end
+            return removed
+            """, Long.class);
+
+    /**
+     * 매치별로 들어 있는 상태 Key, 긴급도 인덱스의 남은 자리, 저장된 요약을 한 번에 조회 (정합성 체크용)
+     * KEYS[1]: 긴급도 Key, KEYS[2]: 요약 Key, KEYS[3..]: 상태 Key (INDEXED_STATUSES 순서)
+     * ARGV: 멤버 목록
+     * 반환: { 상태 비트마스크, 남은 자리, 요약, ... } (남은 자리와 요약이 없으면 nil)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INDEX_STATE_SCRIPT = new DefaultRedisScript<>("""
+            local states = {}
+            for i = 1, #ARGV do
+                local mask = 0
+                for j = 3, #KEYS do
+                    if redis.call('ZSCORE', KEYS[j], ARGV[i]) then
+                        mask = mask + 2 ^ (j - 3)
+                    end
+                end
+                table.insert(states, tostring(mask))
+                table.insert(states, redis.call('ZSCORE', KEYS[1], ARGV[i]))
+                table.insert(states, redis.call('HGET', KEYS[2], ARGV[i]))
+            end
+            return states
+            """, List.class);
+
+    /**
+     * 스테이징 Key를 운영 Key로 한 번에 교체
+     * 스테이징 Key가 없으면(해당 Key에 넣을 매치가 없으면) 운영 Key를 삭제하고, RENAME으로 함께 옮겨진 TTL은 제거한다
+     * KEYS[1..n]: 운영 Key, KEYS[n+1..2n]: 같은 순서의 스테이징 Key
+     */
+    private static final RedisScript<Long> PROMOTE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS / 2
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[n + i]) == 1 then
+                    redis.call('RENAME', KEYS[n + i], KEYS[i])
+                    redis.call('PERSIST', KEYS[i])
+                else
+                    redis.call('DEL', KEYS[i])
+                end
+            end
+            return n
+            """, Long.class);
+
+    /**
+     * 반경 내 멤버를 서버에서 세고 개수만 반환
+     * KEYS[1]: 전체 Geo Key, ARGV: 경도, 위도, 반경(km)
+     */
+    private static final RedisScript<Long> COUNT_SCRIPT = new DefaultRedisScript<>("""
+            return #redis.call('GEOSEARCH', KEYS[1], 'FROMLONLAT', ARGV[1], ARGV[2], 'BYRADIUS', ARGV[3], 'km')
+            """, Long.class);
 
     private final RedisTemplate<String, String> redisTemplate;
 
     @Override
-    public void addMatch(Long matchId, BigDecimal longitude, BigDecimal latitude) {
-        try {
-            String member = formatMatchId(matchId);
-            Point point = new Point(longitude.doubleValue(), latitude.doubleValue());
+    public void addMatch(Long matchId, BigDecimal longitude, BigDecimal latitude,
+                         MatchStatus status, int remainingSlots) {
+        if (!isIndexed(status)) {
+            removeMatch(matchId);
+            return;
+        }
 
-            redisTemplate.opsForGeo().add(GEO_KEY, point, member);
-            log.debug("Added match to geo index: matchId={}, lng={}, lat={}", matchId, longitude, latitude);
+        try {
+            redisTemplate.execute(ADD_SCRIPT, statusTransitionKeys(status),
+                    longitude.toPlainString(), latitude.toPlainString(), formatMatchId(matchId),
+                    String.valueOf(remainingSlots));
+            log.debug("Added match to geo index: matchId={}, lng={}, lat={}, status={}, remainingSlots={}",
+                    matchId, longitude, latitude, status, remainingSlots);
         } catch (Exception e) {
             throw new RedisGeoIndexException("Failed to add match to geo index: matchId=" + matchId, e);
         }
@@ -47,33 +323,208 @@ public class MatchGeoRedisAdapter implements MatchGeoIndexPort {
         }
 
         try {
+            int added = addEntriesPipelined(entries, UnaryOperator.identity());
+            log.info("Bulk added {} matches to geo index (skipped {} not searchable)", added, entries.size() - added);
+        } catch (Exception e) {
+            throw new RedisGeoIndexException("Failed to bulk add matches to geo index", e);
+        }
+    }
+
+    /**
+     * 단건 추가와 같은 스크립트를 Pipeline으로 실행하여 상태 Key 이동과 긴급도 갱신을 함께 반영
+     *
+     * @param keyOf 운영 Key를 실제로 기록할 Key로 변환 (운영 인덱스면 그대로, 재구축이면 스테이징 Key)
+     * @return 추가한 매치 수 (검색 대상이 아닌 상태는 제외)
+     */
+    private int addEntriesPipelined(List<GeoIndexEntry> entries, UnaryOperator<String> keyOf) {
+        redisTemplate.execute((RedisCallback<String>) connection ->
+                connection.scriptingCommands().scriptLoad(toBytes(ADD_SCRIPT.getScriptAsString())));
+
+        List<byte[][]> commands = new ArrayList<>();
+        for (GeoIndexEntry entry : entries) {
+            if (!isIndexed(entry.status())) {
+                continue;
+            }
+            List<byte[]> keysAndArgs = new ArrayList<>();
+            statusTransitionKeys(entry.status()).forEach(key -> keysAndArgs.add(toBytes(keyOf.apply(key))));
+            keysAndArgs.add(toBytes(entry.longitude().toPlainString()));
+            keysAndArgs.add(toBytes(entry.latitude().toPlainString()));
+            keysAndArgs.add(toBytes(formatMatchId(entry.matchId())));
+            keysAndArgs.add(toBytes(String.valueOf(entry.remainingSlots())));
+            commands.add(keysAndArgs.toArray(new byte[0][]));
+        }
+
+        int numKeys = statusTransitionKeys(MatchStatus.PENDING).size();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[][] keysAndArgs : commands) {
+                connection.scriptingCommands().evalSha(
+                        ADD_SCRIPT.getSha1(), ReturnType.INTEGER, numKeys, keysAndArgs);
+            }
+            return null;
+        });
+        return commands.size();
+    }
+
+    @Override
+    public String beginRebuild() {
+        String rebuildId = UUID.randomUUID().toString();
+        log.info("Started geo index rebuild: rebuildId={}", rebuildId);
+        return rebuildId;
+    }
+
+    @Override
+    public void addToRebuild(String rebuildId, List<MatchSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<GeoIndexEntry> entries = summaries.stream()
+                    .map(summary -> new GeoIndexEntry(summary.id(), summary.longitude(), summary.latitude(),
+                            summary.status(), summary.remainingSlots()))
+                    .toList();
+            UnaryOperator<String> stagingKey = key -> rebuildKey(key, rebuildId);
+            int added = addEntriesPipelined(entries, stagingKey);
+            putSummaries(stagingKey.apply(SUMMARY_KEY), summaries);
+
+            for (String key : allKeys()) {
+                redisTemplate.expire(stagingKey.apply(key), REBUILD_KEY_TTL);
+            }
+            log.debug("Added {} matches to geo index rebuild: rebuildId={}", added, rebuildId);
+        } catch (Exception e) {
+            throw new RedisGeoIndexException("Failed to add matches to geo index rebuild: rebuildId=" + rebuildId, e);
+        }
+    }
+
+    @Override
+    public void completeRebuild(String rebuildId) {
+        try {
+            List<String> keys = new ArrayList<>(allKeys());
+            allKeys().forEach(key -> keys.add(rebuildKey(key, rebuildId)));
+            redisTemplate.execute(PROMOTE_SCRIPT, keys);
+            log.info("Completed geo index rebuild: rebuildId={}", rebuildId);
+        } catch (Exception e) {
+            throw new RedisGeoIndexException("Failed to complete geo index rebuild: rebuildId=" + rebuildId, e);
+        }
+    }
+
+    @Override
+    public void abortRebuild(String rebuildId) {
+        try {
+            redisTemplate.delete(allKeys().stream().map(key -> rebuildKey(key, rebuildId)).toList());
+            log.warn("Aborted geo index rebuild: rebuildId={}", rebuildId);
+        } catch (Exception e) {
+            throw new RedisGeoIndexException("Failed to abort geo index rebuild: rebuildId=" + rebuildId, e);
+        }
+    }
+
+    @Override
+    public void removeMatch(Long matchId) {
+        try {
+            Long removed = redisTemplate.execute(REMOVE_SCRIPT, allKeys(), formatMatchId(matchId));
+            log.debug("Removed match from geo index: matchId={}, removed={}", matchId, removed);
+        } catch (Exception e) {
+            throw new RedisGeoIndexException("Failed to remove match from geo index: matchId=" + matchId, e);
+        }
+    }
+
+    @Override
+    public void removeMatchesBulk(List<Long> matchIds) {
+        if (matchIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.scriptingCommands().scriptLoad(toBytes(REMOVE_SCRIPT.getScriptAsString())));
+
+            List<String> keys = allKeys();
             redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
-                byte[] keyBytes = GEO_KEY.getBytes(StandardCharsets.UTF_8);
-                for (GeoIndexEntry entry : entries) {
-                    connection.geoCommands().geoAdd(
-                            keyBytes,
-                            new Point(entry.longitude().doubleValue(), entry.latitude().doubleValue()),
-                            formatMatchId(entry.matchId()).getBytes(StandardCharsets.UTF_8)
-                    );
+                for (Long matchId : matchIds) {
+                    List<byte[]> keysAndArgs = new ArrayList<>();
+                    keys.forEach(key -> keysAndArgs.add(toBytes(key)));
+                    keysAndArgs.add(toBytes(formatMatchId(matchId)));
+                    connection.scriptingCommands().evalSha(REMOVE_SCRIPT.getSha1(), ReturnType.INTEGER,
+                            keys.size(), keysAndArgs.toArray(new byte[0][]));
                 }
                 return null;
             });
-            log.info("Bulk added {} matches to geo index", entries.size());
+            log.info("Bulk removed {} matches from geo index", matchIds.size());
         } catch (Exception e) {
-            throw new RedisGeoIndexException("Failed to bulk add matches to geo index", e);
+            throw new RedisGeoIndexException("Failed to bulk remove matches from geo index", e);
         }
     }
 
     @Override
-    public void removeMatch(Long matchId) {
+    public void updateMatchRecruitment(Long matchId, MatchStatus status, int remainingSlots) {
+        if (!isIndexed(status)) {
+            removeMatch(matchId);
+            return;
+        }
+
         try {
-            String member = formatMatchId(matchId);
+            Long moved = redisTemplate.execute(MOVE_SCRIPT, statusTransitionKeys(status),
+                    formatMatchId(matchId), String.valueOf(remainingSlots));
+            log.debug("Updated match recruitment in geo index: matchId={}, status={}, remainingSlots={}, moved={}",
+                    matchId, status, remainingSlots, moved);
+        } catch (Exception e) {
+            throw new RedisGeoIndexException("Failed to update match recruitment in geo index: matchId=" + matchId, e);
+        }
+    }
 
-            Long removed = redisTemplate.opsForZSet().remove(GEO_KEY, member);
-            log.debug("Removed match from geo index: matchId={}, removed={}", matchId, removed);
+    @Override
+    public void saveSummary(MatchSummary summary) {
+        try {
+            String member = formatMatchId(summary.id());
+            if (!isIndexed(summary.status())) {
+                redisTemplate.opsForHash().delete(SUMMARY_KEY, member);
+                return;
+            }
+            redisTemplate.opsForHash().put(SUMMARY_KEY, member, MatchSummaryCodec.encode(summary));
+            log.debug("Saved match summary: matchId={}, status={}", summary.id(), summary.status());
         } catch (Exception e) {
-            throw new RedisGeoIndexException("Failed to remove match from geo index: matchId=" + matchId, e);
+            throw new RedisGeoIndexException("Failed to save match summary: matchId=" + summary.id(), e);
+        }
+    }
+
+    @Override
+    public void saveSummariesBulk(List<MatchSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        try {
+            int saved = putSummaries(SUMMARY_KEY, summaries);
+            log.info("Bulk saved {} match summaries", saved);
+        } catch (Exception e) {
+            throw new RedisGeoIndexException("Failed to bulk save match summaries", e);
+        }
+    }
+
+    /**
+     * 검색 대상 상태의 요약만 청크 단위 HSET으로 저장
+     *
+     * @return 저장한 요약 수
+     */
+    private int putSummaries(String summaryKey, List<MatchSummary> summaries) {
+        int saved = 0;
+        Map<String, String> chunk = new LinkedHashMap<>();
+        for (MatchSummary summary : summaries) {
+            if (!isIndexed(summary.status())) {
+                continue;
+            }
+            chunk.put(formatMatchId(summary.id()), MatchSummaryCodec.encode(summary));
+            if (chunk.size() == SUMMARY_BULK_CHUNK_SIZE) {
+                redisTemplate.opsForHash().putAll(summaryKey, chunk);
+                saved += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            redisTemplate.opsForHash().putAll(summaryKey, chunk);
+            saved += chunk.size();
         }
+        return saved;
     }
 
     @Override
@@ -81,18 +532,17 @@ public class MatchGeoRedisAdapter implements MatchGeoIndexPort {
         try {
             Point center = new Point(longitude.doubleValue(), latitude.doubleValue());
             Distance radius = new Distance(radiusKm, RedisGeoCommands.DistanceUnit.KILOMETERS);
-            Circle circle = new Circle(center, radius);
 
-            // Redis GEORADIUS는 offset을 지원하지 않으므로, offset + limit 만큼 조회 후 skip
+            // Redis GEOSEARCH는 offset을 지원하지 않으므로, offset + limit 만큼 조회 후 skip
             int fetchCount = offset + limit;
 
-            RedisGeoCommands.GeoRadiusCommandArgs args = RedisGeoCommands.GeoRadiusCommandArgs
-                    .newGeoRadiusArgs()
+            RedisGeoCommands.GeoSearchCommandArgs args = RedisGeoCommands.GeoSearchCommandArgs
+                    .newGeoSearchArgs()
                     .sortAscending()
                     .limit(fetchCount);
 
             GeoResults<RedisGeoCommands.GeoLocation<String>> results =
-                    redisTemplate.opsForGeo().radius(GEO_KEY, circle, args);
+                    redisTemplate.opsForGeo().search(GEO_KEY, GeoReference.fromCoordinate(center), radius, args);
 
             if (results == null) {
                 return List.of();
@@ -108,55 +558,157 @@ public class MatchGeoRedisAdapter implements MatchGeoIndexPort {
         }
     }
 
+    /**
+     * 커서 페이지와 같은 (거리, ID) 순서에서 offset개를 건너뛴다 (GEOSEARCH 기본 순서는 같은 거리의 순서가 다를 수 있음)
+     */
     @Override
-    public List<GeoMatchResult> findMatchesWithinRadius(BigDecimal longitude, BigDecimal latitude, double radiusKm, int offset, int limit) {
-        try {
-            Point center = new Point(longitude.doubleValue(), latitude.doubleValue());
-            Distance radius = new Distance(radiusKm, RedisGeoCommands.DistanceUnit.KILOMETERS);
-            Circle circle = new Circle(center, radius);
-
-            int fetchCount = offset + limit;
+    public List<GeoMatchResult> findMatchesWithinRadius(BigDecimal longitude, BigDecimal latitude, double radiusKm,
+                                                        MatchStatus status, int offset, int limit) {
+        return searchWithinRadiusAfter(longitude, latitude, radiusKm, status, null, offset, limit, false);
+    }
 
-            RedisGeoCommands.GeoRadiusCommandArgs args = RedisGeoCommands.GeoRadiusCommandArgs
-                    .newGeoRadiusArgs()
+    @Override
+    public List<GeoMatchResult> findMatchesInBox(BigDecimal minLatitude, BigDecimal minLongitude,
+                                                 BigDecimal maxLatitude, BigDecimal maxLongitude, int limit) {
+        try {
+            double centerLat = (minLatitude.doubleValue() + maxLatitude.doubleValue()) / 2;
+            double centerLng = (minLongitude.doubleValue() + maxLongitude.doubleValue()) / 2;
+            double kmPerDegree = Math.toRadians(EARTH_RADIUS_KM);
+            double heightKm = (maxLatitude.doubleValue() - minLatitude.doubleValue()) * kmPerDegree;
+            double widthKm = (maxLongitude.doubleValue() - minLongitude.doubleValue())
+                    * kmPerDegree * Math.cos(Math.toRadians(centerLat));
+
+            // 지도 화면은 정렬이 필요 없으므로 ANY로 limit개를 찾는 즉시 탐색을 종료한다
+            RedisGeoCommands.GeoSearchCommandArgs args = RedisGeoCommands.GeoSearchCommandArgs
+                    .newGeoSearchArgs()
                     .includeDistance()
-                    .sortAscending()
-                    .limit(fetchCount);
+                    .limit(limit, true);
 
-            GeoResults<RedisGeoCommands.GeoLocation<String>> results =
-                    redisTemplate.opsForGeo().radius(GEO_KEY, circle, args);
+            GeoResults<RedisGeoCommands.GeoLocation<String>> results = redisTemplate.opsForGeo().search(
+                    GEO_KEY,
+                    GeoReference.fromCoordinate(new Point(centerLng, centerLat)),
+                    new BoundingBox(widthKm, heightKm, RedisGeoCommands.DistanceUnit.KILOMETERS),
+                    args);
 
             if (results == null) {
                 return List.of();
             }
 
             return results.getContent().stream()
-                    .skip(offset)
-                    .limit(limit)
                     .map(result -> new GeoMatchResult(
                             parseMatchId(result.getContent().getName()),
                             result.getDistance().getValue()))
                     .toList();
         } catch (Exception e) {
-            throw new RedisGeoIndexException("Failed to find matches with distance within radius", e);
+            throw new RedisGeoIndexException("Failed to find matches in box", e);
         }
     }
 
     @Override
-    public long countMatchesWithinRadius(BigDecimal longitude, BigDecimal latitude, double radiusKm) {
+    public List<GeoMatchResult> findMatchesWithinRadiusAfter(BigDecimal longitude, BigDecimal latitude, double radiusKm,
+                                                             MatchStatus status, MatchSearchCursor cursor, int limit) {
+        return searchWithinRadiusAfter(longitude, latitude, radiusKm, status, cursor, 0, limit, false);
+    }
+
+    @Override
+    public List<GeoMatchResult> findMatchSummariesWithinRadiusAfter(BigDecimal longitude, BigDecimal latitude,
+                                                                    double radiusKm, MatchStatus status,
+                                                                    MatchSearchCursor cursor, int limit) {
+        return searchWithinRadiusAfter(longitude, latitude, radiusKm, status, cursor, 0, limit, true);
+    }
+
+    private List<GeoMatchResult> searchWithinRadiusAfter(BigDecimal longitude, BigDecimal latitude, double radiusKm,
+                                                         MatchStatus status, MatchSearchCursor cursor, int offset,
+                                                         int limit, boolean withSummaries) {
+        if (status != null && !isIndexed(status)) {
+            return List.of();
+        }
+
         try {
-            Point center = new Point(longitude.doubleValue(), latitude.doubleValue());
-            Distance radius = new Distance(radiusKm, RedisGeoCommands.DistanceUnit.KILOMETERS);
-            Circle circle = new Circle(center, radius);
+            String key = status == null ? GEO_KEY : statusKey(status);
+            List<String> keys = withSummaries ? List.of(key, SUMMARY_KEY) : List.of(key);
+            String lastDistance = cursor == null ? "-1" : String.valueOf(cursor.distanceKm());
+            String lastMatchId = cursor == null ? "0" : String.valueOf(cursor.matchId());
 
-            RedisGeoCommands.GeoRadiusCommandArgs args = RedisGeoCommands.GeoRadiusCommandArgs
-                    .newGeoRadiusArgs()
-                    .sortAscending();
+            List<?> raw = redisTemplate.execute(SEARCH_AFTER_SCRIPT, keys,
+                    longitude.toPlainString(), latitude.toPlainString(), String.valueOf(radiusKm),
+                    lastDistance, lastMatchId, String.valueOf(limit), String.valueOf(MEMBER_PREFIX.length()),
+                    String.valueOf(offset));
 
-            GeoResults<RedisGeoCommands.GeoLocation<String>> results =
-                    redisTemplate.opsForGeo().radius(GEO_KEY, circle, args);
+            if (raw == null) {
+                return List.of();
+            }
+
+            int stride = withSummaries ? 3 : 2;
+            List<GeoMatchResult> results = new ArrayList<>();
+            for (int i = 0; i + stride - 1 < raw.size(); i += stride) {
+                Long matchId = parseMatchId(raw.get(i).toString());
+                double distanceKm = Double.parseDouble(raw.get(i + 1).toString());
+                MatchSummary summary = withSummaries ? decodeSummary(matchId, raw.get(i + 2)) : null;
+                results.add(new GeoMatchResult(matchId, distanceKm, summary));
+            }
+            return results;
+        } catch (Exception e) {
+            throw new RedisGeoIndexException("Failed to find matches within radius after cursor", e);
+        }
+    }
+
+    @Override
+    public GeoMatchPage findMatchesByUrgencyWithinRadius(BigDecimal longitude, BigDecimal latitude, double radiusKm,
+                                                         MatchStatus status, int offset, int limit) {
+        return searchByUrgencyWithinRadius(longitude, latitude, radiusKm, status, offset, limit, false);
+    }
+
+    @Override
+    public GeoMatchPage findMatchSummariesByUrgencyWithinRadius(BigDecimal longitude, BigDecimal latitude,
+                                                                double radiusKm, MatchStatus status,
+                                                                int offset, int limit) {
+        return searchByUrgencyWithinRadius(longitude, latitude, radiusKm, status, offset, limit, true);
+    }
+
+    private GeoMatchPage searchByUrgencyWithinRadius(BigDecimal longitude, BigDecimal latitude, double radiusKm,
+                                                     MatchStatus status, int offset, int limit,
+                                                     boolean withSummaries) {
+        if (status != null && !isIndexed(status)) {
+            return new GeoMatchPage(List.of(), 0);
+        }
 
-            return results == null ? 0 : results.getContent().size();
+        try {
+            String key = status == null ? GEO_KEY : statusKey(status);
+            List<String> keys = withSummaries
+                    ? List.of(key, URGENCY_KEY, URGENCY_SEARCH_TMP_KEY, SUMMARY_KEY)
+                    : List.of(key, URGENCY_KEY, URGENCY_SEARCH_TMP_KEY);
+            List<?> raw = redisTemplate.execute(URGENCY_SEARCH_SCRIPT, keys,
+                    longitude.toPlainString(), latitude.toPlainString(), String.valueOf(radiusKm),
+                    String.valueOf(offset), String.valueOf(offset + limit - 1), String.valueOf(URGENCY_WEIGHT));
+
+            if (raw == null || raw.isEmpty()) {
+                return new GeoMatchPage(List.of(), 0);
+            }
+
+            long totalCount = Long.parseLong(raw.get(0).toString());
+            int stride = withSummaries ? 3 : 2;
+            List<GeoMatchResult> results = new ArrayList<>();
+            for (int i = 1; i + stride - 1 < raw.size(); i += stride) {
+                Long matchId = parseMatchId(raw.get(i).toString());
+                double score = Double.parseDouble(raw.get(i + 1).toString());
+                long remainingSlots = (long) Math.floor(score / URGENCY_WEIGHT);
+                double distanceKm = score - remainingSlots * URGENCY_WEIGHT;
+                MatchSummary summary = withSummaries ? decodeSummary(matchId, raw.get(i + 2)) : null;
+                results.add(new GeoMatchResult(matchId, distanceKm, summary));
+            }
+            return new GeoMatchPage(results, totalCount);
+        } catch (Exception e) {
+            throw new RedisGeoIndexException("Failed to find matches by urgency within radius", e);
+        }
+    }
+
+    @Override
+    public long countMatchesWithinRadius(BigDecimal longitude, BigDecimal latitude, double radiusKm) {
+        try {
+            Long count = redisTemplate.execute(COUNT_SCRIPT, List.of(GEO_KEY),
+                    longitude.toPlainString(), latitude.toPlainString(), String.valueOf(radiusKm));
+            return count == null ? 0 : count;
         } catch (Exception e) {
             throw new RedisGeoIndexException("Failed to count matches within radius", e);
         }
@@ -179,21 +731,164 @@ public class MatchGeoRedisAdapter implements MatchGeoIndexPort {
         }
     }
 
+    @Override
+    public long[] scanAllMatchIds(int batchSize) {
+        ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+        try (Cursor<ZSetOperations.TypedTuple<String>> cursor = redisTemplate.opsForZSet().scan(GEO_KEY, options)) {
+            long[] ids = new long[Math.max(batchSize, 16)];
+            int size = 0;
+            while (cursor.hasNext()) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                }
+                ids[size++] = Long.parseLong(cursor.next().getValue().substring(MEMBER_PREFIX.length()));
+            }
+
+            // ZSCAN은 스캔 도중 변경된 멤버를 중복 반환할 수 있으므로 정렬 후 중복을 제거한다
+            Arrays.sort(ids, 0, size);
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if (unique == 0 || ids[i] != ids[unique - 1]) {
+                    ids[unique++] = ids[i];
+                }
+            }
+            return Arrays.copyOf(ids, unique);
+        } catch (Exception e) {
+            throw new RedisGeoIndexException("Failed to scan match ids", e);
+        }
+    }
+
+    @Override
+    public List<Long> findDriftedMatchIds(List<MatchSummary> expected) {
+        if (expected.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            List<String> keys = new ArrayList<>();
+            keys.add(URGENCY_KEY);
+            keys.add(SUMMARY_KEY);
+            INDEXED_STATUSES.forEach(status -> keys.add(statusKey(status)));
+            Object[] members = expected.stream()
+                    .map(summary -> formatMatchId(summary.id()))
+                    .toArray();
+
+            List<?> raw = redisTemplate.execute(INDEX_STATE_SCRIPT, keys, members);
+            if (raw == null) {
+                return List.of();
+            }
+
+            List<Long> drifted = new ArrayList<>();
+            for (int i = 0; i < expected.size(); i++) {
+                MatchSummary summary = expected.get(i);
+                if (!matchesIndexState(summary, raw.get(i * 3), raw.get(i * 3 + 1), raw.get(i * 3 + 2))) {
+                    drifted.add(summary.id());
+                }
+            }
+            return drifted;
+        } catch (Exception e) {
+            throw new RedisGeoIndexException("Failed to find drifted matches in geo index", e);
+        }
+    }
+
+    /**
+     * 대상 상태 Key 하나에만 들어 있고, 긴급도 점수가 남은 자리와 같고, 요약이 DB와 같으면 일치
+     */
+    private boolean matchesIndexState(MatchSummary expected, Object statusMask, Object urgencyScore,
+                                      Object storedSummary) {
+        if (!isIndexed(expected.status())) {
+            return false;
+        }
+        int expectedMask = 1 << INDEXED_STATUSES.indexOf(expected.status());
+        if (statusMask == null || Integer.parseInt(statusMask.toString()) != expectedMask) {
+            return false;
+        }
+        if (urgencyScore == null || Double.parseDouble(urgencyScore.toString()) != expected.remainingSlots()) {
+            return false;
+        }
+        try {
+            return storedSummary != null && MatchSummaryCodec.sameContent(storedSummary.toString(), expected);
+        } catch (RuntimeException e) {
+            // 읽을 수 없는 요약은 다시 저장한다
+            return false;
+        }
+    }
+
     @Override
     public void clearAll() {
         try {
-            redisTemplate.delete(GEO_KEY);
+            redisTemplate.delete(allKeys());
             log.info("Cleared all matches from geo index");
         } catch (Exception e) {
             throw new RedisGeoIndexException("Failed to clear geo index", e);
         }
     }
 
+    /**
+     * 요약이 없거나 읽을 수 없는 형식이면 null을 반환하여 호출 측에서 DB로 조회하게 한다
+     */
+    private MatchSummary decodeSummary(Long matchId, Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return MatchSummaryCodec.decode(value.toString());
+        } catch (RuntimeException e) {
+            log.warn("Ignoring unreadable match summary: matchId={}", matchId, e);
+            return null;
+        }
+    }
+
+    private boolean isIndexed(MatchStatus status) {
+        return INDEXED_STATUSES.contains(status);
+    }
+
+    private String statusKey(MatchStatus status) {
+        return STATUS_GEO_KEY_PREFIX + status.name();
+    }
+
+    /**
+     * 전체 Key, 긴급도 Key, 대상 상태 Key, 나머지 상태 Key 순서의 Key 목록
+     */
+    private List<String> statusTransitionKeys(MatchStatus target) {
+        List<String> keys = new ArrayList<>();
+        keys.add(GEO_KEY);
+        keys.add(URGENCY_KEY);
+        keys.add(statusKey(target));
+        INDEXED_STATUSES.stream()
+                .filter(status -> status != target)
+                .map(this::statusKey)
+                .forEach(keys::add);
+        return keys;
+    }
+
+    /**
+     * 전체 Key, 긴급도 Key, 요약 Key, 모든 상태 Key 순서의 Key 목록
+     */
+    private List<String> allKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(GEO_KEY);
+        keys.add(URGENCY_KEY);
+        keys.add(SUMMARY_KEY);
+        INDEXED_STATUSES.stream()
+                .map(this::statusKey)
+                .forEach(keys::add);
+        return keys;
+    }
+
+    private String rebuildKey(String key, String rebuildId) {
+        return key + REBUILD_KEY_INFIX + rebuildId;
+    }
+
+    private byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
     private String formatMatchId(Long matchId) {
-        return "match:" + matchId;
+        return MEMBER_PREFIX + matchId;
     }
 
     private Long parseMatchId(String member) {
-        return Long.parseLong(member.replace("match:", ""));
+        return Long.parseLong(member.replace(MEMBER_PREFIX, ""));
     }
 }
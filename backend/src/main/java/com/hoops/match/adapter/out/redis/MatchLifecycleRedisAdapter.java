@@ -0,0 +1,182 @@
+package com.hoops.match.adapter.out.redis;
+
+import com.hoops.match.adapter.out.redis.exception.RedisLifecycleScheduleException;
+import com.hoops.match.application.port.out.MatchLifecycleSchedulePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 경기 시작/종료 예정 시각 스케줄 (Redis Sorted Set)
+ *
+ * 시작 스케줄과 종료 스케줄을 각각 Sorted Set으로 두고, 예정 시각(epoch 초)을 score, 매치 ID를 member로 저장한다.
+ * 시각이 된 매치는 조회와 제거를 한 스크립트로 처리하므로 여러 인스턴스가 동시에 꺼내도 중복 처리되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchLifecycleRedisAdapter implements MatchLifecycleSchedulePort {
+
+    // Cluster 환경에서도 두 Key가 같은 슬롯에 있도록 Hash Tag 사용
+    private static final String START_KEY = "matches:{lifecycle}:start";
+    private static final String END_KEY = "matches:{lifecycle}:end";
+
+    /**
+     * KEYS[1]: 시작 스케줄, KEYS[2]: 종료 스케줄
+     * ARGV[1]: 매치 ID, ARGV[2]: 시작 시각 (빈 문자열이면 시작 스케줄에서 제거), ARGV[3]: 종료 시각
+     */
+    private static final RedisScript<Long> SCHEDULE_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[2] == '' then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+            else
+                redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            end
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 예정 시각이 지난 매치를 limit건까지 꺼내고 스케줄에서 제거
+     * KEYS[1]: 스케줄, ARGV[1]: 현재 시각, ARGV[2]: limit
+     */
+    private static final RedisScript<List> POLL_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            if #ids > 0 then
+                redis.call('ZREM', KEYS[1], unpack(ids))
+            end
+            return ids
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void schedule(LifecycleEntry entry) {
+        try {
+            redisTemplate.execute(SCHEDULE_SCRIPT, List.of(START_KEY, END_KEY),
+                    String.valueOf(entry.matchId()),
+                    entry.startAt() == null ? "" : String.valueOf(toSeconds(entry.startAt())),
+                    String.valueOf(toSeconds(entry.endAt())));
+        } catch (Exception e) {
+            throw new RedisLifecycleScheduleException("Failed to schedule match lifecycle: matchId=" + entry.matchId(), e);
+        }
+    }
+
+    @Override
+    public void scheduleAll(List<LifecycleEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Set<TypedTuple<String>> starts = new HashSet<>();
+        Set<TypedTuple<String>> ends = new HashSet<>();
+        for (LifecycleEntry entry : entries) {
+            String member = String.valueOf(entry.matchId());
+            if (entry.startAt() != null) {
+                starts.add(new DefaultTypedTuple<>(member, (double) toSeconds(entry.startAt())));
+            }
+            ends.add(new DefaultTypedTuple<>(member, (double) toSeconds(entry.endAt())));
+        }
+
+        try {
+            if (!starts.isEmpty()) {
+                redisTemplate.opsForZSet().add(START_KEY, starts);
+            }
+            redisTemplate.opsForZSet().add(END_KEY, ends);
+            log.debug("Scheduled match lifecycle: starts={}, ends={}", starts.size(), ends.size());
+        } catch (Exception e) {
+            throw new RedisLifecycleScheduleException("Failed to bulk schedule match lifecycle", e);
+        }
+    }
+
+    @Override
+    public void unschedule(Long matchId) {
+        try {
+            String member = String.valueOf(matchId);
+            redisTemplate.opsForZSet().remove(START_KEY, member);
+            redisTemplate.opsForZSet().remove(END_KEY, member);
+        } catch (Exception e) {
+            throw new RedisLifecycleScheduleException("Failed to unschedule match lifecycle: matchId=" + matchId, e);
+        }
+    }
+
+    @Override
+    public List<Long> pollDueStarts(LocalDateTime now, int limit) {
+        return poll(START_KEY, now, limit);
+    }
+
+    @Override
+    public List<Long> pollDueEnds(LocalDateTime now, int limit) {
+        return poll(END_KEY, now, limit);
+    }
+
+    @Override
+    public void requeueStarts(List<Long> matchIds, LocalDateTime dueAt) {
+        requeue(START_KEY, matchIds, dueAt);
+    }
+
+    @Override
+    public void requeueEnds(List<Long> matchIds, LocalDateTime dueAt) {
+        requeue(END_KEY, matchIds, dueAt);
+    }
+
+    @Override
+    public void clearAll() {
+        try {
+            redisTemplate.delete(List.of(START_KEY, END_KEY));
+        } catch (Exception e) {
+            throw new RedisLifecycleScheduleException("Failed to clear match lifecycle schedule", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> poll(String key, LocalDateTime now, int limit) {
+        try {
+            List<Object> ids = redisTemplate.execute(POLL_SCRIPT, List.of(key),
+                    String.valueOf(toSeconds(now)), String.valueOf(limit));
+            if (ids == null) {
+                return List.of();
+            }
+            return ids.stream()
+                    .map(id -> Long.parseLong(String.valueOf(id)))
+                    .toList();
+        } catch (Exception e) {
+            throw new RedisLifecycleScheduleException("Failed to poll match lifecycle schedule: key=" + key, e);
+        }
+    }
+
+    /**
+     * 꺼낸 사이 새 시각으로 등록된 매치를 덮어쓰지 않도록 ZADD NX로 없는 매치만 추가
+     */
+    private void requeue(String key, List<Long> matchIds, LocalDateTime dueAt) {
+        if (matchIds.isEmpty()) {
+            return;
+        }
+
+        double score = toSeconds(dueAt);
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (Long matchId : matchIds) {
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(matchId), score));
+        }
+
+        try {
+            redisTemplate.opsForZSet().addIfAbsent(key, tuples);
+        } catch (Exception e) {
+            throw new RedisLifecycleScheduleException("Failed to requeue match lifecycle: key=" + key, e);
+        }
+    }
+
+    private long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,133 @@
+package com.hoops.match.adapter.out.redis;
+
+import com.hoops.match.adapter.out.redis.exception.RedisSlotReservationException;
+import com.hoops.match.application.port.out.MatchSlotReservationPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchSlotRedisAdapter implements MatchSlotReservationPort {
+
+    private static final String SLOT_KEY = "matches:slots";
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    /**
+     * 남은 자리가 있을 때만 하나 차감
+     * KEYS[1]: 카운터 Hash, ARGV[1]: 매치 ID
+     * 반환: 1 예약, 0 정원 초과, -1 카운터 없음
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local remaining = redis.call('HGET', KEYS[1], ARGV[1])
+            if not remaining then
+                return -1
+            end
+            if tonumber(remaining) <= 0 then
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[1], ARGV[1], -1)
+            return 1
+            """, Long.class);
+
+    /**
+     * 카운터가 있을 때만 자리 하나 반환 (삭제된 카운터를 되살리지 않는다)
+     * KEYS[1]: 카운터 Hash, ARGV[1]: 매치 ID
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public ReservationResult tryReserve(Long matchId) {
+        try {
+            Long result = redisTemplate.execute(RESERVE_SCRIPT, List.of(SLOT_KEY), String.valueOf(matchId));
+            if (result == null || result < 0) {
+                return ReservationResult.NOT_LOADED;
+            }
+            return result == 1 ? ReservationResult.RESERVED : ReservationResult.REJECTED;
+        } catch (Exception e) {
+            throw new RedisSlotReservationException("Failed to reserve slot: matchId=" + matchId, e);
+        }
+    }
+
+    @Override
+    public void loadIfAbsent(Long matchId, int remainingSlots) {
+        try {
+            Boolean loaded = redisTemplate.opsForHash()
+                    .putIfAbsent(SLOT_KEY, String.valueOf(matchId), String.valueOf(remainingSlots));
+            log.debug("Loaded slot counter: matchId={}, remainingSlots={}, loaded={}", matchId, remainingSlots, loaded);
+        } catch (Exception e) {
+            throw new RedisSlotReservationException("Failed to load slot counter: matchId=" + matchId, e);
+        }
+    }
+
+    @Override
+    public void release(Long matchId) {
+        try {
+            Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(SLOT_KEY), String.valueOf(matchId));
+            log.debug("Released slot: matchId={}, released={}", matchId, released);
+        } catch (Exception e) {
+            throw new RedisSlotReservationException("Failed to release slot: matchId=" + matchId, e);
+        }
+    }
+
+    @Override
+    public void resetRemainingSlots(Long matchId, int remainingSlots) {
+        try {
+            redisTemplate.opsForHash().put(SLOT_KEY, String.valueOf(matchId), String.valueOf(remainingSlots));
+        } catch (Exception e) {
+            throw new RedisSlotReservationException("Failed to reset slot counter: matchId=" + matchId, e);
+        }
+    }
+
+    @Override
+    public void evict(Long matchId) {
+        try {
+            redisTemplate.opsForHash().delete(SLOT_KEY, String.valueOf(matchId));
+        } catch (Exception e) {
+            throw new RedisSlotReservationException("Failed to evict slot counter: matchId=" + matchId, e);
+        }
+    }
+
+    @Override
+    public Map<Long, Integer> findAllRemainingSlots() {
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_BATCH_SIZE).build();
+        try (Cursor<Map.Entry<String, String>> cursor =
+                     redisTemplate.<String, String>opsForHash().scan(SLOT_KEY, options)) {
+            Map<Long, Integer> counters = new HashMap<>();
+            while (cursor.hasNext()) {
+                Map.Entry<String, String> entry = cursor.next();
+                counters.put(Long.parseLong(entry.getKey()), Integer.parseInt(entry.getValue()));
+            }
+            return counters;
+        } catch (Exception e) {
+            throw new RedisSlotReservationException("Failed to scan slot counters", e);
+        }
+    }
+
+    @Override
+    public void clearAll() {
+        try {
+            redisTemplate.delete(SLOT_KEY);
+        } catch (Exception e) {
+            throw new RedisSlotReservationException("Failed to clear slot counters", e);
+        }
+    }
+}
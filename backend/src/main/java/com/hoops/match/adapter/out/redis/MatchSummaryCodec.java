@@ -0,0 +1,95 @@
+package com.hoops.match.adapter.out.redis;
+
+import com.hoops.match.application.dto.MatchSummary;
+import com.hoops.match.domain.vo.MatchStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Redis 요약 Hash에 저장하는 매치 요약 직렬화
+ * 필드를 단위 구분자(U+001F)로 이어 붙인 한 줄 문자열로 저장하여 Hash 필드 하나에 매치 하나를 담는다
+ */
+final class MatchSummaryCodec {
+
+    private static final String VERSION = "1";
+    private static final char SEPARATOR = '\u001F';
+    private static final int FIELD_COUNT = 14;
+
+    private MatchSummaryCodec() {
+    }
+
+    static String encode(MatchSummary summary) {
+        StringBuilder builder = new StringBuilder(128);
+        builder.append(VERSION);
+        append(builder, String.valueOf(summary.id()));
+        append(builder, String.valueOf(summary.hostId()));
+        append(builder, sanitize(summary.hostNickname()));
+        append(builder, sanitize(summary.title()));
+        append(builder, summary.latitude().toPlainString());
+        append(builder, summary.longitude().toPlainString());
+        append(builder, sanitize(summary.address()));
+        append(builder, summary.matchDate().toString());
+        append(builder, summary.startTime().toString());
+        append(builder, summary.endTime().toString());
+        append(builder, String.valueOf(summary.maxParticipants()));
+        append(builder, String.valueOf(summary.currentParticipants()));
+        append(builder, summary.status().name());
+        return builder.toString();
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 다르거나 다른 버전으로 저장된 값인 경우
+     */
+    static MatchSummary decode(String value) {
+        String[] fields = value.split(String.valueOf(SEPARATOR), -1);
+        if (fields.length != FIELD_COUNT || !VERSION.equals(fields[0])) {
+            throw new IllegalArgumentException("Unsupported match summary format");
+        }
+
+        return new MatchSummary(
+                Long.parseLong(fields[1]),
+                Long.parseLong(fields[2]),
+                nullIfEmpty(fields[3]),
+                fields[4],
+                new BigDecimal(fields[5]),
+                new BigDecimal(fields[6]),
+                nullIfEmpty(fields[7]),
+                LocalDate.parse(fields[8]),
+                LocalTime.parse(fields[9]),
+                LocalTime.parse(fields[10]),
+                Integer.parseInt(fields[11]),
+                Integer.parseInt(fields[12]),
+                MatchStatus.valueOf(fields[13])
+        );
+    }
+
+    private static void append(StringBuilder builder, String field) {
+        builder.append(SEPARATOR).append(field);
+    }
+
+    /**
+     * 저장된 요약이 주어진 요약과 같은 내용인지 비교
+     * 위경도는 저장 경로에 따라 scale이 다를 수 있어(37.5665, 37.5665000) 후행 0을 제거하고 비교한다
+     */
+    static boolean sameContent(String stored, MatchSummary expected) {
+        return canonical(decode(stored)).equals(canonical(expected));
+    }
+
+    private static String canonical(MatchSummary summary) {
+        return encode(new MatchSummary(
+                summary.id(), summary.hostId(), summary.hostNickname(), summary.title(),
+                summary.latitude().stripTrailingZeros(), summary.longitude().stripTrailingZeros(),
+                summary.address(), summary.matchDate(), summary.startTime(), summary.endTime(),
+                summary.maxParticipants(), summary.currentParticipants(), summary.status()));
+    }
+
+    private static String sanitize(String text) {
+        return text == null ? "" : text.replace(SEPARATOR, ' ');
+    }
+
+    private static String nullIfEmpty(String text) {
+        return text.isEmpty() ? null : text;
+    }
+}
@@ -0,0 +1,19 @@
+package com.hoops.match.adapter.out.redis.exception;
+
+import com.hoops.common.exception.ApplicationException;
+
+/**
+ * Redis 경기 시작/종료 스케줄 작업 실패 시 발생하는 예외
+ */
+public class RedisLifecycleScheduleException extends ApplicationException {
+
+    private static final String ERROR_CODE = "REDIS_LIFECYCLE_SCHEDULE_ERROR";
+
+    public RedisLifecycleScheduleException(String message) {
+        super(ERROR_CODE, message);
+    }
+
+    public RedisLifecycleScheduleException(String message, Throwable cause) {
+        super(ERROR_CODE, message, cause);
+    }
+}
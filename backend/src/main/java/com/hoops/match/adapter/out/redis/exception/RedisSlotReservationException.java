@@ -0,0 +1,19 @@
+package com.hoops.match.adapter.out.redis.exception;
+
+import com.hoops.common.exception.ApplicationException;
+
+/**
+ * Redis 참가 자리 예약 작업 실패 시 발생하는 예외
+ */
+public class RedisSlotReservationException extends ApplicationException {
+
+    private static final String ERROR_CODE = "REDIS_SLOT_RESERVATION_ERROR";
+
+    public RedisSlotReservationException(String message) {
+        super(ERROR_CODE, message);
+    }
+
+    public RedisSlotReservationException(String message, Throwable cause) {
+        super(ERROR_CODE, message, cause);
+    }
+}
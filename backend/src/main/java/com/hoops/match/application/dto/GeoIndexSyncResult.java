@@ -0,0 +1,14 @@
+package com.hoops.match.application.dto;
+
+/**
+ * Geo Index 정합성 동기화 결과
+ *
+ * @param missingCount MySQL에는 있지만 Redis에 없어 추가한 매치 수
+ * @param orphanCount Redis에만 남아 있어 제거한 매치 수
+ * @param staleCount 상태, 남은 자리, 요약 중 하나라도 DB와 달라 다시 반영한 매치 수
+ */
+public record GeoIndexSyncResult(
+        int missingCount,
+        int orphanCount,
+        int staleCount
+) {}
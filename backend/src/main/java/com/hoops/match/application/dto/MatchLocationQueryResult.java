@@ -1,9 +1,12 @@
 package com.hoops.match.application.dto;
 
+import com.hoops.match.domain.vo.MatchSearchCursor;
+
 import java.util.List;
 
 public record MatchLocationQueryResult(
         List<MatchWithDistance> matches,
         int totalCount,
-        boolean hasMore
+        boolean hasMore,
+        MatchSearchCursor nextCursor
 ) {}
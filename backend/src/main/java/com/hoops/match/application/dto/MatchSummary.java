@@ -0,0 +1,56 @@
+package com.hoops.match.application.dto;
+
+import com.hoops.match.domain.model.Match;
+import com.hoops.match.domain.vo.MatchStatus;
+import com.hoops.match.domain.vo.RecruitmentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 목록 조회용 매치 요약 (읽기 전용 Projection)
+ * 영속성 컨텍스트를 거치지 않고 조회되며, 상세 설명(description)은 포함하지 않는다
+ */
+public record MatchSummary(
+        Long id,
+        Long hostId,
+        String hostNickname,
+        String title,
+        BigDecimal latitude,
+        BigDecimal longitude,
+        String address,
+        LocalDate matchDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        Integer maxParticipants,
+        Integer currentParticipants,
+        MatchStatus status
+) {
+
+    public static MatchSummary from(Match match) {
+        return new MatchSummary(
+                match.getId(),
+                match.getHostId(),
+                match.getHostNickname(),
+                match.getTitle(),
+                match.getLatitude(),
+                match.getLongitude(),
+                match.getAddress(),
+                match.getMatchDate(),
+                match.getStartTime(),
+                match.getEndTime(),
+                match.getMaxParticipants(),
+                match.getCurrentParticipants(),
+                match.getStatus()
+        );
+    }
+
+    public int remainingSlots() {
+        return Math.max(0, maxParticipants - currentParticipants);
+    }
+
+    public RecruitmentStatus recruitmentStatus() {
+        return RecruitmentStatus.from(currentParticipants, maxParticipants);
+    }
+}
@@ -0,0 +1,12 @@
+package com.hoops.match.application.dto;
+
+import com.hoops.match.domain.vo.MatchSearchCursor;
+
+import java.util.List;
+
+public record MatchSummaryQueryResult(
+        List<MatchSummaryWithDistance> matches,
+        int totalCount,
+        boolean hasMore,
+        MatchSearchCursor nextCursor
+) {}
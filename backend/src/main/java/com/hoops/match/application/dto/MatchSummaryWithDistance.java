@@ -0,0 +1,3 @@
+package com.hoops.match.application.dto;
+
+public record MatchSummaryWithDistance(MatchSummary summary, double distanceKm) {}
@@ -0,0 +1,75 @@
+package com.hoops.match.application.event;
+
+import com.hoops.common.schedule.ScheduleInterval;
+import com.hoops.match.application.port.out.HostingScheduleIndexPort;
+import com.hoops.match.application.port.out.MatchRepositoryPort;
+import com.hoops.match.domain.model.Match;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 호스트 주최 일정 인덱스 이벤트 리스너
+ * 인덱스 반영에 실패해도 요청을 실패시키지 않는다 (다음 중복 체크 시 DB 확인 후 다시 로드)
+ * 구간 추가에 실패하면 새 매치가 빠진 인덱스가 남지 않도록 호스트 인덱스를 무효화한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HostingScheduleIndexListener {
+
+    private final HostingScheduleIndexPort scheduleIndex;
+    private final MatchRepositoryPort matchRepository;
+
+    /**
+     * 생성과 재활성화 모두 활성 매치가 하나 늘어난 것이므로 구간을 추가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchCreated(MatchCreatedEvent event) {
+        runSafely(event.matchId(), () -> matchRepository.findById(event.matchId())
+                .ifPresent(this::addInterval));
+    }
+
+    /**
+     * 경기 시간이나 상태가 바뀌었을 수 있으므로 호스트 인덱스를 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchUpdated(MatchUpdatedEvent event) {
+        invalidateHost(event.matchId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchRemovedFromGeoIndex(MatchRemovedFromGeoIndexEvent event) {
+        invalidateHost(event.matchId());
+    }
+
+    private void invalidateHost(Long matchId) {
+        runSafely(matchId, () -> matchRepository.findById(matchId)
+                .ifPresent(match -> scheduleIndex.invalidate(match.getHostId())));
+    }
+
+    private void addInterval(Match match) {
+        try {
+            scheduleIndex.add(match.getHostId(), toInterval(match));
+        } catch (Exception e) {
+            log.warn("Failed to add hosting schedule interval, invalidating index: matchId={}, hostId={}",
+                    match.getId(), match.getHostId(), e);
+            scheduleIndex.invalidate(match.getHostId());
+        }
+    }
+
+    private ScheduleInterval toInterval(Match match) {
+        return new ScheduleInterval(match.getId(),
+                match.getSchedule().startDateTime(), match.getSchedule().endDateTime());
+    }
+
+    private void runSafely(Long matchId, Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("Failed to update hosting schedule index: matchId={}", matchId, e);
+        }
+    }
+}
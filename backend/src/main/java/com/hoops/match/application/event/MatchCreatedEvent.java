@@ -1,5 +1,7 @@
 package com.hoops.match.application.event;
 
+import com.hoops.match.domain.vo.MatchStatus;
+
 import java.math.BigDecimal;
 
 /**
@@ -9,6 +11,8 @@ import java.math.BigDecimal;
 public record MatchCreatedEvent(
         Long matchId,
         BigDecimal longitude,
-        BigDecimal latitude
+        BigDecimal latitude,
+        MatchStatus status,
+        int remainingSlots
 ) implements MatchGeoIndexEvent {
 }
@@ -5,5 +5,5 @@ package com.hoops.match.application.event;
  * 트랜잭션 커밋 후 Redis Geo Index 업데이트를 위해 사용
  */
 public sealed interface MatchGeoIndexEvent
-        permits MatchCreatedEvent, MatchRemovedFromGeoIndexEvent {
+        permits MatchCreatedEvent, MatchRemovedFromGeoIndexEvent, MatchRecruitmentChangedEvent {
 }
@@ -1,15 +1,20 @@
 package com.hoops.match.application.event;
 
+import com.hoops.match.application.dto.MatchSummary;
 import com.hoops.match.application.port.out.MatchGeoIndexPort;
+import com.hoops.match.application.port.out.MatchRepositoryPort;
+import com.hoops.match.domain.vo.MatchStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.List;
+
 /**
  * 매치 Geo Index 이벤트 리스너
- * 트랜잭션 커밋 후 Redis Geo Index 업데이트
+ * 트랜잭션 커밋 후 Redis Geo Index와 목록용 매치 요약 업데이트
  */
 @Slf4j
 @Component
@@ -17,11 +22,14 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class MatchGeoIndexEventListener {
 
     private final MatchGeoIndexPort matchGeoIndex;
+    private final MatchRepositoryPort matchRepository;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleMatchCreated(MatchCreatedEvent event) {
         log.debug("Handling MatchCreatedEvent: matchId={}", event.matchId());
-        matchGeoIndex.addMatch(event.matchId(), event.longitude(), event.latitude());
+        matchGeoIndex.addMatch(event.matchId(), event.longitude(), event.latitude(),
+                event.status(), event.remainingSlots());
+        refreshSummary(event.matchId());
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -29,4 +37,43 @@ public class MatchGeoIndexEventListener {
         log.debug("Handling MatchRemovedFromGeoIndexEvent: matchId={}", event.matchId());
         matchGeoIndex.removeMatch(event.matchId());
     }
+
+    /**
+     * 시작된 매치는 검색 대상에서 빠지므로 한 번의 Pipeline으로 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchesStatusChanged(MatchesStatusChangedEvent event) {
+        if (event.status() != MatchStatus.IN_PROGRESS) {
+            return;
+        }
+        log.debug("Handling MatchesStatusChangedEvent: status={}, count={}", event.status(), event.matchIds().size());
+        matchGeoIndex.removeMatchesBulk(event.matchIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchRecruitmentChanged(MatchRecruitmentChangedEvent event) {
+        log.debug("Handling MatchRecruitmentChangedEvent: matchId={}, status={}, remainingSlots={}",
+                event.matchId(), event.status(), event.remainingSlots());
+        matchGeoIndex.updateMatchRecruitment(event.matchId(), event.status(), event.remainingSlots());
+        refreshSummary(event.matchId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchUpdated(MatchUpdatedEvent event) {
+        log.debug("Handling MatchUpdatedEvent: matchId={}", event.matchId());
+        refreshSummary(event.matchId());
+    }
+
+    /**
+     * 커밋된 매치 요약을 다시 읽어 Redis에 저장
+     * 요약 저장에 실패해도 목록 조회는 DB 요약으로 대체되므로 요청을 실패시키지 않는다
+     */
+    private void refreshSummary(Long matchId) {
+        try {
+            List<MatchSummary> summaries = matchRepository.findSummariesByIds(List.of(matchId));
+            summaries.forEach(matchGeoIndex::saveSummary);
+        } catch (Exception e) {
+            log.warn("Failed to refresh match summary: matchId={}", matchId, e);
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package com.hoops.match.application.event;
+
+import com.hoops.match.application.port.out.MatchLifecycleSchedulePort;
+import com.hoops.match.application.port.out.MatchLifecycleSchedulePort.LifecycleEntry;
+import com.hoops.match.application.port.out.MatchRepositoryPort;
+import com.hoops.match.domain.model.Match;
+import com.hoops.match.domain.vo.MatchStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 경기 시작/종료 스케줄 이벤트 리스너
+ * 매치의 현재 상태를 다시 읽어 스케줄을 맞추므로 이벤트 순서와 관계없이 멱등하다
+ * 스케줄 반영에 실패해도 요청을 실패시키지 않는다 (주기 점검 스케줄러가 상태 전환을 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchLifecycleScheduleListener {
+
+    private final MatchLifecycleSchedulePort lifecycleSchedule;
+    private final MatchRepositoryPort matchRepository;
+
+    /**
+     * 생성과 재활성화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchCreated(MatchCreatedEvent event) {
+        refresh(event.matchId());
+    }
+
+    /**
+     * 경기 시간이 바뀌었을 수 있으므로 다시 등록
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchUpdated(MatchUpdatedEvent event) {
+        refresh(event.matchId());
+    }
+
+    /**
+     * 취소
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchRemovedFromGeoIndex(MatchRemovedFromGeoIndexEvent event) {
+        refresh(event.matchId());
+    }
+
+    private void refresh(Long matchId) {
+        try {
+            matchRepository.findById(matchId).ifPresentOrElse(
+                    this::schedule,
+                    () -> lifecycleSchedule.unschedule(matchId));
+        } catch (Exception e) {
+            log.warn("Failed to update match lifecycle schedule: matchId={}", matchId, e);
+        }
+    }
+
+    private void schedule(Match match) {
+        MatchStatus status = match.getStatus();
+        if (status == MatchStatus.CANCELLED || status == MatchStatus.ENDED) {
+            lifecycleSchedule.unschedule(match.getId());
+            return;
+        }
+
+        boolean started = status == MatchStatus.IN_PROGRESS;
+        lifecycleSchedule.schedule(new LifecycleEntry(match.getId(),
+                started ? null : match.getSchedule().startDateTime(),
+                match.getSchedule().endDateTime()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.hoops.match.application.event;
+
+import com.hoops.match.domain.vo.MatchStatus;
+
+/**
+ * 매치 모집 현황 변경 이벤트
+ * 트랜잭션 커밋 후 Redis Geo Index의 상태별 키 이동과 마감 임박순 점수 갱신
+ * 참가 인원 변경(FULL ↔ PENDING 전환 포함), 경기 수정 등으로 발생
+ */
+public record MatchRecruitmentChangedEvent(
+        Long matchId,
+        MatchStatus status,
+        int remainingSlots
+) implements MatchGeoIndexEvent {
+}
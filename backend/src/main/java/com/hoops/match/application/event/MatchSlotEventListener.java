@@ -0,0 +1,61 @@
+package com.hoops.match.application.event;
+
+import com.hoops.match.application.port.out.MatchSlotReservationPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매치 참가 자리 카운터 이벤트 리스너
+ * 트랜잭션 결과에 맞춰 Redis 카운터를 반환하거나 삭제한다
+ * 카운터 반영에 실패해도 DB가 최종 기준이므로 요청을 실패시키지 않고 정합성 복구 스케줄러에 맡긴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchSlotEventListener {
+
+    private final MatchSlotReservationPort slotReservation;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void handleSlotReservedRollback(MatchSlotReservedEvent event) {
+        log.debug("Releasing slot of rolled back reservation: matchId={}", event.matchId());
+        runSafely(event.matchId(), () -> slotReservation.release(event.matchId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSlotReleased(MatchSlotReleasedEvent event) {
+        log.debug("Handling MatchSlotReleasedEvent: matchId={}", event.matchId());
+        runSafely(event.matchId(), () -> slotReservation.release(event.matchId()));
+    }
+
+    /**
+     * 정원 변경, 종료 등으로 남은 자리가 바뀔 수 있으므로 카운터를 삭제하여 다음 예약 시 다시 로드
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchUpdated(MatchUpdatedEvent event) {
+        runSafely(event.matchId(), () -> slotReservation.evict(event.matchId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchRemovedFromGeoIndex(MatchRemovedFromGeoIndexEvent event) {
+        runSafely(event.matchId(), () -> slotReservation.evict(event.matchId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchesStatusChanged(MatchesStatusChangedEvent event) {
+        for (Long matchId : event.matchIds()) {
+            runSafely(matchId, () -> slotReservation.evict(matchId));
+        }
+    }
+
+    private void runSafely(Long matchId, Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("Failed to update slot counter: matchId={}", matchId, e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.hoops.match.application.event;
+
+/**
+ * 매치 참가 자리 반환 이벤트
+ * 참가 취소가 커밋된 후 Redis 카운터에 자리를 반환
+ */
+public record MatchSlotReleasedEvent(
+        Long matchId
+) {
+}
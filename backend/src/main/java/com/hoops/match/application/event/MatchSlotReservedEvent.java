@@ -0,0 +1,10 @@
+package com.hoops.match.application.event;
+
+/**
+ * 매치 참가 자리 예약 이벤트
+ * 예약 이후 트랜잭션이 롤백되면 Redis 카운터에 자리를 반환
+ */
+public record MatchSlotReservedEvent(
+        Long matchId
+) {
+}
@@ -0,0 +1,11 @@
+package com.hoops.match.application.event;
+
+/**
+ * 매치 정보 변경 이벤트
+ * 트랜잭션 커밋 후 매치 조회 캐시 무효화
+ * 경기 수정, 종료 등 Geo Index와 무관한 변경에도 발생
+ */
+public record MatchUpdatedEvent(
+        Long matchId
+) {
+}
@@ -0,0 +1,17 @@
+package com.hoops.match.application.event;
+
+import com.hoops.match.domain.vo.MatchStatus;
+
+import java.util.List;
+
+/**
+ * 스케줄러에 의한 매치 상태 일괄 변경 이벤트 (시작, 종료)
+ * 매치마다 이벤트를 발행하지 않고 한 번에 전달하여, 트랜잭션 커밋 후 Geo Index 제거 등을 Pipeline으로 처리
+ * 경기 시간은 바뀌지 않으므로 일정 인덱스는 갱신하지 않는다
+ * matchIds에는 이번 UPDATE로 실제로 status가 된 매치만 담긴다
+ */
+public record MatchesStatusChangedEvent(
+        List<Long> matchIds,
+        MatchStatus status
+) {
+}
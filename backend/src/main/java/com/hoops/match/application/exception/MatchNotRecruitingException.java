@@ -0,0 +1,18 @@
+package com.hoops.match.application.exception;
+
+import com.hoops.common.exception.DomainException;
+import com.hoops.match.domain.vo.MatchStatus;
+
+/**
+ * 모집 중이 아닌 경기 예외
+ * 참가 검증 이후 경기가 취소되거나 시작되어 참가자를 추가할 수 없을 때 발생합니다
+ */
+public class MatchNotRecruitingException extends DomainException {
+
+    private static final String DEFAULT_ERROR_CODE = "INVALID_MATCH_STATUS";
+
+    public MatchNotRecruitingException(Long matchId, MatchStatus status) {
+        super(DEFAULT_ERROR_CODE,
+                String.format("참가자를 추가할 수 없는 경기 상태입니다. (경기 ID: %d, 상태: %s)", matchId, status));
+    }
+}
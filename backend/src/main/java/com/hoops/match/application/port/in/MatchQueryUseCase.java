@@ -1,9 +1,12 @@
 package com.hoops.match.application.port.in;
 
 import com.hoops.match.application.dto.MatchLocationQueryResult;
+import com.hoops.match.application.dto.MatchSummaryQueryResult;
 import com.hoops.match.domain.model.Match;
+import com.hoops.match.domain.vo.MatchSearchCursor;
 import com.hoops.match.domain.vo.MatchSortType;
 import com.hoops.match.domain.vo.MatchStatus;
+import com.hoops.match.domain.vo.MatchViewport;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -13,7 +16,17 @@ public interface MatchQueryUseCase {
     Match getMatchById(Long matchId);
 
     MatchLocationQueryResult getMatchesByLocation(BigDecimal latitude, BigDecimal longitude, Double radiusKm,
-                                                   int page, int size, MatchStatus status, MatchSortType sortType);
+                                                   int page, int size, MatchStatus status, MatchSortType sortType,
+                                                   MatchSearchCursor cursor);
+
+    /**
+     * 목록 화면용 요약 조회 (상세 설명 제외, 영속성 컨텍스트를 거치지 않음)
+     */
+    MatchSummaryQueryResult getMatchSummariesByLocation(BigDecimal latitude, BigDecimal longitude, Double radiusKm,
+                                                         int page, int size, MatchStatus status,
+                                                         MatchSortType sortType, MatchSearchCursor cursor);
+
+    MatchLocationQueryResult getMatchesInViewport(MatchViewport viewport, int size);
 
     List<Match> getMyHostedMatches(Long hostId);
 }
@@ -0,0 +1,11 @@
+package com.hoops.match.application.port.in;
+
+public interface ReconcileMatchSlotsUseCase {
+
+    /**
+     * Redis 참가 자리 카운터를 DB 기준으로 보정
+     *
+     * @return 보정하거나 삭제한 카운터 수
+     */
+    int reconcileSlots();
+}
@@ -0,0 +1,8 @@
+package com.hoops.match.application.port.in;
+
+import com.hoops.match.application.dto.GeoIndexSyncResult;
+
+public interface SyncGeoIndexUseCase {
+
+    GeoIndexSyncResult syncGeoIndex();
+}
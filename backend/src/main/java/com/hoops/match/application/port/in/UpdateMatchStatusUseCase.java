@@ -5,4 +5,11 @@ public interface UpdateMatchStatusUseCase {
     int startMatches();
 
     int endMatches();
+
+    /**
+     * 시작/종료 스케줄에서 예정 시각이 된 매치만 꺼내 상태를 전환
+     *
+     * @return 상태가 바뀐 매치 수
+     */
+    int advanceScheduledMatches();
 }
@@ -0,0 +1,34 @@
+package com.hoops.match.application.port.out;
+
+import com.hoops.common.schedule.ScheduleInterval;
+import com.hoops.common.schedule.ScheduleOverlapLookup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 호스트별 주최 일정 인덱스 포트
+ * 활성 매치(CANCELLED, ENDED 제외)의 시간 구간을 호스트별로 보관하여 주최 시간 중복 체크에 사용
+ */
+public interface HostingScheduleIndexPort {
+
+    /**
+     * 새 구간과 겹치는 주최 매치 후보 조회
+     * 인덱스가 없으면 loaded=false와 함께 로드에 사용할 세대 번호를 반환
+     */
+    ScheduleOverlapLookup findOverlap(Long hostId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * DB에서 조회한 활성 매치 구간으로 인덱스 로드 (조회 이후 변경이 있었다면 로드하지 않음)
+     */
+    void load(Long hostId, long generation, List<ScheduleInterval> intervals);
+
+    /**
+     * 인덱스가 로드되어 있을 때만 구간 추가
+     */
+    void add(Long hostId, ScheduleInterval interval);
+
+    void invalidate(Long hostId);
+
+    void clearAll();
+}
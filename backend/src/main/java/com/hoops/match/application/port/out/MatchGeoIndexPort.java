@@ -1,23 +1,31 @@
 package com.hoops.match.application.port.out;
 
+import com.hoops.match.application.dto.MatchSummary;
+import com.hoops.match.domain.vo.MatchSearchCursor;
+import com.hoops.match.domain.vo.MatchStatus;
+
 import java.math.BigDecimal;
 import java.util.List;
 
 /**
  * 매치 위치 검색용 Geo Index 포트
  * Redis GeoHash를 활용한 위치 기반 검색 인덱스
+ * 전체 인덱스와 함께 상태별 인덱스를 유지하여 상태 필터 검색 시 필요한 만큼만 조회한다
+ * 남은 자리 기준 긴급도 인덱스를 함께 유지하여 긴급도 정렬도 Redis에서 페이지 단위로 처리한다
+ * 검색 대상 매치의 목록용 요약을 함께 저장하여 목록 조회를 DB 없이 한 번의 왕복으로 처리할 수 있다
  */
 public interface MatchGeoIndexPort {
 
     /**
      * Geo Index에 저장할 매치 정보
      */
-    record GeoIndexEntry(Long matchId, BigDecimal longitude, BigDecimal latitude) {}
+    record GeoIndexEntry(Long matchId, BigDecimal longitude, BigDecimal latitude,
+                         MatchStatus status, int remainingSlots) {}
 
     /**
-     * 매치를 Geo Index에 추가
+     * 매치를 전체 Geo Index, 상태별 Geo Index, 긴급도 인덱스에 추가
      */
-    void addMatch(Long matchId, BigDecimal longitude, BigDecimal latitude);
+    void addMatch(Long matchId, BigDecimal longitude, BigDecimal latitude, MatchStatus status, int remainingSlots);
 
     /**
      * 여러 매치를 Geo Index에 벌크 추가 (Pipeline 사용)
@@ -25,14 +33,67 @@ public interface MatchGeoIndexPort {
     void addMatchesBulk(List<GeoIndexEntry> entries);
 
     /**
-     * 매치를 Geo Index에서 제거
+     * 스테이징 Key에 새 인덱스 구축을 시작하고 재구축 ID를 반환
+     * 재구축이 끝날 때까지 기존 인덱스는 그대로 검색에 사용된다
+     */
+    String beginRebuild();
+
+    /**
+     * 재구축 중인 스테이징 인덱스에 매치와 요약을 추가
+     */
+    void addToRebuild(String rebuildId, List<MatchSummary> summaries);
+
+    /**
+     * 스테이징 인덱스를 RENAME으로 원자적으로 교체하여 검색에 반영
+     */
+    void completeRebuild(String rebuildId);
+
+    /**
+     * 재구축을 중단하고 스테이징 Key를 삭제 (기존 인덱스는 유지)
+     */
+    void abortRebuild(String rebuildId);
+
+    /**
+     * 매치를 전체 Geo Index와 모든 상태별 Geo Index에서 제거하고 저장된 요약도 삭제
      */
     void removeMatch(Long matchId);
 
+    /**
+     * 매치를 새로운 상태의 Geo Index로 이동하고 긴급도 인덱스의 남은 자리를 원자적으로 갱신
+     * 검색 대상이 아닌 상태로 변경되면 인덱스에서 제거한다
+     *
+     * @param matchId 매치 ID
+     * @param status 변경된 상태
+     * @param remainingSlots 남은 자리 수
+     */
+    void updateMatchRecruitment(Long matchId, MatchStatus status, int remainingSlots);
+
+    /**
+     * 매치 요약을 저장하거나 갱신
+     * 검색 대상이 아닌 상태의 요약은 저장하지 않고 제거한다
+     */
+    void saveSummary(MatchSummary summary);
+
+    /**
+     * 여러 매치 요약을 벌크 저장
+     */
+    void saveSummariesBulk(List<MatchSummary> summaries);
+
     /**
      * 거리 정보를 포함한 Geo 검색 결과
+     * 요약을 함께 조회한 경우에만 summary가 채워지며, Redis에 요약이 없으면 null이다
      */
-    record GeoMatchResult(Long matchId, double distanceKm) {}
+    record GeoMatchResult(Long matchId, double distanceKm, MatchSummary summary) {
+
+        public GeoMatchResult(Long matchId, double distanceKm) {
+            this(matchId, distanceKm, null);
+        }
+    }
+
+    /**
+     * 전체 개수를 포함한 Geo 검색 결과 페이지
+     */
+    record GeoMatchPage(List<GeoMatchResult> results, long totalCount) {}
 
     /**
      * 반경 내 매치 ID 목록 조회 (페이지네이션 지원)
@@ -52,14 +113,77 @@ public interface MatchGeoIndexPort {
      * @param longitude 중심점 경도
      * @param latitude 중심점 위도
      * @param radiusKm 반경 (km)
+     * @param status 상태 필터 (null이면 전체 인덱스 조회)
+     * @param offset 시작 위치 (skip할 개수)
+     * @param limit 조회할 최대 개수
+     * @return (거리, ID) 순으로 정렬된 매치 ID + 거리 목록 (커서 조회와 같은 순서)
+     */
+    List<GeoMatchResult> findMatchesWithinRadius(BigDecimal longitude, BigDecimal latitude, double radiusKm,
+                                                 MatchStatus status, int offset, int limit);
+
+    /**
+     * 사각 영역(지도 화면) 내 매치 목록 조회
+     * 정렬하지 않고 limit개를 찾는 즉시 탐색을 종료한다
+     *
+     * @param minLatitude 남쪽 위도
+     * @param minLongitude 서쪽 경도
+     * @param maxLatitude 북쪽 위도
+     * @param maxLongitude 동쪽 경도
+     * @param limit 조회할 최대 개수
+     * @return 영역 내 매치 ID + 영역 중심으로부터의 거리 목록 (순서 보장 없음)
+     */
+    List<GeoMatchResult> findMatchesInBox(BigDecimal minLatitude, BigDecimal minLongitude,
+                                          BigDecimal maxLatitude, BigDecimal maxLongitude, int limit);
+
+    /**
+     * 커서 이후의 반경 내 매치 목록 조회 (거리 오름차순, 같은 거리는 ID 오름차순)
+     * offset만큼 다시 조회하지 않으므로 깊은 페이지도 요청한 개수만 전송된다
+     *
+     * @param longitude 중심점 경도
+     * @param latitude 중심점 위도
+     * @param radiusKm 반경 (km)
+     * @param status 상태 필터 (null이면 전체 인덱스 조회)
+     * @param cursor 이전 페이지의 마지막 매치 (null이면 처음부터)
+     * @param limit 조회할 최대 개수
+     * @return 커서 이후 거리순으로 정렬된 매치 ID + 거리 목록
+     */
+    List<GeoMatchResult> findMatchesWithinRadiusAfter(BigDecimal longitude, BigDecimal latitude, double radiusKm,
+                                                      MatchStatus status, MatchSearchCursor cursor, int limit);
+
+    /**
+     * 커서 이후의 반경 내 매치 목록을 저장된 요약과 함께 조회
+     * 검색과 요약 조회를 하나의 스크립트로 처리하므로 Redis 왕복은 한 번이다
+     *
+     * @return findMatchesWithinRadiusAfter와 같은 순서의 결과 (요약이 없는 매치는 summary가 null)
+     */
+    List<GeoMatchResult> findMatchSummariesWithinRadiusAfter(BigDecimal longitude, BigDecimal latitude, double radiusKm,
+                                                             MatchStatus status, MatchSearchCursor cursor, int limit);
+
+    /**
+     * 반경 내 매치 목록을 긴급도순으로 조회 (남은 자리 오름차순, 같으면 거리 오름차순)
+     *
+     * @param longitude 중심점 경도
+     * @param latitude 중심점 위도
+     * @param radiusKm 반경 (km)
+     * @param status 상태 필터 (null이면 전체 인덱스 조회)
      * @param offset 시작 위치 (skip할 개수)
      * @param limit 조회할 최대 개수
-     * @return 거리순으로 정렬된 매치 ID + 거리 목록
+     * @return 긴급도순으로 정렬된 매치 ID + 거리 목록과 반경 내 전체 개수
      */
-    List<GeoMatchResult> findMatchesWithinRadius(BigDecimal longitude, BigDecimal latitude, double radiusKm, int offset, int limit);
+    GeoMatchPage findMatchesByUrgencyWithinRadius(BigDecimal longitude, BigDecimal latitude, double radiusKm,
+                                                  MatchStatus status, int offset, int limit);
+
+    /**
+     * 반경 내 매치 목록을 긴급도순으로 저장된 요약과 함께 조회
+     *
+     * @return findMatchesByUrgencyWithinRadius와 같은 페이지 (요약이 없는 매치는 summary가 null)
+     */
+    GeoMatchPage findMatchSummariesByUrgencyWithinRadius(BigDecimal longitude, BigDecimal latitude, double radiusKm,
+                                                         MatchStatus status, int offset, int limit);
 
     /**
      * 반경 내 매치 개수 조회
+     * 멤버 목록을 전송하지 않고 Redis 서버에서 센 개수만 반환한다
      *
      * @param longitude 중심점 경도
      * @param latitude 중심점 위도
@@ -73,6 +197,29 @@ public interface MatchGeoIndexPort {
      */
     List<Long> findAllMatchIds();
 
+    /**
+     * 전체 Geo Index의 매치 ID를 batchSize 단위로 나눠 스캔하여 오름차순 배열로 반환
+     * 한 번에 전체 멤버를 전송하지 않아 Redis를 오래 점유하지 않고, 박싱 없이 보관한다
+     *
+     * @param batchSize 스캔 한 번에 요청할 멤버 수 (ZSCAN COUNT)
+     * @return 중복 없는 오름차순 매치 ID 배열
+     */
+    long[] scanAllMatchIds(int batchSize);
+
+    /**
+     * DB 요약과 비교하여 상태별 Geo Index, 긴급도 인덱스의 남은 자리, 저장된 요약 중 하나라도 다른 매치 ID 조회 (정합성 체크용)
+     * 전체 Geo Index에 들어 있는 매치의 요약만 전달한다
+     *
+     * @param expected DB에서 조회한 매치 요약
+     * @return Redis 상태가 DB와 다른 매치 ID 목록
+     */
+    List<Long> findDriftedMatchIds(List<MatchSummary> expected);
+
+    /**
+     * 여러 매치를 Geo Index에서 벌크 제거 (Pipeline 사용)
+     */
+    void removeMatchesBulk(List<Long> matchIds);
+
     /**
      * 전체 인덱스 초기화
      */
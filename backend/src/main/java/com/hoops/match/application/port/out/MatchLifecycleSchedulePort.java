@@ -0,0 +1,48 @@
+package com.hoops.match.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 경기 시작/종료 예정 시각 스케줄 포트
+ * 진행 예정 매치의 시작 시각과 종료 시각을 보관하고, 시각이 된 매치를 꺼내 상태 전환에 사용
+ */
+public interface MatchLifecycleSchedulePort {
+
+    /**
+     * 시작/종료 예정 시각 등록 (이미 등록된 매치는 시각만 갱신)
+     * startAt이 null이면 이미 시작된 매치로 보고 종료 시각만 남긴다
+     */
+    void schedule(LifecycleEntry entry);
+
+    void scheduleAll(List<LifecycleEntry> entries);
+
+    void unschedule(Long matchId);
+
+    /**
+     * 시작 시각이 now 이전인 매치를 최대 limit건 꺼낸다
+     * 꺼낸 매치는 스케줄에서 제거되므로 여러 인스턴스가 동시에 호출해도 한 곳에서만 반환된다
+     */
+    List<Long> pollDueStarts(LocalDateTime now, int limit);
+
+    /**
+     * 종료 시각이 now 이전인 매치를 최대 limit건 꺼낸다
+     */
+    List<Long> pollDueEnds(LocalDateTime now, int limit);
+
+    /**
+     * 꺼낸 뒤 전환에 실패한 매치를 시작 스케줄에 dueAt으로 다시 등록
+     * 이미 다른 시각으로 다시 등록된 매치는 그 시각을 유지한다
+     */
+    void requeueStarts(List<Long> matchIds, LocalDateTime dueAt);
+
+    /**
+     * 꺼낸 뒤 전환에 실패한 매치를 종료 스케줄에 dueAt으로 다시 등록
+     */
+    void requeueEnds(List<Long> matchIds, LocalDateTime dueAt);
+
+    void clearAll();
+
+    record LifecycleEntry(Long matchId, LocalDateTime startAt, LocalDateTime endAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.hoops.match.application.port.out;
 
+import com.hoops.match.application.dto.MatchSummary;
 import com.hoops.match.domain.model.Match;
 import com.hoops.match.domain.vo.MatchStatus;
 
@@ -18,31 +19,68 @@ public interface MatchRepositoryPort {
     Optional<Match> findById(Long id);
 
     /**
-     * 비관적 락을 사용하여 경기 조회
-     * 참가자 수 변경 시 Race Condition 방지용
+     * 남은 자리가 있을 때만 참가자 수를 1 증가 (정원 도달 시 FULL)
+     * 행 락 없이 조건부 UPDATE 한 번으로 처리한다
+     *
+     * @return 증가했으면 true, 매치가 없거나 정원이 찼거나 모집 중(PENDING, CONFIRMED)이 아니면 false
      */
-    Optional<Match> findByIdWithLock(Long id);
+    boolean tryIncrementParticipants(Long matchId);
+
+    /**
+     * 참가자가 있을 때만 참가자 수를 1 감소 (FULL이었다면 PENDING)
+     *
+     * @return 감소했으면 true, 매치가 없거나 참가자가 없으면 false
+     */
+    boolean decrementParticipants(Long matchId);
 
     List<Match> findAllByLocation(BigDecimal latitude, BigDecimal longitude, BigDecimal distance, int page, int size);
 
-    List<Match> findMatchesToStart(LocalDate date, LocalTime time, List<MatchStatus> statuses);
+    /**
+     * 시작 시간이 지난 매치 ID 조회 (statuses 상태만)
+     */
+    List<Long> findMatchIdsToStart(LocalDate date, LocalTime time, List<MatchStatus> statuses);
 
-    List<Match> findMatchesToEnd(LocalDate date, LocalTime time, MatchStatus status);
+    /**
+     * 종료 시간이 지난 매치 ID 조회 (status 상태만)
+     */
+    List<Long> findMatchIdsToEnd(LocalDate date, LocalTime time, MatchStatus status);
+
+    /**
+     * 지정한 매치 중 아직 fromStatuses 상태인 매치만 toStatus로 일괄 변경
+     * 매치를 읽지 않고 UPDATE 한 번으로 처리한다
+     *
+     * @return 실제로 변경된 매치 수
+     */
+    int updateStatus(List<Long> matchIds, List<MatchStatus> fromStatuses, MatchStatus toStatus);
 
     List<Match> findByHostId(Long hostId);
 
     List<Match> findActiveMatchesByHostId(Long hostId);
 
+    /**
+     * DB에서 직접 조회 (참가 검증 등 쓰기 경로용)
+     */
     List<Match> findAllByIds(List<Long> ids);
 
     /**
-     * 검색 대상 매치 조회 (PENDING, CONFIRMED 상태)
+     * Near Cache를 거쳐 조회 (검색 결과 조회 전용, 최대 TTL만큼 오래된 스냅샷일 수 있음)
+     */
+    List<Match> findAllByIdsCached(List<Long> ids);
+
+    /**
+     * 목록 조회용 요약 정보 조회 (읽기 전용, 순서 보장 없음)
+     */
+    List<MatchSummary> findSummariesByIds(List<Long> ids);
+
+    /**
+     * Geo Index 대상 매치 요약을 ID 오름차순으로 lastId 이후부터 limit개 조회 (PENDING, CONFIRMED, FULL 상태)
+     * 전체 테이블을 한 번에 읽지 않도록 청크 단위로 반복 호출한다
      */
-    List<Match> findAllSearchableMatches();
+    List<MatchSummary> findIndexableSummariesAfter(Long lastId, int limit);
 
     /**
-     * 검색 대상 매치 ID만 조회 (메모리 효율적)
-     * Geo Sync 스케줄러에서 사용
+     * Geo Index 대상 매치 ID를 오름차순으로 lastId 이후부터 limit개 조회 (PENDING, CONFIRMED, FULL 상태)
+     * Geo Sync에서 Redis ID 목록과 청크 단위로 병합 비교할 때 사용
      */
-    List<Long> findSearchableMatchIds();
+    List<Long> findIndexableMatchIdsAfter(Long lastId, int limit);
 }
@@ -0,0 +1,62 @@
+package com.hoops.match.application.port.out;
+
+import java.util.Map;
+
+/**
+ * 매치 참가 자리 예약 포트
+ *
+ * 매치별 남은 자리 카운터를 Redis에 두고 원자적으로 차감하여,
+ * 정원이 찬 매치에 대한 승인 요청은 DB 행 락을 잡기 전에 거절한다.
+ * DB의 current_participants가 최종 기준이며 카운터는 앞단 필터 역할만 한다.
+ */
+public interface MatchSlotReservationPort {
+
+    /**
+     * 자리 예약 결과
+     */
+    enum ReservationResult {
+        /** 남은 자리를 하나 차감함 */
+        RESERVED,
+        /** 남은 자리가 없어 거절함 */
+        REJECTED,
+        /** 카운터가 아직 로드되지 않음 */
+        NOT_LOADED
+    }
+
+    /**
+     * 남은 자리가 있으면 하나를 차감
+     */
+    ReservationResult tryReserve(Long matchId);
+
+    /**
+     * 카운터가 없을 때만 DB 기준 남은 자리로 초기화 (다른 요청이 먼저 초기화했다면 유지)
+     */
+    void loadIfAbsent(Long matchId, int remainingSlots);
+
+    /**
+     * 예약한 자리를 반환 (카운터가 없으면 무시)
+     */
+    void release(Long matchId);
+
+    /**
+     * 카운터를 DB 기준 남은 자리로 덮어쓰기 (정합성 복구용)
+     */
+    void resetRemainingSlots(Long matchId, int remainingSlots);
+
+    /**
+     * 카운터 삭제 (다음 예약 시 DB에서 다시 로드)
+     */
+    void evict(Long matchId);
+
+    /**
+     * 로드된 모든 카운터 조회 (정합성 체크용)
+     *
+     * @return 매치 ID별 남은 자리
+     */
+    Map<Long, Integer> findAllRemainingSlots();
+
+    /**
+     * 모든 카운터 삭제
+     */
+    void clearAll();
+}
@@ -1,9 +1,8 @@
 package com.hoops.match.application.scheduler;
 
+import com.hoops.match.application.dto.MatchSummary;
 import com.hoops.match.application.port.out.MatchGeoIndexPort;
-import com.hoops.match.application.port.out.MatchGeoIndexPort.GeoIndexEntry;
 import com.hoops.match.application.port.out.MatchRepositoryPort;
-import com.hoops.match.domain.model.Match;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -13,13 +12,19 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 
 /**
- * 애플리케이션 시작 시 MySQL의 검색 대상 매치를 Redis Geo Index에 로드
+ * 애플리케이션 시작 시 MySQL의 검색 대상 매치와 목록용 요약을 Redis Geo Index에 로드
+ *
+ * 기존 인덱스를 비우지 않고 스테이징 Key에 새 인덱스를 만든 뒤 한 번에 교체하므로
+ * 롤링 배포 중에도 다른 인스턴스는 기존 인덱스로 계속 검색한다.
+ * 매치는 ID 순서의 청크 단위로 읽어 테이블 크기와 관계없이 힙 사용량이 일정하다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class GeoDataInitializer {
 
+    private static final int CHUNK_SIZE = 1000;
+
     private final MatchRepositoryPort matchRepository;
     private final MatchGeoIndexPort matchGeoIndex;
 
@@ -27,20 +32,31 @@ public class GeoDataInitializer {
     public void initializeGeoData() {
         log.info("Starting Geo Index initialization...");
 
-        matchGeoIndex.clearAll();
-
-        List<Match> searchableMatches = matchRepository.findAllSearchableMatches();
-
-        List<GeoIndexEntry> entries = searchableMatches.stream()
-                .map(match -> new GeoIndexEntry(
-                        match.getId(),
-                        match.getLongitude(),
-                        match.getLatitude()
-                ))
-                .toList();
-
-        matchGeoIndex.addMatchesBulk(entries);
-
-        log.info("Geo Index initialization completed. Loaded {} matches.", entries.size());
+        String rebuildId = matchGeoIndex.beginRebuild();
+        long loaded = 0;
+        try {
+            Long lastId = 0L;
+            List<MatchSummary> chunk;
+            do {
+                chunk = matchRepository.findIndexableSummariesAfter(lastId, CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                matchGeoIndex.addToRebuild(rebuildId, chunk);
+                loaded += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).id();
+            } while (chunk.size() == CHUNK_SIZE);
+
+            matchGeoIndex.completeRebuild(rebuildId);
+        } catch (RuntimeException e) {
+            try {
+                matchGeoIndex.abortRebuild(rebuildId);
+            } catch (RuntimeException abortFailure) {
+                e.addSuppressed(abortFailure);
+            }
+            throw e;
+        }
+
+        log.info("Geo Index initialization completed. Loaded {} matches.", loaded);
     }
 }
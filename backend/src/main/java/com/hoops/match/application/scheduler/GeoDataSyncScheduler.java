@@ -1,72 +1,37 @@
 package com.hoops.match.application.scheduler;
 
-import com.hoops.match.application.port.out.MatchGeoIndexPort;
-import com.hoops.match.application.port.out.MatchGeoIndexPort.GeoIndexEntry;
-import com.hoops.match.application.port.out.MatchRepositoryPort;
-import com.hoops.match.domain.model.Match;
+import com.hoops.match.application.dto.GeoIndexSyncResult;
+import com.hoops.match.application.port.in.SyncGeoIndexUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 /**
  * MySQL과 Redis Geo Index 간 정합성 체크 및 복구 스케줄러
+ *
+ * 청크 단위 병합 비교와 Pipeline 복구로 실행 비용이 작아 5분마다 실행한다.
+ * lockAtLeastFor: 최소 1분 락 유지 (인스턴스 간 시계 오차로 인한 중복 실행 방지)
+ * lockAtMostFor: 최대 4분 (다음 주기 전에 자동 해제)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class GeoDataSyncScheduler {
 
-    private final MatchRepositoryPort matchRepository;
-    private final MatchGeoIndexPort matchGeoIndex;
+    private final SyncGeoIndexUseCase syncGeoIndexUseCase;
 
-    @Scheduled(cron = "0 0 * * * *") // 매시간 실행
-    @SchedulerLock(name = "GeoDataSyncScheduler", lockAtMostFor = "PT30M", lockAtLeastFor = "PT5M")
+    @Scheduled(cron = "0 */5 * * * *") // 5분마다 실행
+    @SchedulerLock(name = "GeoDataSyncScheduler", lockAtMostFor = "PT4M", lockAtLeastFor = "PT1M")
     public void syncGeoData() {
-        log.info("Starting Geo Index sync check...");
-
-        // 메모리 효율: ID만 조회
-        Set<Long> mysqlIds = new HashSet<>(matchRepository.findSearchableMatchIds());
-        Set<Long> redisIds = new HashSet<>(matchGeoIndex.findAllMatchIds());
-
-        // MySQL에는 있지만 Redis에는 없는 매치 추가
-        List<Long> missingIds = mysqlIds.stream()
-                .filter(id -> !redisIds.contains(id))
-                .toList();
-
-        if (!missingIds.isEmpty()) {
-            // 누락된 매치만 DB에서 조회하여 추가
-            List<Match> missingMatches = matchRepository.findAllByIds(missingIds);
-            List<GeoIndexEntry> entries = missingMatches.stream()
-                    .map(match -> new GeoIndexEntry(
-                            match.getId(),
-                            match.getLongitude(),
-                            match.getLatitude()
-                    ))
-                    .toList();
+        log.debug("Starting Geo Index sync check...");
 
-            matchGeoIndex.addMatchesBulk(entries);
+        GeoIndexSyncResult result = syncGeoIndexUseCase.syncGeoIndex();
 
-            for (Long matchId : missingIds) {
-                log.warn("Added missing match to Redis: matchId={}", matchId);
-            }
+        if (result.missingCount() > 0 || result.orphanCount() > 0 || result.staleCount() > 0) {
+            log.info("Geo Index sync completed. Added: {}, Removed: {}, Repaired: {}",
+                    result.missingCount(), result.orphanCount(), result.staleCount());
         }
-
-        // Redis에는 있지만 MySQL에는 없는 매치 제거
-        int removedCount = 0;
-        for (Long redisId : redisIds) {
-            if (!mysqlIds.contains(redisId)) {
-                matchGeoIndex.removeMatch(redisId);
-                removedCount++;
-                log.warn("Removed orphan match from Redis: matchId={}", redisId);
-            }
-        }
-
-        log.info("Geo Index sync completed. Added: {}, Removed: {}", missingIds.size(), removedCount);
     }
 }
@@ -0,0 +1,60 @@
+package com.hoops.match.application.scheduler;
+
+import com.hoops.match.application.dto.MatchSummary;
+import com.hoops.match.application.port.out.MatchLifecycleSchedulePort;
+import com.hoops.match.application.port.out.MatchLifecycleSchedulePort.LifecycleEntry;
+import com.hoops.match.application.port.out.MatchRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 시작 전 매치의 시작/종료 예정 시각을 스케줄에 등록
+ *
+ * 등록은 멱등하므로 기존 스케줄을 비우지 않고 덮어쓴다.
+ * 진행 중인 매치는 대상이 아니며 주기 점검 스케줄러가 종료 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchLifecycleScheduleInitializer {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final MatchRepositoryPort matchRepository;
+    private final MatchLifecycleSchedulePort lifecycleSchedule;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeLifecycleSchedule() {
+        long loaded = 0;
+        try {
+            Long lastId = 0L;
+            List<MatchSummary> chunk;
+            do {
+                chunk = matchRepository.findIndexableSummariesAfter(lastId, CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                lifecycleSchedule.scheduleAll(chunk.stream().map(this::toEntry).toList());
+                loaded += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).id();
+            } while (chunk.size() == CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("Match lifecycle schedule initialization failed after {} matches", loaded, e);
+            return;
+        }
+
+        log.info("Match lifecycle schedule initialization completed. Scheduled {} matches.", loaded);
+    }
+
+    private LifecycleEntry toEntry(MatchSummary summary) {
+        return new LifecycleEntry(summary.id(),
+                LocalDateTime.of(summary.matchDate(), summary.startTime()),
+                LocalDateTime.of(summary.matchDate(), summary.endTime()));
+    }
+}
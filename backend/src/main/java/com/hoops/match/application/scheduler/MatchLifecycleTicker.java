@@ -0,0 +1,34 @@
+package com.hoops.match.application.scheduler;
+
+import com.hoops.match.application.port.in.UpdateMatchStatusUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경기 시작/종료 스케줄 처리기
+ *
+ * 1초마다 예정 시각이 된 매치만 스케줄에서 꺼내 상태를 전환한다.
+ * 꺼내기가 원자적이어서 모든 인스턴스가 실행해도 같은 매치를 중복 처리하지 않으므로 ShedLock을 사용하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchLifecycleTicker {
+
+    private final UpdateMatchStatusUseCase updateMatchStatusUseCase;
+
+    @Scheduled(fixedDelay = 1000) // 직전 실행 종료 후 1초
+    public void advanceScheduledMatches() {
+        try {
+            int changedCount = updateMatchStatusUseCase.advanceScheduledMatches();
+            if (changedCount > 0) {
+                log.info("예약된 경기 상태 전환 완료: {}건", changedCount);
+            }
+        } catch (RuntimeException e) {
+            // 놓친 전환은 주기 점검 스케줄러가 처리한다
+            log.warn("예약된 경기 상태 전환 실패", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.hoops.match.application.scheduler;
+
+import com.hoops.match.application.port.in.ReconcileMatchSlotsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 참가 자리 카운터 정합성 복구 스케줄러
+ *
+ * lockAtLeastFor: 최소 1분 락 유지 (인스턴스 간 시계 오차로 인한 중복 실행 방지)
+ * lockAtMostFor: 최대 4분 (다음 주기 전에 자동 해제)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchSlotReconciliationScheduler {
+
+    private final ReconcileMatchSlotsUseCase reconcileMatchSlotsUseCase;
+
+    @Scheduled(cron = "30 */5 * * * *") // 5분마다 실행 (Geo Sync와 30초 간격)
+    @SchedulerLock(name = "MatchSlotReconciliationScheduler", lockAtMostFor = "PT4M", lockAtLeastFor = "PT1M")
+    public void reconcileSlots() {
+        int corrected = reconcileMatchSlotsUseCase.reconcileSlots();
+
+        if (corrected > 0) {
+            log.info("Slot counter reconciliation completed. Corrected: {}", corrected);
+        }
+    }
+}
@@ -8,8 +8,10 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * 경기 상태 자동 업데이트 스케줄러
+ * 경기 상태 주기 점검 스케줄러
  *
+ * 제시간 전환은 MatchLifecycleTicker가 시작/종료 스케줄로 처리하고,
+ * 이 스케줄러는 스케줄에서 누락된 매치를 DB 조회로 찾아 전환하는 안전망으로 5분마다 실행한다.
  * 분산 환경에서 ShedLock을 통해 단일 인스턴스만 실행되도록 보장한다.
  */
 @Slf4j
@@ -25,14 +27,14 @@ public class MatchStatusScheduler {
      * - 시작 시간이 지난 경기: PENDING/CONFIRMED/FULL → IN_PROGRESS
      * - 종료 시간이 지난 경기: IN_PROGRESS → ENDED
      *
-     * lockAtLeastFor: 최소 50초 락 유지 (60초 주기보다 짧게 설정하여 중복 실행 방지)
-     * lockAtMostFor: 최대 5분 (장애 시 자동 해제)
+     * lockAtLeastFor: 최소 1분 락 유지 (인스턴스 간 시계 오차로 인한 중복 실행 방지)
+     * lockAtMostFor: 최대 4분 (다음 주기 전에 자동 해제)
      */
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    @Scheduled(cron = "0 */5 * * * *") // 5분마다 실행
     @SchedulerLock(
             name = "updateMatchStatuses",
-            lockAtLeastFor = "PT50S",
-            lockAtMostFor = "PT5M"
+            lockAtLeastFor = "PT1M",
+            lockAtMostFor = "PT4M"
     )
     public void updateMatchStatuses() {
         log.debug("경기 상태 업데이트 스케줄러 실행");
@@ -0,0 +1,146 @@
+package com.hoops.match.application.service;
+
+import com.hoops.match.application.dto.GeoIndexSyncResult;
+import com.hoops.match.application.dto.MatchSummary;
+import com.hoops.match.application.port.in.SyncGeoIndexUseCase;
+import com.hoops.match.application.port.out.MatchGeoIndexPort;
+import com.hoops.match.application.port.out.MatchGeoIndexPort.GeoIndexEntry;
+import com.hoops.match.application.port.out.MatchRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL과 Redis Geo Index 간 정합성 동기화
+ *
+ * Redis ID를 먼저 스캔해 정렬된 스냅샷을 만든 뒤, MySQL ID를 오름차순 청크로 읽으며 병합 비교한다.
+ * 스냅샷 이후 생성된 매치는 비교 대상에 없으므로 고아로 잘못 제거되지 않는다.
+ * 누락/고아 매치는 청크마다 Pipeline으로 한 번에 복구한다.
+ * 양쪽에 모두 있는 매치는 상태별 Geo Index, 긴급도 인덱스의 남은 자리, 저장된 요약까지 DB와 비교하여
+ * 이벤트 반영 순서가 뒤바뀌거나 반영에 실패해 남은 오래된 값을 바로잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeoIndexSynchronizer implements SyncGeoIndexUseCase {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final String DRIFT_METRIC = "match.geo.sync.drift";
+    private static final String REPAIRED_METRIC = "match.geo.sync.repaired";
+    private static final String DURATION_METRIC = "match.geo.sync.duration";
+
+    private final MatchRepositoryPort matchRepository;
+    private final MatchGeoIndexPort matchGeoIndex;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public GeoIndexSyncResult syncGeoIndex() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        long[] redisIds = matchGeoIndex.scanAllMatchIds(CHUNK_SIZE);
+        int redisCursor = 0;
+        int missingCount = 0;
+        int orphanCount = 0;
+        int staleCount = 0;
+
+        Long lastId = 0L;
+        List<Long> mysqlIds;
+        do {
+            mysqlIds = matchRepository.findIndexableMatchIdsAfter(lastId, CHUNK_SIZE);
+            List<Long> missingIds = new ArrayList<>();
+            List<Long> orphanIds = new ArrayList<>();
+            List<Long> matchedIds = new ArrayList<>();
+
+            for (Long mysqlId : mysqlIds) {
+                while (redisCursor < redisIds.length && redisIds[redisCursor] < mysqlId) {
+                    orphanIds.add(redisIds[redisCursor++]);
+                }
+                if (redisCursor < redisIds.length && redisIds[redisCursor] == mysqlId) {
+                    redisCursor++;
+                    matchedIds.add(mysqlId);
+                } else {
+                    missingIds.add(mysqlId);
+                }
+            }
+
+            // 마지막 청크 이후 남은 Redis ID는 MySQL에 없는 매치
+            if (mysqlIds.size() < CHUNK_SIZE) {
+                while (redisCursor < redisIds.length) {
+                    orphanIds.add(redisIds[redisCursor++]);
+                }
+            }
+
+            missingCount += addMissing(missingIds);
+            orphanCount += removeOrphans(orphanIds);
+            staleCount += repairStale(matchedIds);
+
+            if (!mysqlIds.isEmpty()) {
+                lastId = mysqlIds.get(mysqlIds.size() - 1);
+            }
+        } while (mysqlIds.size() == CHUNK_SIZE);
+
+        sample.stop(meterRegistry.timer(DURATION_METRIC));
+        return new GeoIndexSyncResult(missingCount, orphanCount, staleCount);
+    }
+
+    private int addMissing(List<Long> missingIds) {
+        if (missingIds.isEmpty()) {
+            return 0;
+        }
+        meterRegistry.counter(DRIFT_METRIC, "type", "missing").increment(missingIds.size());
+
+        // 비교 이후 상태가 바뀐 매치는 요약 조회 시점의 상태로 추가되거나 제외된다
+        List<MatchSummary> summaries = matchRepository.findSummariesByIds(missingIds);
+        List<GeoIndexEntry> entries = summaries.stream()
+                .map(summary -> new GeoIndexEntry(summary.id(), summary.longitude(), summary.latitude(),
+                        summary.status(), summary.remainingSlots()))
+                .toList();
+        matchGeoIndex.addMatchesBulk(entries);
+        matchGeoIndex.saveSummariesBulk(summaries);
+
+        meterRegistry.counter(REPAIRED_METRIC, "type", "missing").increment(entries.size());
+        log.warn("Added missing matches to Redis: matchIds={}", missingIds);
+        return entries.size();
+    }
+
+    private int repairStale(List<Long> matchedIds) {
+        if (matchedIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> staleIds = matchGeoIndex.findDriftedMatchIds(matchRepository.findSummariesByIds(matchedIds));
+        if (staleIds.isEmpty()) {
+            return 0;
+        }
+        meterRegistry.counter(DRIFT_METRIC, "type", "stale").increment(staleIds.size());
+
+        // 비교 이후 바뀐 매치를 비교 시점의 값으로 되돌리지 않도록 DB에서 다시 읽어 반영한다
+        List<MatchSummary> summaries = matchRepository.findSummariesByIds(staleIds);
+        for (MatchSummary summary : summaries) {
+            matchGeoIndex.updateMatchRecruitment(summary.id(), summary.status(), summary.remainingSlots());
+        }
+        matchGeoIndex.saveSummariesBulk(summaries);
+
+        meterRegistry.counter(REPAIRED_METRIC, "type", "stale").increment(summaries.size());
+        log.warn("Repaired stale matches in Redis: matchIds={}", staleIds);
+        return summaries.size();
+    }
+
+    private int removeOrphans(List<Long> orphanIds) {
+        if (orphanIds.isEmpty()) {
+            return 0;
+        }
+        meterRegistry.counter(DRIFT_METRIC, "type", "orphan").increment(orphanIds.size());
+
+        matchGeoIndex.removeMatchesBulk(orphanIds);
+
+        meterRegistry.counter(REPAIRED_METRIC, "type", "orphan").increment(orphanIds.size());
+        log.warn("Removed orphan matches from Redis: matchIds={}", orphanIds);
+        return orphanIds.size();
+    }
+}
@@ -1,5 +1,6 @@
 package com.hoops.match.application.service;
 
+import com.hoops.common.event.MatchCancelledEvent;
 import com.hoops.match.application.event.MatchRemovedFromGeoIndexEvent;
 import com.hoops.match.application.exception.CancelReasonRequiredException;
 import com.hoops.match.application.exception.MatchNotFoundException;
@@ -12,6 +13,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -31,6 +34,8 @@ public class MatchCanceller implements CancelMatchUseCase {
         matchRepository.save(match);
 
         eventPublisher.publishEvent(new MatchRemovedFromGeoIndexEvent(match.getId()));
+        eventPublisher.publishEvent(new MatchCancelledEvent(match.getId(), match.getHostId(),
+                match.getTitle(), LocalDateTime.now()));
     }
 
     private void validateReason(CancelMatchCommand command) {
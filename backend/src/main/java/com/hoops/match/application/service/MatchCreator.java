@@ -1,5 +1,7 @@
 package com.hoops.match.application.service;
 
+import com.hoops.common.schedule.ScheduleInterval;
+import com.hoops.common.schedule.ScheduleOverlapLookup;
 import com.hoops.match.application.dto.HostInfoResult;
 import com.hoops.match.application.dto.LocationInfoResult;
 import com.hoops.match.application.event.MatchCreatedEvent;
@@ -7,6 +9,7 @@ import com.hoops.match.application.exception.OverlappingHostingException;
 import com.hoops.match.application.port.in.CreateMatchCommand;
 import com.hoops.match.application.port.in.CreateMatchUseCase;
 import com.hoops.match.application.port.out.HostInfoPort;
+import com.hoops.match.application.port.out.HostingScheduleIndexPort;
 import com.hoops.match.application.port.out.LocationInfoPort;
 import com.hoops.match.domain.model.Match;
 import com.hoops.match.domain.policy.MatchPolicyValidator;
@@ -15,12 +18,14 @@ import com.hoops.match.domain.vo.MatchHost;
 import com.hoops.match.domain.vo.MatchLocation;
 import com.hoops.match.domain.vo.MatchSchedule;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -31,6 +36,7 @@ public class MatchCreator implements CreateMatchUseCase {
     private final LocationInfoPort locationInfoPort;
     private final MatchPolicyValidator policyValidator;
     private final ApplicationEventPublisher eventPublisher;
+    private final HostingScheduleIndexPort scheduleIndex;
 
     @Override
     public Match createMatch(CreateMatchCommand command) {
@@ -67,19 +73,65 @@ public class MatchCreator implements CreateMatchUseCase {
         eventPublisher.publishEvent(new MatchCreatedEvent(
                 savedMatch.getId(),
                 savedMatch.getLongitude(),
-                savedMatch.getLatitude()
+                savedMatch.getLatitude(),
+                savedMatch.getStatus(),
+                savedMatch.getRemainingSlots()
         ));
 
         return savedMatch;
     }
 
+    /**
+     * 호스트 주최 일정 인덱스로 먼저 판단하고, 인덱스가 없거나 겹치는 후보가 있을 때만 DB로 확인
+     */
     private void validateNoOverlappingHosting(Long hostId, MatchSchedule newSchedule) {
+        ScheduleOverlapLookup lookup = lookupScheduleIndex(hostId, newSchedule);
+        if (lookup != null && lookup.loaded() && !lookup.hasOverlap()) {
+            return;
+        }
+
         List<Match> activeMatches = matchRepository.findActiveMatchesByHostId(hostId);
+        if (lookup != null && !lookup.loaded()) {
+            loadScheduleIndex(hostId, lookup.generation(), activeMatches);
+        }
 
         for (Match existingMatch : activeMatches) {
             if (existingMatch.getSchedule().overlapsWith(newSchedule)) {
                 throw new OverlappingHostingException(existingMatch.getId());
             }
         }
+
+        if (lookup != null && lookup.hasOverlap()) {
+            // DB에서 확인되지 않은 후보는 오래된 구간이므로 인덱스를 버리고 다음 체크에서 다시 로드
+            runSafely(hostId, () -> scheduleIndex.invalidate(hostId));
+        }
+    }
+
+    /**
+     * @return 조회 결과, Redis 장애 시 null (DB로 판단)
+     */
+    private ScheduleOverlapLookup lookupScheduleIndex(Long hostId, MatchSchedule schedule) {
+        try {
+            return scheduleIndex.findOverlap(hostId, schedule.startDateTime(), schedule.endDateTime());
+        } catch (RuntimeException e) {
+            log.warn("Hosting schedule index lookup failed, falling back to DB: hostId={}", hostId, e);
+            return null;
+        }
+    }
+
+    private void loadScheduleIndex(Long hostId, long generation, List<Match> activeMatches) {
+        List<ScheduleInterval> intervals = activeMatches.stream()
+                .map(match -> new ScheduleInterval(match.getId(),
+                        match.getSchedule().startDateTime(), match.getSchedule().endDateTime()))
+                .toList();
+        runSafely(hostId, () -> scheduleIndex.load(hostId, generation, intervals));
+    }
+
+    private void runSafely(Long hostId, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("Failed to update hosting schedule index: hostId={}", hostId, e);
+        }
     }
 }
@@ -1,21 +1,29 @@
 package com.hoops.match.application.service;
 
 import com.hoops.match.application.dto.MatchLocationQueryResult;
+import com.hoops.match.application.dto.MatchSummary;
+import com.hoops.match.application.dto.MatchSummaryQueryResult;
+import com.hoops.match.application.dto.MatchSummaryWithDistance;
 import com.hoops.match.application.dto.MatchWithDistance;
 import com.hoops.match.application.exception.MatchNotFoundException;
 import com.hoops.match.application.port.in.MatchQueryUseCase;
 import com.hoops.match.application.port.out.MatchGeoIndexPort;
+import com.hoops.match.application.port.out.MatchGeoIndexPort.GeoMatchPage;
 import com.hoops.match.application.port.out.MatchGeoIndexPort.GeoMatchResult;
 import com.hoops.match.application.port.out.MatchRepositoryPort;
+import com.hoops.match.domain.exception.InvalidPageSizeException;
 import com.hoops.match.domain.model.Match;
+import com.hoops.match.domain.vo.MatchSearchCursor;
 import com.hoops.match.domain.vo.MatchSortType;
 import com.hoops.match.domain.vo.MatchStatus;
+import com.hoops.match.domain.vo.MatchViewport;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,7 +36,7 @@ import java.util.stream.Collectors;
 public class MatchFinder implements MatchQueryUseCase {
 
     private static final double DEFAULT_MAX_RADIUS_KM = 50.0;
-    private static final int MAX_FETCH_SIZE = 1000;
+    private static final int MAX_VIEWPORT_SIZE = 300;
 
     private final MatchRepositoryPort matchRepository;
     private final MatchGeoIndexPort matchGeoIndex;
@@ -42,63 +50,147 @@ public class MatchFinder implements MatchQueryUseCase {
     @Override
     public MatchLocationQueryResult getMatchesByLocation(BigDecimal latitude, BigDecimal longitude,
                                                           Double radiusKm, int page, int size,
-                                                          MatchStatus status, MatchSortType sortType) {
+                                                          MatchStatus status, MatchSortType sortType,
+                                                          MatchSearchCursor cursor) {
+        GeoSearchPage geoPage = searchGeoIndex(latitude, longitude, radiusKm, page, size, status, sortType, cursor, false);
+        if (geoPage.results().isEmpty()) {
+            return new MatchLocationQueryResult(List.of(), geoPage.totalCount(), false, null);
+        }
+
+        List<MatchWithDistance> ordered = hydrate(geoPage.results());
+
+        // Geo Index 상태 이동은 커밋 이후 반영되므로 DB 상태 기준으로 한 번 더 걸러낸다
+        if (status != null) {
+            ordered = ordered.stream()
+                    .filter(mwd -> mwd.match().getStatus() == status)
+                    .collect(Collectors.toList());
+        }
+
+        int totalCount = geoPage.urgency() ? geoPage.totalCount() : ordered.size();
+        return new MatchLocationQueryResult(ordered, totalCount, geoPage.hasMore(), geoPage.nextCursor());
+    }
+
+    @Override
+    public MatchSummaryQueryResult getMatchSummariesByLocation(BigDecimal latitude, BigDecimal longitude,
+                                                                Double radiusKm, int page, int size,
+                                                                MatchStatus status, MatchSortType sortType,
+                                                                MatchSearchCursor cursor) {
+        GeoSearchPage geoPage = searchGeoIndex(latitude, longitude, radiusKm, page, size, status, sortType, cursor, true);
+        if (geoPage.results().isEmpty()) {
+            return new MatchSummaryQueryResult(List.of(), geoPage.totalCount(), false, null);
+        }
+
+        // Redis에 저장된 요약을 우선 사용하고, 요약이 없는 매치만 DB에서 조회한다
+        Map<Long, MatchSummary> summaryMap = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (GeoMatchResult result : geoPage.results()) {
+            if (result.summary() != null) {
+                summaryMap.put(result.matchId(), result.summary());
+            } else {
+                missingIds.add(result.matchId());
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            matchRepository.findSummariesByIds(missingIds)
+                    .forEach(summary -> summaryMap.put(summary.id(), summary));
+        }
+
+        List<MatchSummaryWithDistance> ordered = geoPage.results().stream()
+                .filter(result -> summaryMap.containsKey(result.matchId()))
+                .map(result -> new MatchSummaryWithDistance(summaryMap.get(result.matchId()), result.distanceKm()))
+                .filter(swd -> status == null || swd.summary().status() == status)
+                .toList();
+
+        int totalCount = geoPage.urgency() ? geoPage.totalCount() : ordered.size();
+        return new MatchSummaryQueryResult(ordered, totalCount, geoPage.hasMore(), geoPage.nextCursor());
+    }
+
+    /**
+     * Geo Index에서 요청한 페이지의 매치 ID와 거리를 조회
+     * 상태 필터와 URGENCY 정렬은 모두 Redis 인덱스에서 처리되므로 요청한 페이지만 조회한다
+     *
+     * @param withSummaries true면 Redis에 저장된 요약을 같은 스크립트에서 함께 조회 (오프셋 페이지는 제외)
+     */
+    private GeoSearchPage searchGeoIndex(BigDecimal latitude, BigDecimal longitude, Double radiusKm,
+                                         int page, int size, MatchStatus status, MatchSortType sortType,
+                                         MatchSearchCursor cursor, boolean withSummaries) {
         double effectiveRadius = radiusKm != null ? radiusKm : DEFAULT_MAX_RADIUS_KM;
-        boolean needsPostProcessing = status != null || sortType == MatchSortType.URGENCY;
+        int offset = page * size;
+
+        if (sortType == MatchSortType.URGENCY) {
+            GeoMatchPage geoPage = withSummaries
+                    ? matchGeoIndex.findMatchSummariesByUrgencyWithinRadius(
+                            longitude, latitude, effectiveRadius, status, offset, size)
+                    : matchGeoIndex.findMatchesByUrgencyWithinRadius(
+                            longitude, latitude, effectiveRadius, status, offset, size);
+            boolean hasMore = offset + geoPage.results().size() < geoPage.totalCount();
+            return new GeoSearchPage(geoPage.results(), (int) geoPage.totalCount(), hasMore, null, true);
+        }
 
-        List<GeoMatchResult> geoResults;
-        if (needsPostProcessing) {
-            geoResults = matchGeoIndex.findMatchesWithinRadius(longitude, latitude, effectiveRadius, 0, MAX_FETCH_SIZE);
+        // 모든 요청은 (거리, ID) 순서로 조회하며, 커서 요청은 앞 페이지를 다시 조회하지 않고 이어간다
+        List<GeoMatchResult> fetched;
+        if (cursor == null && offset > 0) {
+            fetched = matchGeoIndex.findMatchesWithinRadius(
+                    longitude, latitude, effectiveRadius, status, offset, size + 1);
+        } else if (withSummaries) {
+            fetched = matchGeoIndex.findMatchSummariesWithinRadiusAfter(
+                    longitude, latitude, effectiveRadius, status, cursor, size + 1);
         } else {
-            int offset = page * size;
-            geoResults = matchGeoIndex.findMatchesWithinRadius(longitude, latitude, effectiveRadius, offset, size + 1);
+            fetched = matchGeoIndex.findMatchesWithinRadiusAfter(
+                    longitude, latitude, effectiveRadius, status, cursor, size + 1);
+        }
+        boolean hasMore = fetched.size() > size;
+        List<GeoMatchResult> results = hasMore ? fetched.subList(0, size) : fetched;
+
+        // DB 상태 필터로 제외된 매치도 건너뛰도록 Geo 결과의 마지막 항목을 커서로 사용한다
+        MatchSearchCursor nextCursor = null;
+        if (hasMore) {
+            GeoMatchResult last = results.get(results.size() - 1);
+            nextCursor = new MatchSearchCursor(last.distanceKm(), last.matchId());
+        }
+        return new GeoSearchPage(results, 0, hasMore, nextCursor, false);
+    }
+
+    private record GeoSearchPage(List<GeoMatchResult> results, int totalCount, boolean hasMore,
+                                 MatchSearchCursor nextCursor, boolean urgency) {}
+
+    @Override
+    public MatchLocationQueryResult getMatchesInViewport(MatchViewport viewport, int size) {
+        if (size < 1) {
+            throw new InvalidPageSizeException(size);
         }
+        int limit = Math.min(size, MAX_VIEWPORT_SIZE);
+        List<GeoMatchResult> fetched = matchGeoIndex.findMatchesInBox(
+                viewport.minLatitude(), viewport.minLongitude(),
+                viewport.maxLatitude(), viewport.maxLongitude(), limit + 1);
 
+        boolean hasMore = fetched.size() > limit;
+        List<GeoMatchResult> geoResults = hasMore ? fetched.subList(0, limit) : fetched;
         if (geoResults.isEmpty()) {
-            return new MatchLocationQueryResult(List.of(), 0, false);
+            return new MatchLocationQueryResult(List.of(), 0, false, null);
         }
 
+        List<MatchWithDistance> matches = hydrate(geoResults);
+        return new MatchLocationQueryResult(matches, matches.size(), hasMore, null);
+    }
+
+    /**
+     * Geo 검색 결과 순서를 유지하며 매치 정보를 조회
+     */
+    private List<MatchWithDistance> hydrate(List<GeoMatchResult> geoResults) {
         List<Long> matchIds = geoResults.stream().map(GeoMatchResult::matchId).toList();
         Map<Long, Double> distanceMap = geoResults.stream()
                 .collect(Collectors.toMap(GeoMatchResult::matchId, GeoMatchResult::distanceKm));
 
-        List<Match> matches = matchRepository.findAllByIds(matchIds);
+        List<Match> matches = matchRepository.findAllByIdsCached(matchIds);
         Map<Long, Match> matchMap = matches.stream()
                 .collect(Collectors.toMap(Match::getId, Function.identity()));
 
-        List<MatchWithDistance> ordered = matchIds.stream()
+        return matchIds.stream()
                 .map(matchMap::get)
                 .filter(Objects::nonNull)
                 .map(match -> new MatchWithDistance(match, distanceMap.getOrDefault(match.getId(), 0.0)))
                 .collect(Collectors.toList());
-
-        if (status != null) {
-            ordered = ordered.stream()
-                    .filter(mwd -> mwd.match().getStatus() == status)
-                    .collect(Collectors.toList());
-        }
-
-        if (sortType == MatchSortType.URGENCY) {
-            ordered.sort(Comparator.comparingInt(mwd -> mwd.match().getRemainingSlots()));
-        }
-
-        if (needsPostProcessing) {
-            int offset = page * size;
-            int fromIndex = Math.min(offset, ordered.size());
-            int toIndex = Math.min(offset + size, ordered.size());
-            int totalCount = ordered.size();
-            boolean hasMore = toIndex < ordered.size();
-            ordered = ordered.subList(fromIndex, toIndex);
-            return new MatchLocationQueryResult(ordered, totalCount, hasMore);
-        }
-
-        boolean hasMore = ordered.size() > size;
-        int totalCount = hasMore ? ordered.size() - 1 : ordered.size();
-        if (hasMore) {
-            ordered = ordered.subList(0, size);
-        }
-
-        return new MatchLocationQueryResult(ordered, totalCount, hasMore);
     }
 
     @Override
@@ -30,7 +30,9 @@ public class MatchReactivator implements ReactivateMatchUseCase {
         eventPublisher.publishEvent(new MatchCreatedEvent(
                 match.getId(),
                 match.getLongitude(),
-                match.getLatitude()
+                match.getLatitude(),
+                match.getStatus(),
+                match.getRemainingSlots()
         ));
     }
 }
@@ -0,0 +1,71 @@
+package com.hoops.match.application.service;
+
+import com.hoops.match.application.dto.MatchSummary;
+import com.hoops.match.application.port.in.ReconcileMatchSlotsUseCase;
+import com.hoops.match.application.port.out.MatchRepositoryPort;
+import com.hoops.match.application.port.out.MatchSlotReservationPort;
+import com.hoops.match.domain.vo.MatchStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 참가 자리 카운터와 DB current_participants 간 정합성 보정
+ *
+ * 커밋 전인 예약이 있으면 보정 직후 카운터가 실제보다 잠시 클 수 있지만,
+ * 그 요청은 DB 정원 검사에서 거절되고 카운터가 다시 로드되므로 정원을 넘지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchSlotReconciler implements ReconcileMatchSlotsUseCase {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final String DRIFT_METRIC = "match.slot.reconcile.drift";
+
+    private static final List<MatchStatus> RECRUITABLE_STATUSES = List.of(
+            MatchStatus.PENDING,
+            MatchStatus.CONFIRMED,
+            MatchStatus.FULL
+    );
+
+    private final MatchRepositoryPort matchRepository;
+    private final MatchSlotReservationPort slotReservation;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public int reconcileSlots() {
+        Map<Long, Integer> counters = slotReservation.findAllRemainingSlots();
+        List<Long> matchIds = new ArrayList<>(counters.keySet());
+
+        int corrected = 0;
+        for (int from = 0; from < matchIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = matchIds.subList(from, Math.min(from + CHUNK_SIZE, matchIds.size()));
+            Map<Long, MatchSummary> summaries = matchRepository.findSummariesByIds(chunk).stream()
+                    .collect(Collectors.toMap(MatchSummary::id, Function.identity()));
+
+            for (Long matchId : chunk) {
+                MatchSummary summary = summaries.get(matchId);
+                if (summary == null || !RECRUITABLE_STATUSES.contains(summary.status())) {
+                    slotReservation.evict(matchId);
+                    corrected++;
+                } else if (counters.get(matchId) != summary.remainingSlots()) {
+                    log.warn("Slot counter drift: matchId={}, redis={}, db={}",
+                            matchId, counters.get(matchId), summary.remainingSlots());
+                    slotReservation.resetRemainingSlots(matchId, summary.remainingSlots());
+                    corrected++;
+                }
+            }
+        }
+
+        meterRegistry.counter(DRIFT_METRIC).increment(corrected);
+        return corrected;
+    }
+}
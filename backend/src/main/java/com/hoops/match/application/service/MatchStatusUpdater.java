@@ -1,23 +1,27 @@
 package com.hoops.match.application.service;
 
-import com.hoops.match.application.event.MatchRemovedFromGeoIndexEvent;
+import com.hoops.match.application.dto.MatchSummary;
+import com.hoops.match.application.event.MatchesStatusChangedEvent;
 import com.hoops.match.application.port.in.UpdateMatchStatusUseCase;
+import com.hoops.match.application.port.out.MatchLifecycleSchedulePort;
+import com.hoops.match.application.port.out.MatchLifecycleSchedulePort.LifecycleEntry;
 import com.hoops.match.application.port.out.MatchRepositoryPort;
-import com.hoops.match.domain.model.Match;
 import com.hoops.match.domain.vo.MatchStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class MatchStatusUpdater implements UpdateMatchStatusUseCase {
 
@@ -27,43 +31,136 @@ public class MatchStatusUpdater implements UpdateMatchStatusUseCase {
             MatchStatus.FULL
     );
 
+    private static final List<MatchStatus> ENDABLE_STATUSES = List.of(MatchStatus.IN_PROGRESS);
+    private static final int UPDATE_CHUNK_SIZE = 500;
+    private static final int POLL_LIMIT = 500;
+
     private final MatchRepositoryPort matchRepository;
+    private final MatchLifecycleSchedulePort lifecycleSchedule;
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
+    @Transactional
     public int startMatches() {
         LocalDate today = LocalDate.now();
         LocalTime now = LocalTime.now();
 
-        List<Match> matchesToStart = matchRepository.findMatchesToStart(today, now, STARTABLE_STATUSES);
-
-        int count = 0;
-        for (Match match : matchesToStart) {
-            match.startMatch();
-            matchRepository.save(match);
-            eventPublisher.publishEvent(new MatchRemovedFromGeoIndexEvent(match.getId()));
-            count++;
-            log.info("경기 시작 상태로 변경: matchId={}, title={}", match.getId(), match.getTitle());
-        }
-
-        return count;
+        List<Long> matchIds = matchRepository.findMatchIdsToStart(today, now, STARTABLE_STATUSES);
+        return transition(matchIds, STARTABLE_STATUSES, MatchStatus.IN_PROGRESS);
     }
 
     @Override
+    @Transactional
     public int endMatches() {
         LocalDate today = LocalDate.now();
         LocalTime now = LocalTime.now();
 
-        List<Match> matchesToEnd = matchRepository.findMatchesToEnd(today, now, MatchStatus.IN_PROGRESS);
+        List<Long> matchIds = matchRepository.findMatchIdsToEnd(today, now, MatchStatus.IN_PROGRESS);
+        return transition(matchIds, ENDABLE_STATUSES, MatchStatus.ENDED);
+    }
+
+    /**
+     * 스케줄에서 꺼낸 매치는 DB의 현재 시각과 상태로 다시 확인한 뒤 전환한다
+     * 꺼내기는 트랜잭션 밖에서 수행하고, 꺼낸 매치가 있을 때만 트랜잭션을 연다
+     * 꺼낸 직후 경기 시간이 바뀐 매치는 새 시각으로 다시 등록하며,
+     * 전환이 실패하면 꺼낸 매치를 현재 시각으로 다시 등록하여 다음 실행에서 재시도한다
+     */
+    @Override
+    public int advanceScheduledMatches() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int startedCount = advance(lifecycleSchedule.pollDueStarts(now, POLL_LIMIT), now, true);
+        int endedCount = advance(lifecycleSchedule.pollDueEnds(now, POLL_LIMIT), now, false);
+
+        return startedCount + endedCount;
+    }
 
-        int count = 0;
-        for (Match match : matchesToEnd) {
-            match.endMatch();
-            matchRepository.save(match);
-            count++;
-            log.info("경기 종료 상태로 변경: matchId={}, title={}", match.getId(), match.getTitle());
+    private int advance(List<Long> polledIds, LocalDateTime now, boolean starting) {
+        if (polledIds.isEmpty()) {
+            return 0;
         }
 
-        return count;
+        try {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> dueIds = filterDue(polledIds, now, starting);
+                return starting
+                        ? transition(dueIds, STARTABLE_STATUSES, MatchStatus.IN_PROGRESS)
+                        : transition(dueIds, ENDABLE_STATUSES, MatchStatus.ENDED);
+            });
+            return count == null ? 0 : count;
+        } catch (RuntimeException e) {
+            requeue(polledIds, now, starting);
+            throw e;
+        }
+    }
+
+    /**
+     * 재등록마저 실패한 매치는 주기 점검(startMatches/endMatches)이 처리한다
+     */
+    private void requeue(List<Long> matchIds, LocalDateTime dueAt, boolean starting) {
+        try {
+            if (starting) {
+                lifecycleSchedule.requeueStarts(matchIds, dueAt);
+            } else {
+                lifecycleSchedule.requeueEnds(matchIds, dueAt);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to requeue match lifecycle: starting={}, matchIds={}", starting, matchIds, e);
+        }
+    }
+
+    private List<Long> filterDue(List<Long> matchIds, LocalDateTime now, boolean starting) {
+        if (matchIds.isEmpty()) {
+            return matchIds;
+        }
+
+        List<Long> dueIds = new ArrayList<>();
+        for (MatchSummary summary : matchRepository.findSummariesByIds(matchIds)) {
+            LocalDateTime startAt = LocalDateTime.of(summary.matchDate(), summary.startTime());
+            LocalDateTime endAt = LocalDateTime.of(summary.matchDate(), summary.endTime());
+            LocalDateTime dueAt = starting ? startAt : endAt;
+            List<MatchStatus> fromStatuses = starting ? STARTABLE_STATUSES : ENDABLE_STATUSES;
+
+            if (!fromStatuses.contains(summary.status())) {
+                continue;
+            }
+            if (dueAt.isAfter(now)) {
+                lifecycleSchedule.schedule(new LifecycleEntry(summary.id(), starting ? startAt : null, endAt));
+                continue;
+            }
+            dueIds.add(summary.id());
+        }
+        return dueIds;
+    }
+
+    /**
+     * 대상 매치를 청크 단위 UPDATE로 일괄 변경하고 이벤트를 한 번만 발행
+     * 조회 이후 다른 상태로 바뀐 매치는 UPDATE 조건에서 제외되므로, UPDATE 후 실제로 대상 상태가 된 매치만 이벤트에 담는다
+     * (시작 이벤트는 Geo Index에서 제거하므로, 바뀌지 않은 매치가 섞이면 모집 중인 매치가 검색에서 빠진다)
+     */
+    private int transition(List<Long> matchIds, List<MatchStatus> fromStatuses, MatchStatus toStatus) {
+        if (matchIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> changedIds = new ArrayList<>();
+        for (int from = 0; from < matchIds.size(); from += UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = matchIds.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, matchIds.size()));
+            if (matchRepository.updateStatus(chunk, fromStatuses, toStatus) == 0) {
+                continue;
+            }
+            matchRepository.findSummariesByIds(chunk).stream()
+                    .filter(summary -> summary.status() == toStatus)
+                    .map(MatchSummary::id)
+                    .forEach(changedIds::add);
+        }
+
+        if (!changedIds.isEmpty()) {
+            eventPublisher.publishEvent(new MatchesStatusChangedEvent(List.copyOf(changedIds), toStatus));
+        }
+        log.info("경기 상태 일괄 변경: status={}, count={}", toStatus, changedIds.size());
+        log.debug("경기 상태 일괄 변경 대상: status={}, matchIds={}", toStatus, changedIds);
+        return changedIds.size();
     }
 }
@@ -1,5 +1,8 @@
 package com.hoops.match.application.service;
 
+import com.hoops.common.event.MatchScheduleChangedEvent;
+import com.hoops.match.application.event.MatchRecruitmentChangedEvent;
+import com.hoops.match.application.event.MatchUpdatedEvent;
 import com.hoops.match.application.exception.MatchNotFoundException;
 import com.hoops.match.application.port.in.UpdateMatchCommand;
 import com.hoops.match.application.port.in.UpdateMatchUseCase;
@@ -8,9 +11,13 @@ import com.hoops.match.domain.policy.MatchPolicyValidator;
 import com.hoops.match.application.port.out.MatchRepositoryPort;
 import com.hoops.match.domain.vo.MatchSchedule;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Objects;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -18,6 +25,7 @@ public class MatchUpdater implements UpdateMatchUseCase {
 
     private final MatchRepositoryPort matchRepository;
     private final MatchPolicyValidator policyValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Match updateMatch(UpdateMatchCommand command) {
@@ -38,7 +46,27 @@ public class MatchUpdater implements UpdateMatchUseCase {
                 command.maxParticipants()
         );
 
-        return matchRepository.save(updatedMatch);
+        Match savedMatch = matchRepository.save(updatedMatch);
+        eventPublisher.publishEvent(new MatchUpdatedEvent(savedMatch.getId()));
+
+        if (isScheduleChanged(match, savedMatch)) {
+            eventPublisher.publishEvent(new MatchScheduleChangedEvent(savedMatch.getId(), savedMatch.getHostId(),
+                    savedMatch.getTitle(), LocalDateTime.now()));
+        }
+
+        if (savedMatch.getStatus() != match.getStatus()
+                || savedMatch.getRemainingSlots() != match.getRemainingSlots()) {
+            eventPublisher.publishEvent(new MatchRecruitmentChangedEvent(
+                    savedMatch.getId(), savedMatch.getStatus(), savedMatch.getRemainingSlots()));
+        }
+
+        return savedMatch;
+    }
+
+    private boolean isScheduleChanged(Match before, Match after) {
+        return !Objects.equals(before.getMatchDate(), after.getMatchDate())
+                || !Objects.equals(before.getStartTime(), after.getStartTime())
+                || !Objects.equals(before.getEndTime(), after.getEndTime());
     }
 
     private MatchSchedule buildSchedule(UpdateMatchCommand command, Match match) {
@@ -0,0 +1,13 @@
+package com.hoops.match.domain.exception;
+
+import com.hoops.common.exception.DomainException;
+
+public class InvalidListViewException extends DomainException {
+
+    private static final String DEFAULT_ERROR_CODE = "INVALID_LIST_VIEW";
+
+    public InvalidListViewException(String view) {
+        super(DEFAULT_ERROR_CODE,
+                String.format("잘못된 목록 조회 방식입니다: %s (허용: SUMMARY, DETAIL)", view));
+    }
+}
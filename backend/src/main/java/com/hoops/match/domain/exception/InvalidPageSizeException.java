@@ -0,0 +1,13 @@
+package com.hoops.match.domain.exception;
+
+import com.hoops.common.exception.DomainException;
+
+public class InvalidPageSizeException extends DomainException {
+
+    private static final String DEFAULT_ERROR_CODE = "INVALID_PAGE_SIZE";
+
+    public InvalidPageSizeException(int size) {
+        super(DEFAULT_ERROR_CODE,
+                String.format("조회 개수는 1 이상이어야 합니다: %d", size));
+    }
+}
@@ -0,0 +1,13 @@
+package com.hoops.match.domain.exception;
+
+import com.hoops.common.exception.DomainException;
+
+public class InvalidSearchCursorException extends DomainException {
+
+    private static final String DEFAULT_ERROR_CODE = "INVALID_SEARCH_CURSOR";
+
+    public InvalidSearchCursorException(String cursor) {
+        super(DEFAULT_ERROR_CODE,
+                String.format("잘못된 검색 커서입니다: %s", cursor));
+    }
+}
@@ -0,0 +1,12 @@
+package com.hoops.match.domain.exception;
+
+import com.hoops.common.exception.DomainException;
+
+public class InvalidViewportException extends DomainException {
+
+    private static final String DEFAULT_ERROR_CODE = "INVALID_VIEWPORT";
+
+    public InvalidViewportException(String message) {
+        super(DEFAULT_ERROR_CODE, message);
+    }
+}
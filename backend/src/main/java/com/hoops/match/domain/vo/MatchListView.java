@@ -0,0 +1,14 @@
+package com.hoops.match.domain.vo;
+
+import com.hoops.match.domain.exception.InvalidListViewException;
+
+public enum MatchListView {
+    SUMMARY, DETAIL;
+
+    public static MatchListView from(String value) {
+        for (MatchListView view : values()) {
+            if (view.name().equalsIgnoreCase(value)) return view;
+        }
+        throw new InvalidListViewException(value);
+    }
+}
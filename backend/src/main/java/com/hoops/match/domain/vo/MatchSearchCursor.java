@@ -0,0 +1,37 @@
+package com.hoops.match.domain.vo;
+
+import com.hoops.match.domain.exception.InvalidSearchCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 거리순 위치 검색의 다음 페이지 시작 위치
+ * 마지막으로 반환한 매치의 (거리, ID)를 기억하여 그 이후부터 이어서 조회한다
+ */
+public record MatchSearchCursor(double distanceKm, long matchId) {
+
+    private static final String DELIMITER = ":";
+
+    public static MatchSearchCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            if (parts.length != 2) {
+                throw new InvalidSearchCursorException(cursor);
+            }
+            double distanceKm = Double.parseDouble(parts[0]);
+            if (!Double.isFinite(distanceKm) || distanceKm < 0) {
+                throw new InvalidSearchCursorException(cursor);
+            }
+            return new MatchSearchCursor(distanceKm, Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSearchCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = distanceKm + DELIMITER + matchId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
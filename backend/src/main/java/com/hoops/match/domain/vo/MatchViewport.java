@@ -0,0 +1,35 @@
+package com.hoops.match.domain.vo;
+
+import com.hoops.match.domain.exception.InvalidViewportException;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * 지도 화면 영역 (남서쪽 ~ 북동쪽 좌표)
+ */
+public record MatchViewport(BigDecimal minLatitude, BigDecimal minLongitude,
+                            BigDecimal maxLatitude, BigDecimal maxLongitude) {
+
+    private static final BigDecimal MAX_LATITUDE = BigDecimal.valueOf(85);
+    private static final BigDecimal MAX_LONGITUDE = BigDecimal.valueOf(180);
+
+    public MatchViewport {
+        Objects.requireNonNull(minLatitude, "minLatitude must not be null");
+        Objects.requireNonNull(minLongitude, "minLongitude must not be null");
+        Objects.requireNonNull(maxLatitude, "maxLatitude must not be null");
+        Objects.requireNonNull(maxLongitude, "maxLongitude must not be null");
+
+        if (minLatitude.compareTo(maxLatitude) >= 0 || minLongitude.compareTo(maxLongitude) >= 0) {
+            throw new InvalidViewportException(
+                    String.format("지도 영역의 최솟값은 최댓값보다 작아야 합니다: (%s, %s) ~ (%s, %s)",
+                            minLatitude, minLongitude, maxLatitude, maxLongitude));
+        }
+        if (minLatitude.abs().compareTo(MAX_LATITUDE) > 0 || maxLatitude.abs().compareTo(MAX_LATITUDE) > 0
+                || minLongitude.abs().compareTo(MAX_LONGITUDE) > 0 || maxLongitude.abs().compareTo(MAX_LONGITUDE) > 0) {
+            throw new InvalidViewportException(
+                    String.format("지도 영역 좌표가 허용 범위를 벗어났습니다: (%s, %s) ~ (%s, %s)",
+                            minLatitude, minLongitude, maxLatitude, maxLongitude));
+        }
+    }
+}
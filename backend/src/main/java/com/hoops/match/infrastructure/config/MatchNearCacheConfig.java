@@ -0,0 +1,23 @@
+package com.hoops.match.infrastructure.config;
+
+import com.hoops.match.adapter.out.cache.MatchNearCacheInvalidator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@EnableConfigurationProperties(MatchNearCacheProperties.class)
+public class MatchNearCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer matchNearCacheListenerContainer(
+            RedisConnectionFactory connectionFactory, MatchNearCacheInvalidator invalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidator, new ChannelTopic(MatchNearCacheInvalidator.CHANNEL));
+        return container;
+    }
+}
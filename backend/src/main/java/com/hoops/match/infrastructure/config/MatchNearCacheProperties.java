@@ -0,0 +1,27 @@
+package com.hoops.match.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 매치 Near Cache 설정 프로퍼티
+ */
+@ConfigurationProperties(prefix = "match.near-cache")
+public record MatchNearCacheProperties(
+        Long maximumSize,
+        Duration expireAfterWrite
+) {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+    private static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofSeconds(30);
+
+    public MatchNearCacheProperties {
+        if (maximumSize == null) {
+            maximumSize = DEFAULT_MAXIMUM_SIZE;
+        }
+        if (expireAfterWrite == null) {
+            expireAfterWrite = DEFAULT_EXPIRE_AFTER_WRITE;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.hoops.notification.adapter.in.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hoops.notification.adapter.in.web.dto.NotificationResponse;
+import com.hoops.notification.application.event.NotificationsCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 생성된 알림을 Redis Pub/Sub으로 모든 인스턴스에 전파하고, 수신한 알림을 이 인스턴스에 연결된 사용자에게 전달
+ *
+ * 사용자가 어느 인스턴스에 연결되어 있는지 모르므로 채널 하나로 모두에게 보내고, 각 인스턴스가 자기 연결만 골라 전달한다.
+ * 전파에 실패한 알림은 DB에 남아 있으므로 클라이언트가 재연결할 때 Last-Event-ID 이후 알림으로 다시 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushRelay implements MessageListener {
+
+    public static final String CHANNEL = "notifications:push";
+
+    private static final TypeReference<List<PushMessage>> MESSAGES_TYPE = new TypeReference<>() {
+    };
+
+    private final NotificationStreamRegistry streamRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 배치로 기록된 알림은 메시지 하나로 묶어 보낸다
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationsCreated(NotificationsCreatedEvent event) {
+        List<PushMessage> messages = event.notifications().stream()
+                .map(notification -> new PushMessage(notification.getUserId(), NotificationResponse.from(notification)))
+                .toList();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(messages));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize notification push: count={}", messages.size(), e);
+        } catch (Exception e) {
+            log.warn("Failed to publish notification push: count={}", messages.size(), e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스(자기 자신 포함)가 발행한 알림 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        List<PushMessage> messages;
+        try {
+            messages = objectMapper.readValue(message.getBody(), MESSAGES_TYPE);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed notification push message", e);
+            return;
+        }
+
+        for (PushMessage pushMessage : messages) {
+            streamRegistry.deliver(pushMessage.userId(), pushMessage.notification());
+        }
+    }
+
+    record PushMessage(Long userId, NotificationResponse notification) {
+    }
+}
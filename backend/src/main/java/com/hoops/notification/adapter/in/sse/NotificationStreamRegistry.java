@@ -0,0 +1,132 @@
+package com.hoops.notification.adapter.in.sse;
+
+import com.hoops.notification.adapter.in.web.dto.NotificationResponse;
+import com.hoops.notification.infrastructure.config.NotificationStreamProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 이 인스턴스에 연결된 알림 스트림(SSE) 목록
+ *
+ * SseEmitter는 비동기 서블릿 요청이므로 연결을 유지하는 동안 요청 스레드를 점유하지 않는다.
+ * 사용자별로 여러 탭이 연결될 수 있어 사용자 ID마다 Emitter 집합을 둔다.
+ * 전송에 실패한 연결은 바로 정리하며, 주기적인 heartbeat로 끊어진 연결을 찾아내고 프록시의 유휴 타임아웃을 막는다.
+ */
+@Slf4j
+@Component
+public class NotificationStreamRegistry {
+
+    private static final String EVENT_NAME = "notification";
+    private static final String CONNECTIONS_METRIC = "notification.stream.connections";
+
+    private final NotificationStreamProperties properties;
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public NotificationStreamRegistry(NotificationStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        meterRegistry.gauge(CONNECTIONS_METRIC, connections);
+    }
+
+    /**
+     * 새 연결을 등록하고, 재연결이면 놓친 알림을 먼저 보낸다
+     * 등록한 뒤에 놓친 알림을 조회하므로 그 사이 생성된 알림은 빠지지 않지만 중복될 수 있다 (클라이언트가 ID로 걸러낸다)
+     */
+    public SseEmitter register(Long userId, Supplier<List<NotificationResponse>> missedSupplier) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(userId, emitter));
+
+        emitters.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+        connections.incrementAndGet();
+
+        List<NotificationResponse> missed;
+        try {
+            missed = missedSupplier.get();
+        } catch (RuntimeException e) {
+            remove(userId, emitter);
+            throw e;
+        }
+
+        // 첫 이벤트를 바로 보내 응답 헤더를 내보낸다
+        if (send(userId, emitter, SseEmitter.event().comment("connected"))) {
+            missed.forEach(notification -> send(userId, emitter, toEvent(notification)));
+        }
+        return emitter;
+    }
+
+    /**
+     * 이 인스턴스에 연결된 사용자에게만 전달 (연결이 없으면 무시)
+     */
+    public void deliver(Long userId, NotificationResponse notification) {
+        Set<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            send(userId, emitter, toEvent(notification));
+        }
+    }
+
+    @Scheduled(fixedDelay = 25_000) // 프록시 유휴 타임아웃(보통 60초)보다 짧게
+    public void sendHeartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                send(userId, emitter, SseEmitter.event().comment("heartbeat"));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitters.values().forEach(userEmitters -> userEmitters.forEach(SseEmitter::complete));
+        emitters.clear();
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(NotificationResponse notification) {
+        return SseEmitter.event()
+                .id(String.valueOf(notification.id()))
+                .name(EVENT_NAME)
+                .data(notification, MediaType.APPLICATION_JSON);
+    }
+
+    private boolean send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊음
+            log.debug("Dropping notification stream: userId={}", userId, e);
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+            return false;
+        } catch (IllegalStateException e) {
+            // 이미 완료된 연결
+            remove(userId, emitter);
+            return false;
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            if (userEmitters.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
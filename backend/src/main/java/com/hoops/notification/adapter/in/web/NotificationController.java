@@ -1,24 +1,34 @@
 package com.hoops.notification.adapter.in.web;
 
+import com.hoops.notification.adapter.in.sse.NotificationStreamRegistry;
+import com.hoops.notification.adapter.in.web.dto.NotificationListResponse;
 import com.hoops.notification.adapter.in.web.dto.NotificationResponse;
 import com.hoops.notification.adapter.in.web.dto.UnreadCountResponse;
 import com.hoops.notification.application.port.in.GetNotificationsUseCase;
 import com.hoops.notification.application.port.in.GetUnreadCountUseCase;
+import com.hoops.notification.application.port.in.MarkAllNotificationsAsReadUseCase;
 import com.hoops.notification.application.port.in.MarkNotificationAsReadUseCase;
-import com.hoops.notification.domain.model.Notification;
+import com.hoops.notification.application.dto.NotificationPage;
+import com.hoops.notification.domain.vo.NotificationCursor;
+import com.hoops.notification.infrastructure.config.NotificationStreamProperties;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -30,21 +40,30 @@ public class NotificationController {
 
     private final GetNotificationsUseCase getNotificationsUseCase;
     private final MarkNotificationAsReadUseCase markNotificationAsReadUseCase;
+    private final MarkAllNotificationsAsReadUseCase markAllNotificationsAsReadUseCase;
     private final GetUnreadCountUseCase getUnreadCountUseCase;
+    private final NotificationStreamRegistry notificationStreamRegistry;
+    private final NotificationStreamProperties notificationStreamProperties;
 
-    @Operation(summary = "알림 목록 조회", description = "로그인한 사용자의 알림 목록을 조회합니다.")
+    @Operation(summary = "알림 목록 조회", description = "로그인한 사용자의 알림을 최신순으로 커서 페이지 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
             @ApiResponse(responseCode = "401", description = "인증 필요")
     })
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getNotifications(
+    public ResponseEntity<NotificationListResponse> getNotifications(
+            @Parameter(description = "이전 응답의 nextCursor (없으면 가장 최근부터)") @RequestParam(required = false) String before,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int limit,
             @Parameter(hidden = true) @AuthenticationPrincipal Long userId) {
-        List<Notification> notifications = getNotificationsUseCase.getNotifications(userId);
-        List<NotificationResponse> response = notifications.stream()
+        NotificationCursor cursor = before != null ? NotificationCursor.decode(before) : null;
+        NotificationPage page = getNotificationsUseCase.getNotifications(userId, cursor, limit);
+
+        List<NotificationResponse> items = page.notifications().stream()
                 .map(NotificationResponse::from)
                 .toList();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new NotificationListResponse(items, page.hasMore(),
+                encode(page.latestCursor()), encode(page.nextCursor())));
     }
 
     @Operation(summary = "알림 읽음 처리", description = "특정 알림을 읽음 상태로 변경합니다.")
@@ -61,6 +80,22 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "알림 전체 읽음 처리",
+            description = "읽지 않은 알림을 모두 읽음 상태로 변경합니다. upTo를 지정하면 그 위치까지만 변경합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "읽음 처리 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @PutMapping("/read-all")
+    public ResponseEntity<Void> markAllAsRead(
+            @Parameter(description = "목록 응답의 latestCursor (이후에 도착한 알림은 읽음 처리하지 않음)") @RequestParam(required = false) String upTo,
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId) {
+        NotificationCursor cursor = upTo != null ? NotificationCursor.decode(upTo) : null;
+        markAllNotificationsAsReadUseCase.markAllAsRead(userId, cursor);
+        return ResponseEntity.ok().build();
+    }
+
     @Operation(summary = "읽지 않은 알림 개수 조회", description = "읽지 않은 알림의 개수를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -72,4 +107,32 @@ public class NotificationController {
         int count = getUnreadCountUseCase.getUnreadCount(userId);
         return ResponseEntity.ok(new UnreadCountResponse(count));
     }
+
+    @Operation(summary = "알림 실시간 구독",
+            description = "새 알림을 Server-Sent Events로 받습니다. 재연결 시 Last-Event-ID 이후의 알림을 먼저 보냅니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @Parameter(description = "마지막으로 받은 알림 ID")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            HttpServletResponse response) {
+        // Nginx가 이벤트를 버퍼링하지 않고 바로 내보내도록
+        response.setHeader("X-Accel-Buffering", "no");
+
+        return notificationStreamRegistry.register(userId, () -> lastEventId == null
+                ? List.of()
+                : getNotificationsUseCase
+                        .getNotificationsAfter(userId, lastEventId, notificationStreamProperties.resumeLimit())
+                        .stream()
+                        .map(NotificationResponse::from)
+                        .toList());
+    }
+
+    private String encode(NotificationCursor cursor) {
+        return cursor != null ? cursor.encode() : null;
+    }
 }
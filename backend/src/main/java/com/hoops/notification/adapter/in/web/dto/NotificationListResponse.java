@@ -0,0 +1,10 @@
+package com.hoops.notification.adapter.in.web.dto;
+
+import java.util.List;
+
+public record NotificationListResponse(
+        List<NotificationResponse> items,
+        boolean hasMore,
+        String latestCursor,
+        String nextCursor
+) {}
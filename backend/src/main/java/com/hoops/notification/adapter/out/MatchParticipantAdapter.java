@@ -0,0 +1,36 @@
+package com.hoops.notification.adapter.out;
+
+import com.hoops.notification.application.port.out.MatchParticipantPort;
+import com.hoops.participation.application.port.in.GetMatchParticipantsUseCase;
+import com.hoops.participation.domain.model.Participation;
+import com.hoops.participation.domain.vo.ParticipationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Participation Context를 통한 경기 참가자 조회 어댑터
+ *
+ * Participation Context가 외부에 제공하는 유스케이스만 사용하며,
+ * 참가가 유효한(PENDING, CONFIRMED) 사용자만 알림 수신자로 반환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchParticipantAdapter implements MatchParticipantPort {
+
+    private static final Set<ParticipationStatus> ACTIVE_STATUSES =
+            Set.of(ParticipationStatus.PENDING, ParticipationStatus.CONFIRMED);
+
+    private final GetMatchParticipantsUseCase getMatchParticipantsUseCase;
+
+    @Override
+    public List<Long> findParticipantUserIds(Long matchId) {
+        return getMatchParticipantsUseCase.getMatchParticipants(matchId).stream()
+                .filter(participation -> ACTIVE_STATUSES.contains(participation.getStatus()))
+                .map(Participation::getUserId)
+                .distinct()
+                .toList();
+    }
+}
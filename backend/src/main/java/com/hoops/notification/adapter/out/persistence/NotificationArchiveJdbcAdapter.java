@@ -0,0 +1,48 @@
+package com.hoops.notification.adapter.out.persistence;
+
+import com.hoops.notification.application.port.out.NotificationArchivePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationArchiveJdbcAdapter implements NotificationArchivePort {
+
+    /**
+     * idx_notification_read_created 인덱스만 읽는다 (보조 인덱스에 PK 포함 → 커버링)
+     */
+    private static final String SELECT_ARCHIVABLE_SQL = "SELECT id FROM notifications " +
+            "WHERE is_read = TRUE AND created_at < ? ORDER BY created_at LIMIT ?";
+
+    private static final String COPY_SQL = "INSERT INTO notifications_archive " +
+            "(id, user_id, type, title, message, related_match_id, is_read, created_at, archived_at) " +
+            "SELECT id, user_id, type, title, message, related_match_id, is_read, created_at, NOW() " +
+            "FROM notifications WHERE id IN (%s)";
+
+    private static final String DELETE_SQL = "DELETE FROM notifications WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> findArchivableIds(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(SELECT_ARCHIVABLE_SQL, Long.class, Timestamp.valueOf(cutoff), limit);
+    }
+
+    @Override
+    public int moveToArchive(List<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(notificationIds.size(), "?"));
+        Object[] ids = notificationIds.toArray();
+
+        jdbcTemplate.update(String.format(COPY_SQL, placeholders), ids);
+        return jdbcTemplate.update(String.format(DELETE_SQL, placeholders), ids);
+    }
+}
@@ -2,17 +2,40 @@ package com.hoops.notification.adapter.out.persistence;
 
 import com.hoops.notification.domain.model.Notification;
 import com.hoops.notification.application.port.out.NotificationRepositoryPort;
+import com.hoops.notification.domain.vo.NotificationCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class NotificationJpaAdapter implements NotificationRepositoryPort {
 
+    /**
+     * IDENTITY 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로 JDBC 배치를 사용한다
+     * rewriteBatchedStatements=true이면 MySQL 드라이버가 다중 VALUES INSERT 하나로 보낸다
+     */
+    private static final String INSERT_SQL = "INSERT INTO notifications " +
+            "(user_id, type, title, message, related_match_id, is_read, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int JDBC_BATCH_SIZE = 500;
+
     private final SpringDataNotificationRepository springDataNotificationRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Notification save(Notification notification) {
@@ -21,14 +44,66 @@ public class NotificationJpaAdapter implements NotificationRepositoryPort {
         return NotificationMapper.toDomain(savedEntity);
     }
 
+    /**
+     * 생성된 ID는 배치마다 getGeneratedKeys로 받는다 (다중 VALUES INSERT도 행 순서대로 돌려준다)
+     */
+    @Override
+    public List<Notification> saveAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                List<Long> generatedIds = new ArrayList<>(notifications.size());
+                for (int from = 0; from < notifications.size(); from += JDBC_BATCH_SIZE) {
+                    for (Notification notification : notifications.subList(from,
+                            Math.min(from + JDBC_BATCH_SIZE, notifications.size()))) {
+                        bind(ps, notification);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            generatedIds.add(keys.getLong(1));
+                        }
+                    }
+                }
+                return generatedIds;
+            }
+        });
+
+        List<Notification> saved = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            saved.add(Notification.reconstitute(ids.get(i), notification.getUserId(), notification.getType(),
+                    notification.getTitle(), notification.getMessage(), notification.getRelatedMatchId(),
+                    notification.getIsRead(), notification.getCreatedAt()));
+        }
+        return saved;
+    }
+
     @Override
     public Optional<Notification> findById(Long id) {
         return springDataNotificationRepository.findById(id).map(NotificationMapper::toDomain);
     }
 
     @Override
-    public List<Notification> findByUserId(Long userId) {
-        return springDataNotificationRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+    public List<Notification> findPageByUserId(Long userId, NotificationCursor before, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<NotificationJpaEntity> entities = before == null
+                ? springDataNotificationRepository.findLatestByUserId(userId, page)
+                : springDataNotificationRepository.findByUserIdBefore(
+                        userId, before.createdAt(), before.notificationId(), page);
+        return entities.stream()
+                .map(NotificationMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Notification> findByUserIdAfter(Long userId, Long lastNotificationId, int limit) {
+        return springDataNotificationRepository
+                .findByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastNotificationId, PageRequest.of(0, limit))
+                .stream()
                 .map(NotificationMapper::toDomain)
                 .toList();
     }
@@ -37,4 +112,36 @@ public class NotificationJpaAdapter implements NotificationRepositoryPort {
     public int countUnreadByUserId(Long userId) {
         return springDataNotificationRepository.countUnreadByUserId(userId);
     }
+
+    @Override
+    public Map<Long, Integer> countUnreadByUserIds(List<Long> userIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Object[] row : springDataNotificationRepository.countUnreadGroupByUserId(userIds)) {
+            counts.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public int markAllAsReadByUserId(Long userId, NotificationCursor upTo) {
+        if (upTo == null) {
+            return springDataNotificationRepository.markAllAsReadByUserId(userId);
+        }
+        return springDataNotificationRepository.markAllAsReadByUserIdUpTo(
+                userId, upTo.createdAt(), upTo.notificationId());
+    }
+
+    private void bind(PreparedStatement ps, Notification notification) throws SQLException {
+        ps.setLong(1, notification.getUserId());
+        ps.setString(2, notification.getType().name());
+        ps.setString(3, notification.getTitle());
+        ps.setString(4, notification.getMessage());
+        if (notification.getRelatedMatchId() == null) {
+            ps.setNull(5, Types.BIGINT);
+        } else {
+            ps.setLong(5, notification.getRelatedMatchId());
+        }
+        ps.setBoolean(6, notification.getIsRead());
+        ps.setTimestamp(7, Timestamp.valueOf(notification.getCreatedAt()));
+    }
 }
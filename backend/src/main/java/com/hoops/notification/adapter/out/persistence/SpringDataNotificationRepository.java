@@ -1,15 +1,48 @@
 package com.hoops.notification.adapter.out.persistence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SpringDataNotificationRepository extends JpaRepository<NotificationJpaEntity, Long> {
 
-    List<NotificationJpaEntity> findByUserIdOrderByCreatedAtDesc(Long userId);
+    @Query("SELECT n FROM NotificationJpaEntity n WHERE n.userId = :userId ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationJpaEntity> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * (created_at, id) 순서로 커서보다 뒤(오래된 쪽)의 알림 조회
+     * idx_notification_user_created 인덱스를 커서 위치부터 범위 스캔하므로 이력 길이와 관계없이 일정한 비용
+     */
+    @Query("SELECT n FROM NotificationJpaEntity n WHERE n.userId = :userId " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationJpaEntity> findByUserIdBefore(@Param("userId") Long userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
+    List<NotificationJpaEntity> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id, Pageable pageable);
 
     @Query("SELECT COUNT(n) FROM NotificationJpaEntity n WHERE n.userId = :userId AND n.isRead = false")
     int countUnreadByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT n.userId, COUNT(n) FROM NotificationJpaEntity n " +
+            "WHERE n.userId IN :userIds AND n.isRead = false GROUP BY n.userId")
+    List<Object[]> countUnreadGroupByUserId(@Param("userIds") List<Long> userIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationJpaEntity n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationJpaEntity n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id <= :id))")
+    int markAllAsReadByUserIdUpTo(@Param("userId") Long userId,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id);
 }
@@ -0,0 +1,161 @@
+package com.hoops.notification.adapter.out.redis;
+
+import com.hoops.notification.adapter.out.redis.exception.RedisUnreadCounterException;
+import com.hoops.notification.application.port.out.UnreadCounterPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽지 않은 알림 카운터 (Redis Hash)
+ *
+ * 사용자 ID를 field로 하는 Hash 하나에 카운터를, 같은 슬롯의 다른 Hash에 사용자별 세대 번호를 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UnreadCounterRedisAdapter implements UnreadCounterPort {
+
+    private static final String COUNT_KEY = "notifications:{unread}:counts";
+    private static final String GENERATION_KEY = "notifications:{unread}:gen";
+    private static final List<String> KEYS = List.of(COUNT_KEY, GENERATION_KEY);
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    /**
+     * KEYS[1]: 카운터 Hash, KEYS[2]: 세대 번호 Hash, ARGV[1]: 사용자 ID
+     * 반환: {1, 개수} 카운터 있음, {0, 세대} 카운터 없음
+     */
+    private static final RedisScript<List> LOOKUP_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('HGET', KEYS[1], ARGV[1])
+            if count then
+                return {1, tonumber(count)}
+            end
+            return {0, tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')}
+            """, List.class);
+
+    /**
+     * 세대 번호가 그대로일 때만 카운터 초기화
+     * KEYS[1]: 카운터 Hash, KEYS[2]: 세대 번호 Hash, ARGV[1]: 사용자 ID, ARGV[2]: 기대 세대, ARGV[3]: 개수
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') ~= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 사용자마다 세대 번호를 올리고, 카운터가 있을 때만 증감 (0 아래로 내려가지 않는다)
+     * KEYS[1]: 카운터 Hash, KEYS[2]: 세대 번호 Hash, ARGV: 사용자 ID, 증감분 쌍
+     */
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #ARGV, 2 do
+                redis.call('HINCRBY', KEYS[2], ARGV[i], 1)
+                if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then
+                    if redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) < 0 then
+                        redis.call('HSET', KEYS[1], ARGV[i], 0)
+                    end
+                end
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 카운터 Hash, KEYS[2]: 세대 번호 Hash, ARGV[1]: 사용자 ID
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public UnreadCountLookup find(Long userId) {
+        try {
+            List<Long> result = redisTemplate.execute(LOOKUP_SCRIPT, KEYS, String.valueOf(userId));
+            if (result == null) {
+                return UnreadCountLookup.notLoaded(0L);
+            }
+            return result.get(0) == 1
+                    ? UnreadCountLookup.loaded(result.get(1).intValue())
+                    : UnreadCountLookup.notLoaded(result.get(1));
+        } catch (Exception e) {
+            throw new RedisUnreadCounterException("Failed to look up unread counter: userId=" + userId, e);
+        }
+    }
+
+    @Override
+    public boolean load(Long userId, long generation, int count) {
+        try {
+            Long loaded = redisTemplate.execute(LOAD_SCRIPT, KEYS,
+                    String.valueOf(userId), String.valueOf(generation), String.valueOf(count));
+            return loaded != null && loaded == 1;
+        } catch (Exception e) {
+            throw new RedisUnreadCounterException("Failed to load unread counter: userId=" + userId, e);
+        }
+    }
+
+    @Override
+    public void applyDeltas(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(deltas.size() * 2);
+        deltas.forEach((userId, delta) -> {
+            args.add(String.valueOf(userId));
+            args.add(String.valueOf(delta));
+        });
+
+        try {
+            redisTemplate.execute(APPLY_SCRIPT, KEYS, args.toArray());
+        } catch (Exception e) {
+            throw new RedisUnreadCounterException("Failed to apply unread counter deltas: users=" + deltas.keySet(), e);
+        }
+    }
+
+    @Override
+    public void evict(Long userId) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, KEYS, String.valueOf(userId));
+        } catch (Exception e) {
+            throw new RedisUnreadCounterException("Failed to evict unread counter: userId=" + userId, e);
+        }
+    }
+
+    @Override
+    public Map<Long, Integer> findAllCounts() {
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_BATCH_SIZE).build();
+        try (Cursor<Map.Entry<String, String>> cursor =
+                     redisTemplate.<String, String>opsForHash().scan(COUNT_KEY, options)) {
+            Map<Long, Integer> counters = new HashMap<>();
+            while (cursor.hasNext()) {
+                Map.Entry<String, String> entry = cursor.next();
+                counters.put(Long.parseLong(entry.getKey()), Integer.parseInt(entry.getValue()));
+            }
+            return counters;
+        } catch (Exception e) {
+            throw new RedisUnreadCounterException("Failed to scan unread counters", e);
+        }
+    }
+
+    @Override
+    public void clearAll() {
+        try {
+            redisTemplate.delete(KEYS);
+        } catch (Exception e) {
+            throw new RedisUnreadCounterException("Failed to clear unread counters", e);
+        }
+    }
+}
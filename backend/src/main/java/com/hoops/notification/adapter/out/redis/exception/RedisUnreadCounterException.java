@@ -0,0 +1,19 @@
+package com.hoops.notification.adapter.out.redis.exception;
+
+import com.hoops.common.exception.ApplicationException;
+
+/**
+ * Redis 읽지 않은 알림 카운터 작업 실패 시 발생하는 예외
+ */
+public class RedisUnreadCounterException extends ApplicationException {
+
+    private static final String ERROR_CODE = "REDIS_UNREAD_COUNTER_ERROR";
+
+    public RedisUnreadCounterException(String message) {
+        super(ERROR_CODE, message);
+    }
+
+    public RedisUnreadCounterException(String message, Throwable cause) {
+        super(ERROR_CODE, message, cause);
+    }
+}
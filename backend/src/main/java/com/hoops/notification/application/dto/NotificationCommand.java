@@ -0,0 +1,15 @@
+package com.hoops.notification.application.dto;
+
+import com.hoops.notification.domain.vo.NotificationType;
+
+/**
+ * 비동기로 기록할 알림 한 건
+ */
+public record NotificationCommand(
+        Long userId,
+        NotificationType type,
+        String title,
+        String message,
+        Long relatedMatchId
+) {
+}
@@ -0,0 +1,19 @@
+package com.hoops.notification.application.dto;
+
+import com.hoops.notification.domain.model.Notification;
+import com.hoops.notification.domain.vo.NotificationCursor;
+
+import java.util.List;
+
+/**
+ * 알림 목록 한 페이지 (최신순)
+ *
+ * @param latestCursor 이 페이지에서 가장 최근 알림의 위치 (전체 읽음 처리 기준으로 사용)
+ * @param nextCursor 다음 페이지 조회 위치 (마지막 페이지면 null)
+ */
+public record NotificationPage(
+        List<Notification> notifications,
+        boolean hasMore,
+        NotificationCursor latestCursor,
+        NotificationCursor nextCursor
+) {}
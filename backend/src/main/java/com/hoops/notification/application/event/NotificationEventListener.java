@@ -0,0 +1,83 @@
+package com.hoops.notification.application.event;
+
+import com.hoops.common.event.MatchCancelledEvent;
+import com.hoops.common.event.MatchFullEvent;
+import com.hoops.common.event.ParticipationCancelledEvent;
+import com.hoops.common.event.ParticipationCreatedEvent;
+import com.hoops.notification.application.dto.NotificationCommand;
+import com.hoops.notification.application.port.out.MatchParticipantPort;
+import com.hoops.notification.application.service.NotificationDispatcher;
+import com.hoops.notification.domain.vo.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 참가/경기 이벤트를 알림으로 변환하여 비동기 기록 파이프라인에 넣는 리스너
+ * 커밋된 변경에 대해서만 알림을 만들며, 알림 처리 실패가 원래 요청을 실패시키지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationEventListener {
+
+    private final NotificationDispatcher dispatcher;
+    private final MatchParticipantPort matchParticipantPort;
+
+    /**
+     * 새 참가 신청을 호스트에게 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleParticipationCreated(ParticipationCreatedEvent event) {
+        runSafely(event.getEventType(), event.getMatchId(), () -> dispatcher.dispatch(List.of(new NotificationCommand(
+                event.getHostId(), NotificationType.PARTICIPATION_CREATED, "새 참가 신청",
+                "'" + event.getMatchTitle() + "' 경기에 새로운 참가 신청이 있습니다.", event.getMatchId()))));
+    }
+
+    /**
+     * 참가 취소를 호스트에게 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleParticipationCancelled(ParticipationCancelledEvent event) {
+        runSafely(event.getEventType(), event.getMatchId(), () -> dispatcher.dispatch(List.of(new NotificationCommand(
+                event.getHostId(), NotificationType.PARTICIPATION_CANCELLED, "참가 취소",
+                "'" + event.getMatchTitle() + "' 경기의 참가자가 참가를 취소했습니다.", event.getMatchId()))));
+    }
+
+    /**
+     * 경기 취소를 모든 참가자에게 알림 (참가자 수만큼 알림을 만든다)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchCancelled(MatchCancelledEvent event) {
+        runSafely(event.getEventType(), event.getMatchId(), () -> {
+            String message = "'" + event.getMatchTitle() + "' 경기가 취소되었습니다.";
+            List<NotificationCommand> commands = matchParticipantPort.findParticipantUserIds(event.getMatchId()).stream()
+                    .map(userId -> new NotificationCommand(userId, NotificationType.MATCH_CANCELLED,
+                            "경기 취소", message, event.getMatchId()))
+                    .toList();
+            dispatcher.dispatch(commands);
+        });
+    }
+
+    /**
+     * 모집 완료를 호스트에게 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchFull(MatchFullEvent event) {
+        runSafely(event.getEventType(), event.getMatchId(), () -> dispatcher.dispatch(List.of(new NotificationCommand(
+                event.getHostId(), NotificationType.MATCH_FULL, "모집 완료",
+                "'" + event.getMatchTitle() + "' 경기의 모집 인원이 모두 찼습니다.", event.getMatchId()))));
+    }
+
+    private void runSafely(String eventType, Long matchId, Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("Failed to dispatch notifications: eventType={}, matchId={}", eventType, matchId, e);
+        }
+    }
+}
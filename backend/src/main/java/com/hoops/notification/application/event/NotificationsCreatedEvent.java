@@ -0,0 +1,14 @@
+package com.hoops.notification.application.event;
+
+import com.hoops.notification.domain.model.Notification;
+
+import java.util.List;
+
+/**
+ * 알림 생성 이벤트
+ * 트랜잭션 커밋 후 Redis Pub/Sub으로 모든 인스턴스에 알려 연결된 사용자에게 실시간으로 전달
+ */
+public record NotificationsCreatedEvent(
+        List<Notification> notifications
+) {
+}
@@ -0,0 +1,16 @@
+package com.hoops.notification.application.event;
+
+import java.util.Map;
+
+/**
+ * 읽지 않은 알림 개수 변경 이벤트
+ * 알림 생성/읽음 처리가 커밋된 후 Redis 카운터에 사용자별 증감분을 반영
+ */
+public record UnreadCountChangedEvent(
+        Map<Long, Integer> deltas
+) {
+
+    public static UnreadCountChangedEvent of(Long userId, int delta) {
+        return new UnreadCountChangedEvent(Map.of(userId, delta));
+    }
+}
@@ -0,0 +1,29 @@
+package com.hoops.notification.application.event;
+
+import com.hoops.notification.application.port.out.UnreadCounterPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 읽지 않은 알림 카운터 이벤트 리스너
+ * 카운터 반영에 실패해도 DB가 최종 기준이므로 요청을 실패시키지 않고 정합성 복구 스케줄러에 맡긴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCounterEventListener {
+
+    private final UnreadCounterPort unreadCounter;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleUnreadCountChanged(UnreadCountChangedEvent event) {
+        try {
+            unreadCounter.applyDeltas(event.deltas());
+        } catch (Exception e) {
+            log.warn("Failed to update unread counter: users={}", event.deltas().keySet(), e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.hoops.notification.application.port.in;
+
+public interface ArchiveNotificationsUseCase {
+
+    /**
+     * 보관 기간이 지난 읽은 알림을 보관 테이블로 옮긴다
+     *
+     * @return 옮긴 알림 수
+     */
+    int archiveReadNotifications();
+}
@@ -1,10 +1,23 @@
 package com.hoops.notification.application.port.in;
 
+import com.hoops.notification.application.dto.NotificationPage;
 import com.hoops.notification.domain.model.Notification;
+import com.hoops.notification.domain.vo.NotificationCursor;
 
 import java.util.List;
 
 public interface GetNotificationsUseCase {
 
-    List<Notification> getNotifications(Long userId);
+    /**
+     * 알림 목록을 최신순으로 한 페이지 조회
+     *
+     * @param before 이 위치보다 오래된 알림부터 조회 (null이면 가장 최근부터)
+     * @param limit 페이지 크기 (1 ~ 100)
+     */
+    NotificationPage getNotifications(Long userId, NotificationCursor before, int limit);
+
+    /**
+     * 지정한 알림 이후에 생성된 알림을 오래된 순으로 조회 (알림 스트림 재연결용)
+     */
+    List<Notification> getNotificationsAfter(Long userId, Long lastNotificationId, int limit);
 }
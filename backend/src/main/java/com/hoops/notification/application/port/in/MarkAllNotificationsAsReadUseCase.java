@@ -0,0 +1,14 @@
+package com.hoops.notification.application.port.in;
+
+import com.hoops.notification.domain.vo.NotificationCursor;
+
+public interface MarkAllNotificationsAsReadUseCase {
+
+    /**
+     * 사용자의 읽지 않은 알림을 한 번에 읽음 처리
+     *
+     * @param upTo 이 위치의 알림과 그보다 오래된 알림만 읽음 처리 (null이면 전체)
+     * @return 읽음 처리한 알림 수
+     */
+    int markAllAsRead(Long userId, NotificationCursor upTo);
+}
@@ -0,0 +1,11 @@
+package com.hoops.notification.application.port.in;
+
+public interface ReconcileUnreadCountersUseCase {
+
+    /**
+     * Redis 읽지 않은 알림 카운터를 DB 기준으로 점검
+     *
+     * @return DB와 달라 삭제한 카운터 수
+     */
+    int reconcileUnreadCounters();
+}
@@ -0,0 +1,15 @@
+package com.hoops.notification.application.port.out;
+
+import java.util.List;
+
+/**
+ * 경기 참가자 조회 포트
+ * 경기 단위 알림(경기 취소 등)의 수신자를 구하는 데 사용
+ */
+public interface MatchParticipantPort {
+
+    /**
+     * 취소하지 않은 참가자의 사용자 ID 목록
+     */
+    List<Long> findParticipantUserIds(Long matchId);
+}
@@ -0,0 +1,24 @@
+package com.hoops.notification.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 보관 포트
+ *
+ * 보관 기간이 지난 읽은 알림을 notifications_archive 테이블로 옮긴다.
+ */
+public interface NotificationArchivePort {
+
+    /**
+     * 기준 시각 이전에 생성된 읽은 알림 ID를 오래된 순으로 조회
+     */
+    List<Long> findArchivableIds(LocalDateTime cutoff, int limit);
+
+    /**
+     * 알림을 보관 테이블에 복사한 뒤 원본을 삭제 (호출하는 트랜잭션 안에서 실행)
+     *
+     * @return 옮긴 알림 수
+     */
+    int moveToArchive(List<Long> notificationIds);
+}
@@ -1,8 +1,10 @@
 package com.hoops.notification.application.port.out;
 
 import com.hoops.notification.domain.model.Notification;
+import com.hoops.notification.domain.vo.NotificationCursor;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -12,9 +14,37 @@ public interface NotificationRepositoryPort {
 
     Notification save(Notification notification);
 
+    /**
+     * 여러 알림을 배치 INSERT로 저장
+     *
+     * @return 생성된 ID가 채워진 알림 (입력 순서 유지)
+     */
+    List<Notification> saveAll(List<Notification> notifications);
+
     Optional<Notification> findById(Long id);
 
-    List<Notification> findByUserId(Long userId);
+    /**
+     * (생성 시각, ID) 최신순으로 지정한 위치보다 오래된 알림을 조회 (before가 null이면 가장 최근부터)
+     */
+    List<Notification> findPageByUserId(Long userId, NotificationCursor before, int limit);
+
+    /**
+     * 지정한 알림 이후에 생성된 알림을 오래된 순으로 조회
+     */
+    List<Notification> findByUserIdAfter(Long userId, Long lastNotificationId, int limit);
 
     int countUnreadByUserId(Long userId);
+
+    /**
+     * 사용자별 읽지 않은 알림 개수 (읽지 않은 알림이 없는 사용자는 결과에 포함되지 않는다)
+     */
+    Map<Long, Integer> countUnreadByUserIds(List<Long> userIds);
+
+    /**
+     * 사용자의 읽지 않은 알림을 한 번의 UPDATE로 읽음 처리
+     *
+     * @param upTo 이 위치의 알림과 그보다 오래된 알림만 읽음 처리 (null이면 전체)
+     * @return 읽음 처리한 알림 수
+     */
+    int markAllAsReadByUserId(Long userId, NotificationCursor upTo);
 }
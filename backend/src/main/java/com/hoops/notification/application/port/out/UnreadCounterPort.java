@@ -0,0 +1,65 @@
+package com.hoops.notification.application.port.out;
+
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 카운터 포트
+ *
+ * 알림 배지 조회가 매번 COUNT(*)를 실행하지 않도록 개수를 Redis에 두고 생성/읽음 처리 시 증감한다.
+ * 카운터는 조회 시점에 없으면 DB에서 세어 로드하며, DB가 최종 기준이다.
+ * 카운터가 바뀔 때마다 세대 번호를 올려, 로드 직전에 읽은 세대가 그 사이 바뀌었다면 로드를 버린다.
+ */
+public interface UnreadCounterPort {
+
+    /**
+     * 카운터 조회 결과
+     *
+     * @param count 읽지 않은 알림 개수 (카운터가 없으면 null)
+     * @param generation 카운터가 없을 때 로드에 사용할 세대 번호
+     */
+    record UnreadCountLookup(Integer count, long generation) {
+
+        public static UnreadCountLookup loaded(int count) {
+            return new UnreadCountLookup(count, 0L);
+        }
+
+        public static UnreadCountLookup notLoaded(long generation) {
+            return new UnreadCountLookup(null, generation);
+        }
+
+        public boolean isLoaded() {
+            return count != null;
+        }
+    }
+
+    UnreadCountLookup find(Long userId);
+
+    /**
+     * 세대 번호가 그대로일 때만 DB에서 센 개수로 카운터를 초기화
+     *
+     * @return 로드했으면 true, 그 사이 변경이 있어 로드를 버렸으면 false
+     */
+    boolean load(Long userId, long generation, int count);
+
+    /**
+     * 사용자별 증감분 반영 (카운터가 없는 사용자는 세대 번호만 올린다)
+     */
+    void applyDeltas(Map<Long, Integer> deltas);
+
+    /**
+     * 카운터 삭제 (다음 조회 시 DB에서 다시 로드)
+     */
+    void evict(Long userId);
+
+    /**
+     * 로드된 모든 카운터 조회 (정합성 체크용)
+     *
+     * @return 사용자 ID별 읽지 않은 알림 개수
+     */
+    Map<Long, Integer> findAllCounts();
+
+    /**
+     * 모든 카운터 삭제
+     */
+    void clearAll();
+}
@@ -0,0 +1,30 @@
+package com.hoops.notification.application.scheduler;
+
+import com.hoops.notification.application.port.in.ArchiveNotificationsUseCase;
+import lombok.RequiredArgsConstructor;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽은 알림 보관 스케줄러
+ *
+ * lockAtLeastFor: 최소 5분 락 유지 (인스턴스 간 시계 오차로 인한 중복 실행 방지)
+ * lockAtMostFor: 최대 1시간 (한 번의 실행은 notification.retention.max-run-time 안에 끝난다)
+ *
+ * 실행 내내 스케줄러 스레드 하나를 점유하므로, 다른 @Scheduled 작업이 밀리지 않도록
+ * spring.task.scheduling.pool.size를 4로 둔다 (application.yml, SCHEDULING_POOL_SIZE로 변경 가능)
+ * 처리 결과는 NotificationArchiver가 기록한다
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationArchiveScheduler {
+
+    private final ArchiveNotificationsUseCase archiveNotificationsUseCase;
+
+    @Scheduled(cron = "0 30 4 * * *") // 매일 04:30 (트래픽이 가장 적은 시간)
+    @SchedulerLock(name = "NotificationArchiveScheduler", lockAtMostFor = "PT1H", lockAtLeastFor = "PT5M")
+    public void archiveReadNotifications() {
+        archiveNotificationsUseCase.archiveReadNotifications();
+    }
+}
@@ -0,0 +1,32 @@
+package com.hoops.notification.application.scheduler;
+
+import com.hoops.notification.application.port.in.ReconcileUnreadCountersUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 읽지 않은 알림 카운터 정합성 점검 스케줄러
+ *
+ * lockAtLeastFor: 최소 1분 락 유지 (인스턴스 간 시계 오차로 인한 중복 실행 방지)
+ * lockAtMostFor: 최대 4분 (다음 주기 전에 자동 해제)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCounterReconciliationScheduler {
+
+    private final ReconcileUnreadCountersUseCase reconcileUnreadCountersUseCase;
+
+    @Scheduled(cron = "45 */5 * * * *") // 5분마다 실행 (참가 자리 카운터 점검과 15초 간격)
+    @SchedulerLock(name = "UnreadCounterReconciliationScheduler", lockAtMostFor = "PT4M", lockAtLeastFor = "PT1M")
+    public void reconcileUnreadCounters() {
+        int corrected = reconcileUnreadCountersUseCase.reconcileUnreadCounters();
+
+        if (corrected > 0) {
+            log.info("Unread counter reconciliation completed. Corrected: {}", corrected);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.hoops.notification.application.service;
+
+import com.hoops.notification.application.port.out.NotificationArchivePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 알림 한 묶음을 짧은 트랜잭션 하나로 보관 테이블에 옮긴다
+ * PK로 지정한 행만 잠그므로 묶음 크기만큼의 행 락만 잠깐 유지된다
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationArchiveBatch {
+
+    private final NotificationArchivePort archivePort;
+
+    @Transactional
+    public int move(List<Long> notificationIds) {
+        return archivePort.moveToArchive(notificationIds);
+    }
+}
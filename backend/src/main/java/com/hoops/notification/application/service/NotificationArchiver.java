@@ -0,0 +1,120 @@
+package com.hoops.notification.application.service;
+
+import com.hoops.notification.application.port.in.ArchiveNotificationsUseCase;
+import com.hoops.notification.application.port.out.NotificationArchivePort;
+import com.hoops.notification.infrastructure.config.NotificationRetentionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 보관 기간이 지난 읽은 알림을 묶음 단위로 보관 테이블에 옮긴다
+ *
+ * 묶음마다 별도 트랜잭션으로 처리하여 긴 락을 잡지 않는다.
+ * 묶음 사이에는 쓰기에 걸린 시간에 비례해 쉬어 전체 시간 중 쓰기 비율을 dutyCycle 이하로 유지한다.
+ * 레플리카는 소스의 쓰기를 뒤따라 적용하므로, 쓰지 않는 시간만큼 따라잡을 여유가 생겨 복제 지연이 쌓이지 않는다.
+ * 읽지 않은 알림은 옮기지 않으므로 읽지 않은 알림 카운터는 바뀌지 않는다.
+ */
+@Slf4j
+@Service
+public class NotificationArchiver implements ArchiveNotificationsUseCase {
+
+    private static final String MOVED_METRIC = "notification.archive.moved";
+    private static final String RATE_METRIC = "notification.archive.rate";
+    private static final String BATCH_METRIC = "notification.archive.batch";
+    private static final String THROTTLE_METRIC = "notification.archive.throttle";
+
+    private final NotificationArchivePort archivePort;
+    private final NotificationArchiveBatch archiveBatch;
+    private final NotificationRetentionProperties properties;
+    private final Counter movedCounter;
+    private final Timer batchTimer;
+    private final Timer throttleTimer;
+    private final AtomicLong rowsPerSecond = new AtomicLong();
+
+    public NotificationArchiver(NotificationArchivePort archivePort,
+                                NotificationArchiveBatch archiveBatch,
+                                NotificationRetentionProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.archivePort = archivePort;
+        this.archiveBatch = archiveBatch;
+        this.properties = properties;
+        this.movedCounter = Counter.builder(MOVED_METRIC)
+                .description("Read notifications moved to the archive table")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder(BATCH_METRIC)
+                .description("Time spent in one archive transaction")
+                .register(meterRegistry);
+        this.throttleTimer = Timer.builder(THROTTLE_METRIC)
+                .description("Pause between archive batches to let replicas catch up")
+                .register(meterRegistry);
+        meterRegistry.gauge(RATE_METRIC, rowsPerSecond);
+    }
+
+    @Override
+    public int archiveReadNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + properties.maxRunTime().toNanos();
+
+        int moved = 0;
+        while (System.nanoTime() < deadline) {
+            List<Long> ids = archivePort.findArchivableIds(cutoff, properties.batchSize());
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            long batchStartedAt = System.nanoTime();
+            int batchMoved = archiveBatch.move(ids);
+            long batchNanos = System.nanoTime() - batchStartedAt;
+            batchTimer.record(batchNanos, TimeUnit.NANOSECONDS);
+            movedCounter.increment(batchMoved);
+            moved += batchMoved;
+
+            if (ids.size() < properties.batchSize() || !pause(throttleDelay(batchNanos))) {
+                break;
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        rowsPerSecond.set(moved * 1_000L / Math.max(1, elapsed.toMillis()));
+        if (moved > 0) {
+            log.info("Archived read notifications: moved={}, elapsed={}ms, rowsPerSecond={}, cutoff={}",
+                    moved, elapsed.toMillis(), rowsPerSecond.get(), cutoff);
+        }
+        return moved;
+    }
+
+    /**
+     * 쓰기 시간 : 쉬는 시간 = dutyCycle : (1 - dutyCycle)
+     */
+    private Duration throttleDelay(long batchNanos) {
+        double dutyCycle = properties.dutyCycle();
+        Duration proportional = Duration.ofNanos((long) (batchNanos * (1 - dutyCycle) / dutyCycle));
+        return proportional.compareTo(properties.minPause()) > 0 ? proportional : properties.minPause();
+    }
+
+    /**
+     * @return 계속 진행하면 true, 인터럽트되었으면 false
+     */
+    private boolean pause(Duration delay) {
+        long pausedAt = System.nanoTime();
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            throttleTimer.record(System.nanoTime() - pausedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.hoops.notification.application.service;
+
+import com.hoops.notification.application.dto.NotificationCommand;
+import com.hoops.notification.application.event.NotificationsCreatedEvent;
+import com.hoops.notification.application.event.UnreadCountChangedEvent;
+import com.hoops.notification.application.port.out.NotificationRepositoryPort;
+import com.hoops.notification.domain.model.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 묶음을 한 트랜잭션에서 배치 INSERT로 기록
+ *
+ * 큐 포화 시에는 호출 스레드, 즉 이미 커밋된 트랜잭션의 AFTER_COMMIT 콜백 안에서 호출되므로
+ * 바깥 트랜잭션에 참여하지 않도록 항상 새 트랜잭션으로 기록한다 (참여하면 커밋되지 않고 이벤트도 전달되지 않음).
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationBatchWriter {
+
+    private final NotificationRepositoryPort notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void write(List<NotificationCommand> commands) {
+        List<Notification> notifications = commands.stream()
+                .map(command -> Notification.createNew(command.userId(), command.type(),
+                        command.title(), command.message(), command.relatedMatchId()))
+                .toList();
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+
+        Map<Long, Integer> deltas = new HashMap<>();
+        for (NotificationCommand command : commands) {
+            deltas.merge(command.userId(), 1, Integer::sum);
+        }
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(deltas));
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(saved));
+    }
+}
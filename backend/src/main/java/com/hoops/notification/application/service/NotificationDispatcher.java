@@ -0,0 +1,202 @@
+package com.hoops.notification.application.service;
+
+import com.hoops.notification.application.dto.NotificationCommand;
+import com.hoops.notification.infrastructure.config.NotificationPipelineProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 알림 비동기 기록 파이프라인
+ *
+ * 요청 스레드는 알림을 제한된 크기의 큐에 넣고 바로 돌아가며, 작업자 스레드 하나가 큐에 쌓인 알림을
+ * 최대 배치 크기씩 꺼내 사용자별로 묶은 뒤 한 번의 배치 INSERT로 기록한다.
+ * 서로 다른 참가자의 신청/취소도 호스트에게는 같은 내용의 알림이 되므로, 내용이 같아도 합치지 않는다.
+ * 큐가 가득 차면 넣지 못한 알림은 호출 스레드가 직접 기록하여 생산 속도를 기록 속도에 맞춘다 (Backpressure).
+ * 종료 시에는 큐에 남은 알림을 모두 기록한 뒤 작업자를 멈춘다.
+ * 종료 플래그 확인과 큐 삽입은 같은 락 안에서 하므로, 작업자의 마지막 드레인 이후에 큐에 들어가는 알림은 없다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private static final String QUEUE_DEPTH_METRIC = "notification.pipeline.queue.depth";
+    private static final String OVERFLOW_METRIC = "notification.pipeline.overflow";
+    private static final String BATCH_SIZE_METRIC = "notification.pipeline.batch.size";
+    private static final String FAILED_METRIC = "notification.pipeline.failed";
+    private static final String WRITE_METRIC = "notification.pipeline.write";
+    private static final Duration FLUSH_CHECK_INTERVAL = Duration.ofMillis(10);
+
+    private final NotificationBatchWriter batchWriter;
+    private final NotificationPipelineProperties properties;
+    private final BlockingQueue<NotificationCommand> queue;
+    private final AtomicLong pending = new AtomicLong();
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private final ExecutorService worker;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer writeTimer;
+
+    private volatile boolean running = true;
+
+    public NotificationDispatcher(NotificationBatchWriter batchWriter,
+                                  NotificationPipelineProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.batchWriter = batchWriter;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        meterRegistry.gaugeCollectionSize(QUEUE_DEPTH_METRIC, Tags.empty(), queue);
+        this.overflowCounter = Counter.builder(OVERFLOW_METRIC)
+                .description("Notifications written on the caller thread because the queue was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(FAILED_METRIC)
+                .description("Notifications dropped because the batch insert failed")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Notifications written in one batch insert")
+                .register(meterRegistry);
+        this.writeTimer = meterRegistry.timer(WRITE_METRIC);
+
+        this.worker = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("notification-writer-"));
+        this.worker.execute(this::run);
+    }
+
+    /**
+     * 알림을 기록 큐에 넣는다
+     * 큐에 넣지 못한 알림(큐 포화, 종료 중)은 호출 스레드에서 바로 기록한다
+     */
+    public void dispatch(List<NotificationCommand> commands) {
+        List<NotificationCommand> overflow = new ArrayList<>();
+        lifecycleLock.readLock().lock();
+        try {
+            for (NotificationCommand command : commands) {
+                pending.incrementAndGet();
+                if (!running || !queue.offer(command)) {
+                    overflow.add(command);
+                }
+            }
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+
+        if (!overflow.isEmpty()) {
+            overflowCounter.increment(overflow.size());
+            log.warn("Notification queue saturated, writing on caller thread: count={}", overflow.size());
+            write(overflow);
+        }
+    }
+
+    /**
+     * 호출 이전에 넣은 알림이 모두 기록될 때까지 대기
+     *
+     * @return 제한 시간 안에 모두 기록되었으면 true
+     */
+    public boolean flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(FLUSH_CHECK_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(properties.shutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Notification writer did not drain in time: remaining={}", queue.size());
+                worker.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            worker.shutdownNow();
+        }
+    }
+
+    private void run() {
+        List<NotificationCommand> batch = new ArrayList<>(properties.batchSize());
+        try {
+            while (running) {
+                NotificationCommand first = queue.poll(properties.pollTimeout().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.batchSize() - 1);
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 요청 이후 큐에 남은 알림 기록
+        while (queue.drainTo(batch, properties.batchSize()) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<NotificationCommand> batch) {
+        List<NotificationCommand> grouped = groupByUser(batch);
+        try {
+            writeTimer.record(() -> batchWriter.write(grouped));
+            batchSizeSummary.record(grouped.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(grouped.size());
+            log.error("Failed to write notifications: count={}", grouped.size(), e);
+        } finally {
+            pending.addAndGet(-batch.size());
+        }
+    }
+
+    /**
+     * 사용자별로 묶어 같은 사용자의 알림이 연속으로 기록되게 한다 (사용자 안의 순서는 유지)
+     */
+    private List<NotificationCommand> groupByUser(List<NotificationCommand> batch) {
+        Map<Long, List<NotificationCommand>> byUser = new LinkedHashMap<>();
+        for (NotificationCommand command : batch) {
+            byUser.computeIfAbsent(command.userId(), userId -> new ArrayList<>()).add(command);
+        }
+
+        List<NotificationCommand> grouped = new ArrayList<>(batch.size());
+        byUser.values().forEach(grouped::addAll);
+        return grouped;
+    }
+}
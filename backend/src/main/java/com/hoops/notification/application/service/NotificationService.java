@@ -1,17 +1,22 @@
 package com.hoops.notification.application.service;
 
+import com.hoops.notification.application.dto.NotificationPage;
+import com.hoops.notification.application.event.NotificationsCreatedEvent;
+import com.hoops.notification.application.event.UnreadCountChangedEvent;
 import com.hoops.notification.application.exception.NotificationAccessDeniedException;
 import com.hoops.notification.application.exception.NotificationNotFoundException;
 import com.hoops.notification.application.port.in.CreateNotificationUseCase;
 import com.hoops.notification.application.port.in.GetNotificationsUseCase;
-import com.hoops.notification.application.port.in.GetUnreadCountUseCase;
+import com.hoops.notification.application.port.in.MarkAllNotificationsAsReadUseCase;
 import com.hoops.notification.application.port.in.MarkNotificationAsReadUseCase;
 import com.hoops.notification.domain.model.Notification;
+import com.hoops.notification.domain.vo.NotificationCursor;
 import com.hoops.notification.domain.vo.NotificationType;
 import com.hoops.notification.application.port.out.NotificationRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,16 +28,35 @@ import java.util.List;
 public class NotificationService implements
         GetNotificationsUseCase,
         MarkNotificationAsReadUseCase,
-        GetUnreadCountUseCase,
+        MarkAllNotificationsAsReadUseCase,
         CreateNotificationUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final NotificationRepositoryPort notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    public List<Notification> getNotifications(Long userId) {
-        return notificationRepository.findByUserId(userId);
+    public NotificationPage getNotifications(Long userId, NotificationCursor before, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // 한 건 더 조회하여 다음 페이지 존재 여부 판단
+        List<Notification> fetched = notificationRepository.findPageByUserId(userId, before, pageSize + 1);
+        boolean hasMore = fetched.size() > pageSize;
+        List<Notification> notifications = hasMore ? fetched.subList(0, pageSize) : fetched;
+
+        if (notifications.isEmpty()) {
+            return new NotificationPage(notifications, false, null, null);
+        }
+        NotificationCursor latestCursor = NotificationCursor.of(notifications.get(0));
+        NotificationCursor nextCursor = hasMore ? NotificationCursor.of(notifications.get(pageSize - 1)) : null;
+        return new NotificationPage(notifications, hasMore, latestCursor, nextCursor);
+    }
+
+    @Override
+    public List<Notification> getNotificationsAfter(Long userId, Long lastNotificationId, int limit) {
+        return notificationRepository.findByUserIdAfter(userId, lastNotificationId, limit);
     }
 
     @Override
@@ -45,13 +69,24 @@ public class NotificationService implements
             throw new NotificationAccessDeniedException(notificationId, userId);
         }
 
+        if (notification.getIsRead()) {
+            return;
+        }
+
         notification.markAsRead();
         notificationRepository.save(notification);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.of(userId, -1));
     }
 
     @Override
-    public int getUnreadCount(Long userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+    @Transactional
+    public int markAllAsRead(Long userId, NotificationCursor upTo) {
+        int updated = notificationRepository.markAllAsReadByUserId(userId, upTo);
+        if (updated > 0) {
+            eventPublisher.publishEvent(UnreadCountChangedEvent.of(userId, -updated));
+        }
+        log.info("알림 전체 읽음 처리 완료: userId={}, count={}", userId, updated);
+        return updated;
     }
 
     @Override
@@ -61,6 +96,8 @@ public class NotificationService implements
         Notification notification = Notification.createNew(userId, type, title, message, relatedMatchId);
 
         Notification saved = notificationRepository.save(notification);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.of(userId, 1));
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(List.of(saved)));
         log.info("알림 생성 완료: userId={}, type={}, matchId={}", userId, type, relatedMatchId);
         return saved;
     }
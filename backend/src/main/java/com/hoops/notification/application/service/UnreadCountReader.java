@@ -0,0 +1,57 @@
+package com.hoops.notification.application.service;
+
+import com.hoops.notification.application.port.in.GetUnreadCountUseCase;
+import com.hoops.notification.application.port.out.NotificationRepositoryPort;
+import com.hoops.notification.application.port.out.UnreadCounterPort;
+import com.hoops.notification.application.port.out.UnreadCounterPort.UnreadCountLookup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 읽지 않은 알림 개수 조회
+ *
+ * 배지 폴링은 Redis 카운터만 읽어 DB 커넥션을 잡지 않는다.
+ * 카운터가 없으면 DB에서 세어 로드하고, Redis 장애 시에는 DB 결과를 그대로 반환한다.
+ * 트랜잭션을 열지 않아야 카운터 적중 시 커넥션을 빌리지 않으므로 클래스 단위 @Transactional을 두지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCountReader implements GetUnreadCountUseCase {
+
+    private final UnreadCounterPort unreadCounter;
+    private final NotificationRepositoryPort notificationRepository;
+
+    @Override
+    public int getUnreadCount(Long userId) {
+        UnreadCountLookup lookup = lookup(userId);
+        if (lookup != null && lookup.isLoaded()) {
+            return lookup.count();
+        }
+
+        int count = notificationRepository.countUnreadByUserId(userId);
+        if (lookup != null) {
+            load(userId, lookup.generation(), count);
+        }
+        return count;
+    }
+
+    private UnreadCountLookup lookup(Long userId) {
+        try {
+            return unreadCounter.find(userId);
+        } catch (RuntimeException e) {
+            log.warn("Unread counter lookup failed, falling back to DB: userId={}", userId, e);
+            return null;
+        }
+    }
+
+    private void load(Long userId, long generation, int count) {
+        try {
+            boolean loaded = unreadCounter.load(userId, generation, count);
+            log.debug("Loaded unread counter: userId={}, count={}, loaded={}", userId, count, loaded);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load unread counter: userId={}", userId, e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.hoops.notification.application.service;
+
+import com.hoops.notification.application.port.in.ReconcileUnreadCountersUseCase;
+import com.hoops.notification.application.port.out.NotificationRepositoryPort;
+import com.hoops.notification.application.port.out.UnreadCounterPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 읽지 않은 알림 카운터와 DB 간 정합성 점검
+ *
+ * 카운터를 DB 값으로 덮어쓰면 점검 도중 반영된 증감분이 사라질 수 있으므로,
+ * 어긋난 카운터는 삭제하여 다음 조회 때 세대 번호 검사를 거쳐 다시 로드되게 한다.
+ * 커밋 직후 아직 반영되지 않은 증감분 때문에 일시적으로 어긋나 보이는 카운터도 삭제되지만 다시 로드될 뿐이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCounterReconciler implements ReconcileUnreadCountersUseCase {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final String DRIFT_METRIC = "notification.unread.reconcile.drift";
+
+    private final UnreadCounterPort unreadCounter;
+    private final NotificationRepositoryPort notificationRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public int reconcileUnreadCounters() {
+        Map<Long, Integer> counters = unreadCounter.findAllCounts();
+        List<Long> userIds = new ArrayList<>(counters.keySet());
+
+        int corrected = 0;
+        for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + CHUNK_SIZE, userIds.size()));
+            Map<Long, Integer> unreadCounts = notificationRepository.countUnreadByUserIds(chunk);
+
+            for (Long userId : chunk) {
+                int expected = unreadCounts.getOrDefault(userId, 0);
+                if (counters.get(userId) != expected) {
+                    log.warn("Unread counter drift: userId={}, redis={}, db={}",
+                            userId, counters.get(userId), expected);
+                    unreadCounter.evict(userId);
+                    corrected++;
+                }
+            }
+        }
+
+        meterRegistry.counter(DRIFT_METRIC).increment(corrected);
+        return corrected;
+    }
+}
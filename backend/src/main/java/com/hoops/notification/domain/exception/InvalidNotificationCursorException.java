@@ -0,0 +1,13 @@
+package com.hoops.notification.domain.exception;
+
+import com.hoops.common.exception.DomainException;
+
+public class InvalidNotificationCursorException extends DomainException {
+
+    private static final String DEFAULT_ERROR_CODE = "INVALID_NOTIFICATION_CURSOR";
+
+    public InvalidNotificationCursorException(String cursor) {
+        super(DEFAULT_ERROR_CODE,
+                String.format("잘못된 알림 커서입니다: %s", cursor));
+    }
+}
@@ -0,0 +1,41 @@
+package com.hoops.notification.domain.vo;
+
+import com.hoops.notification.domain.exception.InvalidNotificationCursorException;
+import com.hoops.notification.domain.model.Notification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 알림 목록의 페이지 경계 위치
+ * 알림의 (생성 시각, ID)를 기억하여 최신순 목록에서 그 위치를 기준으로 조회하거나 읽음 처리한다
+ * 생성 시각이 같은 알림은 ID로 순서를 정한다
+ */
+public record NotificationCursor(LocalDateTime createdAt, long notificationId) {
+
+    private static final String DELIMITER = ",";
+
+    public static NotificationCursor of(Notification notification) {
+        return new NotificationCursor(notification.getCreatedAt(), notification.getId());
+    }
+
+    public static NotificationCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            if (parts.length != 2) {
+                throw new InvalidNotificationCursorException(cursor);
+            }
+            return new NotificationCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidNotificationCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + notificationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,9 @@
+package com.hoops.notification.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(NotificationPipelineProperties.class)
+public class NotificationPipelineConfig {
+}
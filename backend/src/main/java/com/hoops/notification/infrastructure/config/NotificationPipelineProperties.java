@@ -0,0 +1,42 @@
+package com.hoops.notification.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 알림 비동기 기록 파이프라인 설정 프로퍼티
+ *
+ * @param queueCapacity 기록 대기 큐 크기 (가득 차면 호출 스레드가 직접 기록)
+ * @param batchSize 한 번의 배치 INSERT로 기록하는 최대 알림 수
+ * @param pollTimeout 작업자가 큐를 기다리는 최대 시간 (종료 요청 확인 주기)
+ * @param shutdownTimeout 종료 시 남은 알림을 기록하기 위해 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "notification.pipeline")
+public record NotificationPipelineProperties(
+        Integer queueCapacity,
+        Integer batchSize,
+        Duration pollTimeout,
+        Duration shutdownTimeout
+) {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final Duration DEFAULT_POLL_TIMEOUT = Duration.ofMillis(200);
+    private static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    public NotificationPipelineProperties {
+        if (queueCapacity == null || queueCapacity < 1) {
+            queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        }
+        if (batchSize == null || batchSize < 1) {
+            batchSize = DEFAULT_BATCH_SIZE;
+        }
+        if (pollTimeout == null) {
+            pollTimeout = DEFAULT_POLL_TIMEOUT;
+        }
+        if (shutdownTimeout == null) {
+            shutdownTimeout = DEFAULT_SHUTDOWN_TIMEOUT;
+        }
+    }
+}
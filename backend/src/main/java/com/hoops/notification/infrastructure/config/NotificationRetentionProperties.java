@@ -0,0 +1,48 @@
+package com.hoops.notification.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 알림 보관(archival) 작업 설정 프로퍼티
+ *
+ * @param retention 읽은 알림을 notifications 테이블에 남겨 두는 기간
+ * @param batchSize 한 트랜잭션에서 옮기는 최대 알림 수 (락 유지 시간 상한)
+ * @param maxRunTime 한 번 실행할 때 작업하는 최대 시간 (ShedLock lockAtMostFor보다 짧게)
+ * @param minPause 배치 사이 최소 대기 시간
+ * @param dutyCycle 전체 실행 시간 중 쓰기에 쓰는 최대 비율 (0 초과 1 이하, 나머지 시간은 레플리카가 따라잡도록 쉰다)
+ */
+@ConfigurationProperties(prefix = "notification.retention")
+public record NotificationRetentionProperties(
+        Duration retention,
+        Integer batchSize,
+        Duration maxRunTime,
+        Duration minPause,
+        Double dutyCycle
+) {
+
+    private static final Duration DEFAULT_RETENTION = Duration.ofDays(90);
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final Duration DEFAULT_MAX_RUN_TIME = Duration.ofMinutes(50);
+    private static final Duration DEFAULT_MIN_PAUSE = Duration.ofMillis(50);
+    private static final double DEFAULT_DUTY_CYCLE = 0.5;
+
+    public NotificationRetentionProperties {
+        if (retention == null) {
+            retention = DEFAULT_RETENTION;
+        }
+        if (batchSize == null || batchSize < 1) {
+            batchSize = DEFAULT_BATCH_SIZE;
+        }
+        if (maxRunTime == null) {
+            maxRunTime = DEFAULT_MAX_RUN_TIME;
+        }
+        if (minPause == null) {
+            minPause = DEFAULT_MIN_PAUSE;
+        }
+        if (dutyCycle == null || dutyCycle <= 0 || dutyCycle > 1) {
+            dutyCycle = DEFAULT_DUTY_CYCLE;
+        }
+    }
+}
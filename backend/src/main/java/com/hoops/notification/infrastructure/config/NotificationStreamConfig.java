@@ -0,0 +1,31 @@
+package com.hoops.notification.infrastructure.config;
+
+import com.hoops.notification.adapter.in.sse.NotificationPushRelay;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(NotificationStreamProperties.class)
+public class NotificationStreamConfig {
+
+    @Bean
+    public RedisMessageListenerContainer notificationPushListenerContainer(
+            RedisConnectionFactory connectionFactory, NotificationPushRelay relay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        // 메시지마다 스레드를 만들지 않고, 한 스레드에서 순서대로 전달하여 사용자별 알림 순서를 지킨다
+        // Executor 빈으로 등록하면 기본 applicationTaskExecutor가 빠지므로 컨테이너 안에서만 사용한다
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("notification-push-");
+        threadFactory.setDaemon(true);
+        container.setTaskExecutor(Executors.newSingleThreadExecutor(threadFactory));
+        container.addMessageListener(relay, new ChannelTopic(NotificationPushRelay.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,30 @@
+package com.hoops.notification.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 알림 실시간 스트림(SSE) 설정 프로퍼티
+ *
+ * @param timeout 연결 유지 시간 (만료되면 클라이언트가 Last-Event-ID로 다시 연결)
+ * @param resumeLimit 재연결 시 Last-Event-ID 이후로 다시 보내는 최대 알림 수
+ */
+@ConfigurationProperties(prefix = "notification.stream")
+public record NotificationStreamProperties(
+        Duration timeout,
+        Integer resumeLimit
+) {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(30);
+    private static final int DEFAULT_RESUME_LIMIT = 100;
+
+    public NotificationStreamProperties {
+        if (timeout == null) {
+            timeout = DEFAULT_TIMEOUT;
+        }
+        if (resumeLimit == null || resumeLimit < 1) {
+            resumeLimit = DEFAULT_RESUME_LIMIT;
+        }
+    }
+}
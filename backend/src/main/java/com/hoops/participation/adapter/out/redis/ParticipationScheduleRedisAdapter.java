@@ -0,0 +1,54 @@
+package com.hoops.participation.adapter.out.redis;
+
+import com.hoops.common.infrastructure.redis.ScheduleIntervalRedisIndex;
+import com.hoops.common.schedule.ScheduleInterval;
+import com.hoops.common.schedule.ScheduleOverlapLookup;
+import com.hoops.participation.application.port.out.ParticipationScheduleIndexPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+public class ParticipationScheduleRedisAdapter implements ParticipationScheduleIndexPort {
+
+    private static final String NAMESPACE = "participations:schedule";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private final ScheduleIntervalRedisIndex index;
+
+    public ParticipationScheduleRedisAdapter(RedisTemplate<String, String> redisTemplate) {
+        this.index = new ScheduleIntervalRedisIndex(redisTemplate, NAMESPACE, TTL);
+    }
+
+    @Override
+    public ScheduleOverlapLookup findOverlap(Long userId, LocalDateTime start, LocalDateTime end) {
+        return index.findOverlap(userId, start, end);
+    }
+
+    @Override
+    public void load(Long userId, long generation, List<ScheduleInterval> intervals) {
+        boolean loaded = index.load(userId, generation, intervals);
+        log.debug("Loaded participation schedule index: userId={}, intervals={}, loaded={}",
+                userId, intervals.size(), loaded);
+    }
+
+    @Override
+    public void add(Long userId, ScheduleInterval interval) {
+        index.add(userId, interval);
+    }
+
+    @Override
+    public void invalidate(Long userId) {
+        index.invalidate(userId);
+    }
+
+    @Override
+    public void clearAll() {
+        index.clearAll();
+    }
+}
@@ -0,0 +1,13 @@
+package com.hoops.participation.application.event;
+
+import com.hoops.common.schedule.ScheduleInterval;
+
+/**
+ * 참가 신청(재신청 포함) 이벤트
+ * 트랜잭션 커밋 후 사용자 참가 일정 인덱스에 경기 구간 추가
+ */
+public record ParticipationScheduleAddedEvent(
+        Long userId,
+        ScheduleInterval interval
+) {
+}
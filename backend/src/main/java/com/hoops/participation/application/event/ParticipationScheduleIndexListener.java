@@ -0,0 +1,58 @@
+package com.hoops.participation.application.event;
+
+import com.hoops.common.event.MatchScheduleChangedEvent;
+import com.hoops.participation.application.port.out.ParticipationRepositoryPort;
+import com.hoops.participation.application.port.out.ParticipationScheduleIndexPort;
+import com.hoops.participation.domain.model.Participation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자 참가 일정 인덱스 이벤트 리스너
+ * 인덱스 반영에 실패해도 요청을 실패시키지 않는다.
+ * 구간 추가에 실패하면 새 참가가 빠진 인덱스가 남지 않도록 인덱스를 무효화하여 다음 중복 체크에서 DB로 다시 로드한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationScheduleIndexListener {
+
+    private final ParticipationScheduleIndexPort scheduleIndex;
+    private final ParticipationRepositoryPort participationRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleScheduleAdded(ParticipationScheduleAddedEvent event) {
+        try {
+            scheduleIndex.add(event.userId(), event.interval());
+        } catch (Exception e) {
+            log.warn("Failed to add participation schedule interval, invalidating index: userId={}", event.userId(), e);
+            runSafely(event.userId(), () -> scheduleIndex.invalidate(event.userId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleScheduleRemoved(ParticipationScheduleRemovedEvent event) {
+        runSafely(event.userId(), () -> scheduleIndex.invalidate(event.userId()));
+    }
+
+    /**
+     * 경기 시간이 바뀌었으므로 참가자 전원의 인덱스를 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMatchScheduleChanged(MatchScheduleChangedEvent event) {
+        for (Participation participation : participationRepository.findByMatchIdAndNotCancelled(event.getMatchId())) {
+            runSafely(participation.getUserId(), () -> scheduleIndex.invalidate(participation.getUserId()));
+        }
+    }
+
+    private void runSafely(Long userId, Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("Failed to update participation schedule index: userId={}", userId, e);
+        }
+    }
+}
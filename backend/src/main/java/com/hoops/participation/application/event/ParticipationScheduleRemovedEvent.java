@@ -0,0 +1,10 @@
+package com.hoops.participation.application.event;
+
+/**
+ * 참가 취소/거절 이벤트
+ * 트랜잭션 커밋 후 사용자 참가 일정 인덱스 무효화 (다음 중복 체크 시 DB에서 다시 로드)
+ */
+public record ParticipationScheduleRemovedEvent(
+        Long userId
+) {
+}
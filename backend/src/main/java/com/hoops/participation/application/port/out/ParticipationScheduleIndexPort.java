@@ -0,0 +1,37 @@
+package com.hoops.participation.application.port.out;
+
+import com.hoops.common.schedule.ScheduleInterval;
+import com.hoops.common.schedule.ScheduleOverlapLookup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자별 참가 일정 인덱스 포트
+ *
+ * 활성 참가(PENDING, CONFIRMED) 경기의 시간 구간을 사용자별로 보관하여
+ * 시간 중복 체크를 DB 조회 없이 처리합니다. 인덱스가 없으면 DB 조회 결과로 로드합니다.
+ */
+public interface ParticipationScheduleIndexPort {
+
+    /**
+     * 새 구간과 겹치는 참가 후보를 조회합니다.
+     * 인덱스가 없으면 loaded=false와 함께 로드에 사용할 세대 번호를 반환합니다.
+     */
+    ScheduleOverlapLookup findOverlap(Long userId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * DB에서 조회한 활성 참가 구간으로 인덱스를 로드합니다.
+     * 조회 이후 인덱스가 변경되었다면(세대 번호 불일치) 로드하지 않습니다.
+     */
+    void load(Long userId, long generation, List<ScheduleInterval> intervals);
+
+    /**
+     * 인덱스가 로드되어 있을 때만 구간을 추가합니다.
+     */
+    void add(Long userId, ScheduleInterval interval);
+
+    void invalidate(Long userId);
+
+    void clearAll();
+}
@@ -0,0 +1,287 @@
+package com.hoops.participation.application.service;
+
+import com.hoops.participation.application.exception.ParticipationConflictException;
+import com.hoops.participation.application.port.in.ParticipateInMatchCommand;
+import com.hoops.participation.application.service.ParticipationBatchAdmitter.AdmissionResult;
+import com.hoops.participation.domain.model.Participation;
+import com.hoops.participation.infrastructure.config.ParticipationAdmissionProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 경기별 참가 신청 Admission Queue
+ *
+ * 매치 ID로 나눈 스트라이프마다 작업자 스레드 하나가 요청을 순서대로 처리한다.
+ * 같은 경기에 몰린 요청은 한 스트라이프에 쌓였다가 한 트랜잭션으로 묶여 처리되므로
+ * 경기 정보 조회와 낙관적 락 충돌 재시도가 요청 수만큼 반복되지 않는다.
+ * 다른 스트라이프에 속한 경기의 요청은 병렬로 처리된다.
+ */
+@Slf4j
+@Component
+public class ParticipationAdmissionQueue {
+
+    private static final String QUEUE_DEPTH_METRIC = "participation.admission.queue.depth";
+    private static final String BATCH_SIZE_METRIC = "participation.admission.batch.size";
+
+    private final ParticipationBatchAdmitter batchAdmitter;
+    private final ParticipationAdmissionProperties properties;
+    private final DistributionSummary batchSizeSummary;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final Stripe[] stripes;
+
+    private volatile boolean running = true;
+
+    public ParticipationAdmissionQueue(ParticipationBatchAdmitter batchAdmitter,
+                                       ParticipationAdmissionProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.batchAdmitter = batchAdmitter;
+        this.properties = properties;
+        this.batchSizeSummary = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Participation requests committed in one transaction")
+                .register(meterRegistry);
+        meterRegistry.gauge(QUEUE_DEPTH_METRIC, queueDepth);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("participation-admission-");
+        this.stripes = new Stripe[properties.stripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(Executors.newSingleThreadExecutor(threadFactory));
+        }
+    }
+
+    /**
+     * 참가 신청을 큐에 넣고 처리 결과를 기다린다
+     *
+     * 제한 시간 안에 끝나지 않아도 작업자가 이미 꺼낸 요청은 커밋될 수 있으므로 실제 결과를 끝까지 기다리고,
+     * 아직 꺼내지지 않은 요청을 취소하는 데 성공한 경우에만 충돌로 응답한다.
+     *
+     * @throws com.hoops.common.exception.BusinessException 검증 실패 시 해당 예외 그대로
+     * @throws ParticipationConflictException 제한 시간 안에 처리가 시작되지 않았거나 종료 중인 경우
+     */
+    public Participation admit(ParticipateInMatchCommand command) {
+        AdmissionRequest request = new AdmissionRequest(command);
+        stripeOf(command.matchId()).enqueue(request);
+
+        try {
+            return request.result().get(properties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            return cancelOrAwait(request);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return cancelOrAwait(request);
+        }
+    }
+
+    /**
+     * 큐에 남아 있던 요청은 취소하고, 종료 제한 시간 동안 작업자를 기다린 뒤에도 처리되지 않은 요청은 실패시킨다
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Stripe stripe : stripes) {
+            stripe.executor.shutdown();
+        }
+        for (Stripe stripe : stripes) {
+            try {
+                if (!stripe.executor.awaitTermination(properties.timeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                    log.warn("Participation admission worker did not finish in time");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            stripe.failPending();
+        }
+    }
+
+    private Participation cancelOrAwait(AdmissionRequest request) {
+        if (request.cancel()) {
+            throw new ParticipationConflictException(request.command().matchId());
+        }
+        // 작업자가 이미 처리 중이므로 커밋 여부와 상관없이 실제 결과를 돌려준다
+        try {
+            return request.result().join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private Stripe stripeOf(Long matchId) {
+        return stripes[Math.floorMod(Long.hashCode(matchId), stripes.length)];
+    }
+
+    private void process(List<AdmissionRequest> batch) {
+        Map<Long, List<AdmissionRequest>> byMatch = new LinkedHashMap<>();
+        for (AdmissionRequest request : batch) {
+            if (request.start()) {
+                byMatch.computeIfAbsent(request.command().matchId(), id -> new ArrayList<>()).add(request);
+            }
+        }
+        byMatch.forEach(this::admitGroup);
+    }
+
+    private void admitGroup(Long matchId, List<AdmissionRequest> requests) {
+        try {
+            List<AdmissionResult> results = batchAdmitter.admit(matchId, commandsOf(requests));
+            batchSizeSummary.record(requests.size());
+            complete(requests, results);
+        } catch (RuntimeException e) {
+            if (requests.size() == 1) {
+                requests.get(0).result().completeExceptionally(e);
+                return;
+            }
+            // 묶음 트랜잭션이 롤백되었으므로 요청마다 따로 처리하여 실패 요청만 실패시킨다
+            log.warn("Participation batch failed, retrying one by one: matchId={}, size={}", matchId, requests.size(), e);
+            for (AdmissionRequest request : requests) {
+                admitGroup(matchId, List.of(request));
+            }
+        }
+    }
+
+    private List<ParticipateInMatchCommand> commandsOf(List<AdmissionRequest> requests) {
+        return requests.stream()
+                .map(AdmissionRequest::command)
+                .toList();
+    }
+
+    private void complete(List<AdmissionRequest> requests, List<AdmissionResult> results) {
+        for (int i = 0; i < requests.size(); i++) {
+            AdmissionResult result = results.get(i);
+            if (result.failure() != null) {
+                requests.get(i).result().completeExceptionally(result.failure());
+            } else {
+                requests.get(i).result().complete(result.participation());
+            }
+        }
+    }
+
+    /**
+     * 대기 중 → 처리 시작 또는 취소, 둘 중 먼저 일어난 쪽만 성공한다
+     */
+    private static final class AdmissionRequest {
+
+        private static final int WAITING = 0;
+        private static final int STARTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final ParticipateInMatchCommand command;
+        private final CompletableFuture<Participation> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private AdmissionRequest(ParticipateInMatchCommand command) {
+            this.command = command;
+        }
+
+        private ParticipateInMatchCommand command() {
+            return command;
+        }
+
+        private CompletableFuture<Participation> result() {
+            return result;
+        }
+
+        private boolean start() {
+            return state.compareAndSet(WAITING, STARTED);
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+    }
+
+    /**
+     * 단일 작업자 큐
+     * 요청이 들어오면 작업자가 없을 때만 드레인 작업을 예약하고, 작업자는 큐가 빌 때까지 최대 묶음 크기씩 꺼내 처리한다
+     */
+    private final class Stripe {
+
+        private final ExecutorService executor;
+        private final LinkedBlockingQueue<AdmissionRequest> queue = new LinkedBlockingQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Stripe(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        private void enqueue(AdmissionRequest request) {
+            if (!running) {
+                throw new ParticipationConflictException(request.command().matchId());
+            }
+            queue.add(request);
+            queueDepth.incrementAndGet();
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // 종료 중 - 남은 요청은 shutdown()에서 실패 처리된다
+                    draining.set(false);
+                    failPending();
+                }
+            }
+        }
+
+        /**
+         * 큐에 남은 요청 중 아직 시작되지 않은 요청을 충돌로 실패시킨다
+         */
+        private void failPending() {
+            AdmissionRequest request;
+            while ((request = queue.poll()) != null) {
+                queueDepth.decrementAndGet();
+                if (request.cancel()) {
+                    request.result().completeExceptionally(
+                            new ParticipationConflictException(request.command().matchId()));
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                List<AdmissionRequest> batch = new ArrayList<>(properties.maxBatchSize());
+                while (queue.drainTo(batch, properties.maxBatchSize()) > 0) {
+                    queueDepth.addAndGet(-batch.size());
+                    process(batch);
+                    batch.clear();
+                }
+            } catch (RuntimeException e) {
+                log.error("Participation admission worker failed", e);
+            } finally {
+                draining.set(false);
+                // 드레인 종료 직전에 들어온 요청이 남아 있으면 다시 예약
+                if (!queue.isEmpty()) {
+                    scheduleDrain();
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.hoops.participation.application.service;
 
 import com.hoops.common.exception.BusinessException;
+import com.hoops.participation.application.event.ParticipationScheduleRemovedEvent;
 import com.hoops.participation.application.exception.ParticipationConflictException;
 import com.hoops.participation.application.port.in.ApproveParticipationCommand;
 import com.hoops.participation.application.port.in.ApproveParticipationUseCase;
@@ -11,6 +12,7 @@ import com.hoops.participation.application.port.out.MatchInfoPort;
 import com.hoops.participation.domain.model.Participation;
 import com.hoops.participation.application.port.out.ParticipationRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
@@ -27,6 +29,7 @@ public class ParticipationApprover implements ApproveParticipationUseCase, Rejec
     private final MatchInfoPort matchInfoPort;
     private final ParticipationValidator validator;
     private final ParticipationFinder finder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Retryable(
@@ -59,7 +62,9 @@ public class ParticipationApprover implements ApproveParticipationUseCase, Rejec
 
         validator.validateHostPermission(matchInfo, command.hostUserId());
 
-        return participationRepository.save(participation.reject());
+        Participation rejected = participationRepository.save(participation.reject());
+        eventPublisher.publishEvent(new ParticipationScheduleRemovedEvent(rejected.getUserId()));
+        return rejected;
     }
 
     @Recover
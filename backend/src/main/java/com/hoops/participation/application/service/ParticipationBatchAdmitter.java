@@ -0,0 +1,66 @@
+package com.hoops.participation.application.service;
+
+import com.hoops.common.exception.BusinessException;
+import com.hoops.participation.application.port.in.ParticipateInMatchCommand;
+import com.hoops.participation.application.port.out.MatchInfo;
+import com.hoops.participation.application.port.out.MatchInfoPort;
+import com.hoops.participation.domain.model.Participation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 같은 경기에 대한 참가 신청 묶음을 한 트랜잭션에서 검증하고 저장
+ *
+ * 경기 정보는 묶음마다 한 번만 조회한다.
+ * 요청을 순서대로 처리하므로 같은 사용자의 중복 요청은 앞선 요청의 저장 결과를 보고 거절된다.
+ * 비즈니스 검증 실패는 해당 요청의 결과로만 기록하고 나머지 요청은 계속 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticipationBatchAdmitter {
+
+    private final MatchInfoPort matchInfoPort;
+    private final ParticipationValidator validator;
+    private final ParticipationCreator creator;
+
+    /**
+     * @return 요청 순서와 같은 순서의 처리 결과
+     */
+    @Transactional
+    public List<AdmissionResult> admit(Long matchId, List<ParticipateInMatchCommand> commands) {
+        MatchInfo matchInfo;
+        try {
+            matchInfo = matchInfoPort.getMatchInfo(matchId);
+        } catch (BusinessException e) {
+            return commands.stream()
+                    .map(command -> AdmissionResult.rejected(e))
+                    .toList();
+        }
+
+        List<AdmissionResult> results = new ArrayList<>(commands.size());
+        for (ParticipateInMatchCommand command : commands) {
+            try {
+                validator.validateForParticipation(matchInfo, command.userId());
+                results.add(AdmissionResult.admitted(creator.create(command, matchInfo)));
+            } catch (BusinessException e) {
+                results.add(AdmissionResult.rejected(e));
+            }
+        }
+        return results;
+    }
+
+    public record AdmissionResult(Participation participation, BusinessException failure) {
+
+        static AdmissionResult admitted(Participation participation) {
+            return new AdmissionResult(participation, null);
+        }
+
+        static AdmissionResult rejected(BusinessException failure) {
+            return new AdmissionResult(null, failure);
+        }
+    }
+}
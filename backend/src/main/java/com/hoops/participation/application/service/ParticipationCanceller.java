@@ -1,24 +1,33 @@
 package com.hoops.participation.application.service;
 
+import com.hoops.common.event.ParticipationCancelledEvent;
+import com.hoops.participation.application.event.ParticipationScheduleRemovedEvent;
 import com.hoops.participation.application.port.out.MatchInfo;
 import com.hoops.participation.application.port.out.MatchInfoPort;
 import com.hoops.participation.domain.model.Participation;
 import com.hoops.participation.domain.vo.ParticipationStatus;
 import com.hoops.participation.application.port.out.ParticipationRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Component
 @RequiredArgsConstructor
 public class ParticipationCanceller {
 
     private final ParticipationRepositoryPort participationRepository;
     private final MatchInfoPort matchInfoProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void cancel(Participation participation, MatchInfo matchInfo, Long matchId) {
         boolean wasConfirmed = participation.getStatus() == ParticipationStatus.CONFIRMED;
 
         participationRepository.save(participation.cancel());
+        eventPublisher.publishEvent(new ParticipationScheduleRemovedEvent(participation.getUserId()));
+        eventPublisher.publishEvent(new ParticipationCancelledEvent(participation.getId(), matchId,
+                matchInfo.hostId(), participation.getUserId(), matchInfo.title(), LocalDateTime.now()));
 
         if (wasConfirmed) {
             matchInfoProvider.removeParticipant(matchId);
@@ -1,20 +1,32 @@
 package com.hoops.participation.application.service;
 
+import com.hoops.common.event.ParticipationCreatedEvent;
+import com.hoops.common.schedule.ScheduleInterval;
+import com.hoops.participation.application.event.ParticipationScheduleAddedEvent;
 import com.hoops.participation.application.port.in.ParticipateInMatchCommand;
 import com.hoops.participation.application.port.out.MatchInfo;
 import com.hoops.participation.domain.model.Participation;
 import com.hoops.participation.application.port.out.ParticipationRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Component
 @RequiredArgsConstructor
 public class ParticipationCreator {
 
     private final ParticipationRepositoryPort participationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Participation create(ParticipateInMatchCommand command, MatchInfo matchInfo) {
-        return findOrCreateParticipation(command);
+        Participation participation = findOrCreateParticipation(command);
+        eventPublisher.publishEvent(new ParticipationScheduleAddedEvent(command.userId(),
+                new ScheduleInterval(matchInfo.matchId(), matchInfo.getStartDateTime(), matchInfo.getEndDateTime())));
+        eventPublisher.publishEvent(new ParticipationCreatedEvent(participation.getId(), matchInfo.matchId(),
+                matchInfo.hostId(), command.userId(), matchInfo.title(), LocalDateTime.now()));
+        return participation;
     }
 
     private Participation findOrCreateParticipation(ParticipateInMatchCommand command) {
@@ -1,49 +1,26 @@
 package com.hoops.participation.application.service;
 
-import com.hoops.common.exception.BusinessException;
-import com.hoops.participation.application.exception.ParticipationConflictException;
 import com.hoops.participation.application.port.in.ParticipateInMatchCommand;
 import com.hoops.participation.application.port.in.ParticipateInMatchUseCase;
-import com.hoops.participation.application.port.out.MatchInfo;
-import com.hoops.participation.application.port.out.MatchInfoPort;
 import com.hoops.participation.domain.model.Participation;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 경기 참가 신청
+ *
+ * 같은 경기에 동시에 몰린 요청을 한 트랜잭션으로 묶어 처리하도록 Admission Queue에 위임한다.
+ * 요청 스레드는 트랜잭션 없이 결과만 기다리므로 대기 중에 DB 커넥션을 점유하지 않는다.
+ * 같은 경기의 요청은 한 작업자가 순서대로 처리하므로 낙관적 락 충돌 재시도가 필요 없다.
+ */
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class ParticipationJoiner implements ParticipateInMatchUseCase {
 
-    private final MatchInfoPort matchInfoPort;
-    private final ParticipationValidator validator;
-    private final ParticipationCreator creator;
+    private final ParticipationAdmissionQueue admissionQueue;
 
     @Override
-    @Retryable(
-            retryFor = OptimisticLockingFailureException.class,
-            noRetryFor = BusinessException.class,
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 100, multiplier = 2)
-    )
     public Participation participateInMatch(ParticipateInMatchCommand command) {
-        MatchInfo matchInfo = matchInfoPort.getMatchInfo(command.matchId());
-        validator.validateForParticipation(matchInfo, command.userId());
-        return creator.create(command, matchInfo);
-    }
-
-    @Recover
-    public Participation recoverFromConflict(OptimisticLockingFailureException e, ParticipateInMatchCommand command) {
-        throw new ParticipationConflictException(command.matchId());
-    }
-
-    @Recover
-    public Participation recoverFromBusinessException(BusinessException e, ParticipateInMatchCommand command) {
-        throw e;
+        return admissionQueue.admit(command);
     }
 }
@@ -1,5 +1,7 @@
 package com.hoops.participation.application.service;
 
+import com.hoops.common.schedule.ScheduleInterval;
+import com.hoops.common.schedule.ScheduleOverlapLookup;
 import com.hoops.participation.application.exception.AlreadyParticipatingException;
 import com.hoops.participation.application.exception.CancelTimeExceededException;
 import com.hoops.participation.application.exception.HostCannotParticipateException;
@@ -13,7 +15,9 @@ import com.hoops.participation.application.port.out.MatchInfo;
 import com.hoops.participation.application.port.out.MatchInfoPort;
 import com.hoops.participation.domain.model.Participation;
 import com.hoops.participation.application.port.out.ParticipationRepositoryPort;
+import com.hoops.participation.application.port.out.ParticipationScheduleIndexPort;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -21,12 +25,14 @@ import java.util.List;
 /**
  * 참가 관련 검증 로직을 담당하는 Validator
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ParticipationValidator {
 
     private final ParticipationRepositoryPort participationRepository;
     private final MatchInfoPort matchInfoProvider;
+    private final ParticipationScheduleIndexPort scheduleIndex;
 
     public void validateForParticipation(MatchInfo matchInfo, Long userId) {
         validateNotHost(matchInfo, userId);
@@ -69,22 +75,74 @@ public class ParticipationValidator {
         }
     }
 
+    /**
+     * 사용자 참가 일정 인덱스로 먼저 판단하고, 인덱스가 없거나 겹치는 후보가 있을 때만 DB로 확인한다
+     * 후보를 DB로 다시 확인하므로 인덱스에 남은 오래된 구간 때문에 잘못 거절하지 않는다
+     */
     private void validateNoOverlappingParticipation(MatchInfo targetMatch, Long userId) {
-        List<Participation> userParticipations = participationRepository.findActiveParticipationsByUserId(userId);
-        if (userParticipations.isEmpty()) {
+        ScheduleOverlapLookup lookup = lookupScheduleIndex(targetMatch, userId);
+        if (lookup != null && lookup.loaded() && !lookup.hasOverlap()) {
             return;
         }
 
-        List<Long> matchIds = userParticipations.stream()
-                .map(Participation::getMatchId)
-                .toList();
+        List<MatchInfo> existingMatches = findActiveParticipationMatches(userId);
+        if (lookup != null && !lookup.loaded()) {
+            loadScheduleIndex(userId, lookup.generation(), existingMatches);
+        }
 
-        List<MatchInfo> existingMatches = matchInfoProvider.getMatchInfoByIds(matchIds);
         for (MatchInfo existingMatch : existingMatches) {
             if (existingMatch.overlapsWithTime(targetMatch.getStartDateTime(), targetMatch.getEndDateTime())) {
                 throw new OverlappingParticipationException(targetMatch.matchId(), existingMatch.matchId());
             }
         }
+
+        if (lookup != null && lookup.hasOverlap()) {
+            // DB에서 확인되지 않은 후보는 오래된 구간이므로 인덱스를 버리고 다음 체크에서 다시 로드
+            invalidateScheduleIndex(userId);
+        }
+    }
+
+    /**
+     * @return 조회 결과, Redis 장애 시 null (DB로 판단)
+     */
+    private ScheduleOverlapLookup lookupScheduleIndex(MatchInfo targetMatch, Long userId) {
+        try {
+            return scheduleIndex.findOverlap(userId, targetMatch.getStartDateTime(), targetMatch.getEndDateTime());
+        } catch (RuntimeException e) {
+            log.warn("Schedule index lookup failed, falling back to DB: userId={}", userId, e);
+            return null;
+        }
+    }
+
+    private List<MatchInfo> findActiveParticipationMatches(Long userId) {
+        List<Participation> userParticipations = participationRepository.findActiveParticipationsByUserId(userId);
+        if (userParticipations.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> matchIds = userParticipations.stream()
+                .map(Participation::getMatchId)
+                .toList();
+        return matchInfoProvider.getMatchInfoByIds(matchIds);
+    }
+
+    private void loadScheduleIndex(Long userId, long generation, List<MatchInfo> matches) {
+        List<ScheduleInterval> intervals = matches.stream()
+                .map(match -> new ScheduleInterval(match.matchId(), match.getStartDateTime(), match.getEndDateTime()))
+                .toList();
+        try {
+            scheduleIndex.load(userId, generation, intervals);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load schedule index: userId={}", userId, e);
+        }
+    }
+
+    private void invalidateScheduleIndex(Long userId) {
+        try {
+            scheduleIndex.invalidate(userId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to invalidate schedule index: userId={}", userId, e);
+        }
     }
 
     private void validateIsOwner(Participation participation, Long userId) {
@@ -0,0 +1,9 @@
+package com.hoops.participation.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ParticipationAdmissionProperties.class)
+public class ParticipationAdmissionConfig {
+}
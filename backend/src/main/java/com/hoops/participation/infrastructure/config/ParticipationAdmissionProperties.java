@@ -0,0 +1,36 @@
+package com.hoops.participation.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 참가 신청 Admission Queue 설정 프로퍼티
+ *
+ * @param stripes 매치 ID를 나눠 담는 단일 작업자 큐 개수 (서로 다른 큐의 매치는 병렬 처리)
+ * @param maxBatchSize 한 트랜잭션에서 처리하는 최대 요청 수
+ * @param timeout 요청 스레드가 처리 결과를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "participation.admission")
+public record ParticipationAdmissionProperties(
+        Integer stripes,
+        Integer maxBatchSize,
+        Duration timeout
+) {
+
+    private static final int DEFAULT_STRIPES = 8;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 50;
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    public ParticipationAdmissionProperties {
+        if (stripes == null || stripes < 1) {
+            stripes = DEFAULT_STRIPES;
+        }
+        if (maxBatchSize == null || maxBatchSize < 1) {
+            maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        }
+        if (timeout == null) {
+            timeout = DEFAULT_TIMEOUT;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+-- =====================================================
+-- 경기 상태 전환/호스트 조회용 복합 인덱스
+-- =====================================================
+
+-- 시작 대상 조회: status IN (...) AND match_date/start_time 범위, SELECT id (InnoDB 보조 인덱스에 PK 포함 → 커버링)
+CREATE INDEX idx_match_status_date_start ON matches (status, match_date, start_time);
+
+-- 종료 대상 조회: status = 'IN_PROGRESS' AND match_date/end_time 범위, SELECT id (커버링)
+CREATE INDEX idx_match_status_date_end ON matches (status, match_date, end_time);
+
+-- 호스트의 활성 매치 조회: host_id = ? AND status NOT IN (...)
+CREATE INDEX idx_match_host_status ON matches (host_id, status);
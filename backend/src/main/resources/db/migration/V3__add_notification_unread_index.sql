@@ -0,0 +1,7 @@
+-- =====================================================
+-- 읽지 않은 알림 개수/전체 읽음 처리용 복합 인덱스
+-- =====================================================
+
+-- 카운터 로드/정합성 점검: user_id (IN) AND is_read = FALSE, COUNT (커버링)
+-- 전체 읽음 처리: UPDATE ... WHERE user_id = ? AND is_read = FALSE
+CREATE INDEX idx_notification_user_read ON notifications (user_id, is_read);
@@ -0,0 +1,8 @@
+-- =====================================================
+-- 알림 목록 커서 페이지 조회용 복합 인덱스
+-- =====================================================
+
+-- 최신순 페이지 조회: user_id = ? AND (created_at, id) < (커서) ORDER BY created_at DESC, id DESC LIMIT n
+-- 정렬 방향을 인덱스와 맞춰 filesort 없이 커서 위치부터 n건만 읽는다
+-- 커서까지 읽음 처리: UPDATE ... WHERE user_id = ? AND is_read = FALSE AND (created_at, id) <= (커서)
+CREATE INDEX idx_notification_user_created ON notifications (user_id, created_at DESC, id DESC);
@@ -0,0 +1,23 @@
+-- =====================================================
+-- 알림 보관 테이블
+-- =====================================================
+
+-- 보관 기간이 지난 읽은 알림을 옮겨 두는 테이블 (NotificationArchiveScheduler)
+-- MySQL 파티션 테이블은 외래키를 지원하지 않으므로, 파티션 삭제 대신 묶음 단위로 옮긴다
+-- 원본 ID를 그대로 유지하며, 사용자/경기 삭제와 무관하게 남도록 외래키를 두지 않는다
+CREATE TABLE IF NOT EXISTS notifications_archive (
+    id BIGINT NOT NULL PRIMARY KEY COMMENT '원본 알림 ID (notifications.id)',
+    user_id BIGINT NOT NULL COMMENT '알림 수신자 (users.id)',
+    type VARCHAR(50) NOT NULL COMMENT '알림 타입',
+    title VARCHAR(200) NOT NULL COMMENT '알림 제목',
+    message TEXT NOT NULL COMMENT '알림 내용',
+    related_match_id BIGINT NULL COMMENT '관련 경기 ID',
+    is_read BOOLEAN NOT NULL COMMENT '읽음 여부',
+    created_at DATETIME NOT NULL COMMENT '생성일시',
+    archived_at DATETIME NOT NULL COMMENT '보관일시',
+
+    INDEX idx_notification_archive_user_created (user_id, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='보관된 알림';
+
+-- 보관 대상 조회: is_read = TRUE AND created_at < ? ORDER BY created_at LIMIT n
+CREATE INDEX idx_notification_read_created ON notifications (is_read, created_at);
@@ -1,10 +1,20 @@
 package com.hoops.acceptance.hooks;
 
+import com.hoops.auth.application.port.out.RefreshTokenStorePort;
+import com.hoops.match.adapter.out.cache.MatchNearCache;
+import com.hoops.match.application.port.out.HostingScheduleIndexPort;
 import com.hoops.match.application.port.out.MatchGeoIndexPort;
+import com.hoops.match.application.port.out.MatchLifecycleSchedulePort;
+import com.hoops.match.application.port.out.MatchSlotReservationPort;
+import com.hoops.notification.application.port.out.UnreadCounterPort;
+import com.hoops.notification.application.service.NotificationDispatcher;
+import com.hoops.participation.application.port.out.ParticipationScheduleIndexPort;
 import io.cucumber.java.Before;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.Duration;
+
 /**
  * Cucumber 시나리오 간 데이터베이스 및 Redis 정리
  *
@@ -15,19 +25,59 @@ public class DatabaseCleanupHook {
 
     private final JdbcTemplate jdbcTemplate;
     private final MatchGeoIndexPort matchGeoIndex;
+    private final MatchNearCache matchNearCache;
+    private final MatchSlotReservationPort matchSlotReservation;
+    private final ParticipationScheduleIndexPort participationScheduleIndex;
+    private final HostingScheduleIndexPort hostingScheduleIndex;
+    private final MatchLifecycleSchedulePort matchLifecycleSchedule;
+    private final NotificationDispatcher notificationDispatcher;
+    private final UnreadCounterPort unreadCounter;
+    private final RefreshTokenStorePort refreshTokenStore;
 
     @Autowired
-    public DatabaseCleanupHook(JdbcTemplate jdbcTemplate, MatchGeoIndexPort matchGeoIndex) {
+    public DatabaseCleanupHook(JdbcTemplate jdbcTemplate, MatchGeoIndexPort matchGeoIndex,
+                               MatchNearCache matchNearCache, MatchSlotReservationPort matchSlotReservation,
+                               ParticipationScheduleIndexPort participationScheduleIndex,
+                               HostingScheduleIndexPort hostingScheduleIndex,
+                               MatchLifecycleSchedulePort matchLifecycleSchedule,
+                               NotificationDispatcher notificationDispatcher,
+                               UnreadCounterPort unreadCounter,
+                               RefreshTokenStorePort refreshTokenStore) {
         this.jdbcTemplate = jdbcTemplate;
         this.matchGeoIndex = matchGeoIndex;
+        this.matchNearCache = matchNearCache;
+        this.matchSlotReservation = matchSlotReservation;
+        this.participationScheduleIndex = participationScheduleIndex;
+        this.hostingScheduleIndex = hostingScheduleIndex;
+        this.matchLifecycleSchedule = matchLifecycleSchedule;
+        this.notificationDispatcher = notificationDispatcher;
+        this.unreadCounter = unreadCounter;
+        this.refreshTokenStore = refreshTokenStore;
     }
 
     @Before(order = 0)
     public void cleanupDatabase() {
         // Redis Geo Index 정리
         matchGeoIndex.clearAll();
+        // TRUNCATE로 ID가 재사용되므로 매치 Near Cache도 비운다
+        matchNearCache.invalidateAll();
+        // 참가 자리 카운터도 매치 ID 기준이므로 함께 비운다
+        matchSlotReservation.clearAll();
+        // 사용자 ID가 재사용되므로 일정 인덱스도 비운다
+        participationScheduleIndex.clearAll();
+        hostingScheduleIndex.clearAll();
+        // 1초 주기 처리기가 재사용된 매치 ID를 전환하지 않도록 시작/종료 스케줄도 비운다
+        matchLifecycleSchedule.clearAll();
+        // 이전 시나리오에서 비동기로 기록 중인 알림이 정리 이후에 들어오지 않도록 먼저 비운다
+        notificationDispatcher.flush(Duration.ofSeconds(5));
+        // 사용자 ID가 재사용되므로 읽지 않은 알림 카운터도 비운다 (기록 중인 알림의 증감분이 반영된 뒤)
+        unreadCounter.clearAll();
+        // 사용자 ID가 재사용되므로 Refresh Token 저장소도 비운다
+        refreshTokenStore.clearAll();
         // ShedLock 테이블 생성 (존재하지 않는 경우)
         createShedLockTableIfNotExists();
+        // 보관 테이블은 JPA 엔티티가 없어 Hibernate가 만들지 않으므로 직접 생성
+        createNotificationArchiveTableIfNotExists();
 
         // 외래키 제약조건 비활성화
         jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
@@ -35,6 +85,7 @@ public class DatabaseCleanupHook {
         // 테이블 데이터 삭제 (역순으로 - 참조하는 테이블부터)
         jdbcTemplate.execute("TRUNCATE TABLE participations");
         jdbcTemplate.execute("TRUNCATE TABLE notifications");
+        jdbcTemplate.execute("TRUNCATE TABLE notifications_archive");
         jdbcTemplate.execute("TRUNCATE TABLE matches");
         jdbcTemplate.execute("TRUNCATE TABLE locations");
         jdbcTemplate.execute("TRUNCATE TABLE auth_accounts");
@@ -55,4 +106,20 @@ public class DatabaseCleanupHook {
             )
             """);
     }
+
+    private void createNotificationArchiveTableIfNotExists() {
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS notifications_archive (
+                id BIGINT NOT NULL PRIMARY KEY,
+                user_id BIGINT NOT NULL,
+                type VARCHAR(50) NOT NULL,
+                title VARCHAR(200) NOT NULL,
+                message TEXT NOT NULL,
+                related_match_id BIGINT NULL,
+                is_read BOOLEAN NOT NULL,
+                created_at DATETIME(6) NOT NULL,
+                archived_at DATETIME NOT NULL
+            )
+            """);
+    }
 }
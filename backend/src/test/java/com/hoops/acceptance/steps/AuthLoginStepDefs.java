@@ -6,16 +6,22 @@ import com.hoops.acceptance.mock.MockKakaoOAuthClient;
 import com.hoops.auth.application.port.out.JwtTokenPort;
 import com.hoops.auth.domain.model.AuthAccount;
 import com.hoops.auth.application.port.out.AuthAccountRepositoryPort;
+import com.hoops.auth.application.service.TokenIssuer;
 import com.hoops.auth.domain.vo.AuthProvider;
 import com.hoops.auth.domain.vo.OAuthUserInfo;
 import com.hoops.auth.domain.vo.TokenPair;
+import com.hoops.common.security.JwtProperties;
 import com.hoops.user.domain.model.User;
 import com.hoops.user.application.port.out.UserRepositoryPort;
 import io.cucumber.java.ko.그리고;
 import io.cucumber.java.ko.먼저;
 import io.cucumber.java.ko.만일;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -33,6 +39,10 @@ public class AuthLoginStepDefs {
     private final JwtTokenPort jwtTokenProvider;
     private final MockKakaoOAuthClient mockKakaoOAuthClient;
     private final SharedTestContext sharedContext;
+    private final TokenIssuer tokenIssuer;
+    private final JwtProperties jwtProperties;
+
+    private String previousRefreshToken;
 
     public AuthLoginStepDefs(
             TestAdapter testAdapter,
@@ -40,13 +50,17 @@ public class AuthLoginStepDefs {
             AuthAccountRepositoryPort authAccountRepository,
             JwtTokenPort jwtTokenProvider,
             MockKakaoOAuthClient mockKakaoOAuthClient,
-            SharedTestContext sharedContext) {
+            SharedTestContext sharedContext,
+            TokenIssuer tokenIssuer,
+            JwtProperties jwtProperties) {
         this.testAdapter = testAdapter;
         this.userRepository = userRepository;
         this.authAccountRepository = authAccountRepository;
         this.jwtTokenProvider = jwtTokenProvider;
         this.mockKakaoOAuthClient = mockKakaoOAuthClient;
         this.sharedContext = sharedContext;
+        this.tokenIssuer = tokenIssuer;
+        this.jwtProperties = jwtProperties;
     }
 
     @먼저("이미 가입된 회원이 있다")
@@ -176,7 +190,8 @@ public class AuthLoginStepDefs {
         User savedUser = userRepository.save(user);
         sharedContext.setTestUser(savedUser);
 
-        TokenPair tokens = jwtTokenProvider.createTokens(savedUser.getId());
+        // 로그인과 같은 경로로 발급하여 Refresh Token이 토큰 저장소에 등록되게 한다
+        TokenPair tokens = tokenIssuer.issue(savedUser.getId());
         sharedContext.setAccessToken(tokens.accessToken());
         sharedContext.setRefreshToken(tokens.refreshToken());
 
@@ -186,11 +201,27 @@ public class AuthLoginStepDefs {
                 AuthProvider.KAKAO,
                 kakaoId,
                 null,
-                tokens.refreshToken()
+                null
         );
         authAccountRepository.save(authAccount);
     }
 
+    /**
+     * 토큰 패밀리 도입 이전의 발급 방식과 같이 familyId 없이 서명한다
+     */
+    @그리고("토큰 패밀리 없이 발급된 이전 방식의 리프레시 토큰을 가지고 있다")
+    public void 토큰_패밀리_없이_발급된_이전_방식의_리프레시_토큰을_가지고_있다() {
+        Date now = new Date();
+        String legacyToken = Jwts.builder()
+                .claim("userId", sharedContext.getTestUser().getId())
+                .claim("tokenType", "refresh")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + jwtProperties.refreshTokenExpiry()))
+                .signWith(Keys.hmacShaKeyFor(jwtProperties.secret().getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        sharedContext.setRefreshToken(legacyToken);
+    }
+
     @만일("리프레시 토큰으로 토큰 갱신을 요청한다")
     public void 리프레시_토큰으로_토큰_갱신을_요청한다() {
         Map<String, Object> request = new HashMap<>();
@@ -198,6 +229,56 @@ public class AuthLoginStepDefs {
 
         TestResponse response = testAdapter.post("/api/auth/refresh", request);
         sharedContext.setLastResponse(response);
+
+        // 로테이션된 토큰으로 교체하고, 재사용 시나리오를 위해 이전 토큰을 남겨 둔다
+        if (response.statusCode() == 200) {
+            previousRefreshToken = sharedContext.getRefreshToken();
+            sharedContext.setAccessToken(response.getJsonValue("accessToken").toString());
+            sharedContext.setRefreshToken(response.getJsonValue("refreshToken").toString());
+        }
+    }
+
+    @만일("이미 사용한 리프레시 토큰으로 토큰 갱신을 요청한다")
+    public void 이미_사용한_리프레시_토큰으로_토큰_갱신을_요청한다() {
+        assertThat(previousRefreshToken)
+                .as("먼저 한 번 토큰을 갱신해야 합니다")
+                .isNotNull();
+
+        Map<String, Object> request = new HashMap<>();
+        request.put("refreshToken", previousRefreshToken);
+
+        TestResponse response = testAdapter.post("/api/auth/refresh", request);
+        sharedContext.setLastResponse(response);
+    }
+
+    @그리고("리프레시 토큰 재사용 유예 시간이 지난다")
+    public void 리프레시_토큰_재사용_유예_시간이_지난다() throws InterruptedException {
+        // 테스트 설정의 유예 시간(1초)보다 길게 대기
+        Thread.sleep(1500);
+    }
+
+    @만일("리프레시 토큰을 액세스 토큰 대신 사용하여 내 정보를 조회한다")
+    public void 리프레시_토큰을_액세스_토큰_대신_사용하여_내_정보를_조회한다() {
+        TestResponse response = testAdapter.getWithAuth("/api/users/me", sharedContext.getRefreshToken());
+        sharedContext.setLastResponse(response);
+    }
+
+    @만일("모든 기기에서 로그아웃을 요청한다")
+    public void 모든_기기에서_로그아웃을_요청한다() {
+        TestResponse response = testAdapter.postWithAuth(
+                "/api/auth/logout-all", new HashMap<>(), sharedContext.getAccessToken());
+        sharedContext.setLastResponse(response);
+    }
+
+    @그리고("응답에 새로운 리프레시 토큰이 포함되어 있다")
+    public void 응답에_새로운_리프레시_토큰이_포함되어_있다() {
+        TestResponse lastResponse = sharedContext.getLastResponse();
+        assertThat(lastResponse.getJsonValue("refreshToken"))
+                .as("refreshToken 값이 비어있지 않아야 합니다")
+                .isNotNull();
+        assertThat(lastResponse.getJsonValue("refreshToken").toString())
+                .as("갱신할 때마다 새로운 refreshToken이 발급되어야 합니다")
+                .isNotEqualTo(previousRefreshToken);
     }
 
     @그리고("응답에 새로운 액세스 토큰이 포함되어 있다")
@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -94,7 +95,8 @@ public class E2EHappyPathStepDefs {
                 null  // cancelledAt
         );
         Match savedMatch = matchRepository.save(match);
-        matchGeoIndex.addMatch(savedMatch.getId(), savedMatch.getLongitude(), savedMatch.getLatitude());
+        matchGeoIndex.addMatch(savedMatch.getId(), savedMatch.getLongitude(), savedMatch.getLatitude(),
+                savedMatch.getStatus(), savedMatch.getRemainingSlots());
         sharedContext.clearTestMatches();
         sharedContext.addTestMatch(savedMatch);
 
@@ -148,7 +150,7 @@ public class E2EHappyPathStepDefs {
             sharedContext.setAccessToken(hostToken);
         } else {
             User host = sharedContext.getHostUser();
-            String accessToken = jwtTokenProvider.createTokens(host.getId()).accessToken();
+            String accessToken = jwtTokenProvider.createTokens(host.getId(), UUID.randomUUID().toString()).accessToken();
             sharedContext.setAccessToken(accessToken);
             sharedContext.setHostAccessToken(accessToken);
         }
@@ -206,7 +208,7 @@ public class E2EHappyPathStepDefs {
             sharedContext.setAccessToken(userToken);
         } else {
             User user = sharedContext.getTestUser();
-            String accessToken = jwtTokenProvider.createTokens(user.getId()).accessToken();
+            String accessToken = jwtTokenProvider.createTokens(user.getId(), UUID.randomUUID().toString()).accessToken();
             sharedContext.setAccessToken(accessToken);
             sharedContext.setUserAccessToken(accessToken);
         }
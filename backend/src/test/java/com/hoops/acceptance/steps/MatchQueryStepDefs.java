@@ -2,12 +2,16 @@ package com.hoops.acceptance.steps;
 
 import com.hoops.acceptance.adapter.TestAdapter;
 import com.hoops.acceptance.adapter.TestResponse;
+import com.hoops.match.application.dto.MatchSummary;
+import com.hoops.match.application.port.in.SyncGeoIndexUseCase;
 import com.hoops.match.application.port.out.MatchGeoIndexPort;
 import com.hoops.match.application.port.out.MatchRepositoryPort;
+import com.hoops.match.application.scheduler.GeoDataInitializer;
 import com.hoops.match.domain.model.Match;
 import com.hoops.match.domain.vo.MatchStatus;
 import com.hoops.user.domain.model.User;
 import com.hoops.user.application.port.out.UserRepositoryPort;
+import io.cucumber.java.ko.그러면;
 import io.cucumber.java.ko.그리고;
 import io.cucumber.java.ko.먼저;
 import io.cucumber.java.ko.만일;
@@ -15,6 +19,9 @@ import io.cucumber.java.ko.만일;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -25,6 +32,12 @@ public class MatchQueryStepDefs {
     private final MatchGeoIndexPort matchGeoIndex;
     private final UserRepositoryPort userRepository;
     private final SharedTestContext sharedContext;
+    private final GeoDataInitializer geoDataInitializer;
+    private final SyncGeoIndexUseCase syncGeoIndexUseCase;
+
+    private String lastCursor;
+    private List<Object> previousPageMatchIds = List.of();
+    private final List<Object> pagedMatchIds = new ArrayList<>();
 
     // 서울 좌표
     private static final BigDecimal SEOUL_LATITUDE = BigDecimal.valueOf(37.5665);
@@ -34,17 +47,27 @@ public class MatchQueryStepDefs {
     private static final BigDecimal BUSAN_LATITUDE = BigDecimal.valueOf(35.1796);
     private static final BigDecimal BUSAN_LONGITUDE = BigDecimal.valueOf(129.0756);
 
+    // 지도 영역 여백 (약 5km)
+    private static final BigDecimal VIEWPORT_MARGIN = BigDecimal.valueOf(0.05);
+
+    // DB 제목과 구분하기 위해 Redis 요약에만 붙이는 접두사
+    private static final String REDIS_SUMMARY_TITLE_PREFIX = "[요약] ";
+
     public MatchQueryStepDefs(
             TestAdapter testAdapter,
             MatchRepositoryPort matchRepository,
             MatchGeoIndexPort matchGeoIndex,
             UserRepositoryPort userRepository,
-            SharedTestContext sharedContext) {
+            SharedTestContext sharedContext,
+            GeoDataInitializer geoDataInitializer,
+            SyncGeoIndexUseCase syncGeoIndexUseCase) {
         this.testAdapter = testAdapter;
         this.matchRepository = matchRepository;
         this.matchGeoIndex = matchGeoIndex;
         this.userRepository = userRepository;
         this.sharedContext = sharedContext;
+        this.geoDataInitializer = geoDataInitializer;
+        this.syncGeoIndexUseCase = syncGeoIndexUseCase;
     }
 
     @먼저("서울 지역에 경기가 {int}개 등록되어 있다")
@@ -60,7 +83,8 @@ public class MatchQueryStepDefs {
         for (int i = 0; i < count; i++) {
             Match match = createMatch(testUser, SEOUL_LATITUDE, SEOUL_LONGITUDE, "서울 경기 " + (i + 1));
             Match savedMatch = matchRepository.save(match);
-            matchGeoIndex.addMatch(savedMatch.getId(), savedMatch.getLongitude(), savedMatch.getLatitude());
+            matchGeoIndex.addMatch(savedMatch.getId(), savedMatch.getLongitude(), savedMatch.getLatitude(),
+                    savedMatch.getStatus(), savedMatch.getRemainingSlots());
             sharedContext.addTestMatch(savedMatch);
         }
     }
@@ -78,11 +102,93 @@ public class MatchQueryStepDefs {
         for (int i = 0; i < count; i++) {
             Match match = createMatch(testUser, BUSAN_LATITUDE, BUSAN_LONGITUDE, "부산 경기 " + (i + 1));
             Match savedMatch = matchRepository.save(match);
-            matchGeoIndex.addMatch(savedMatch.getId(), savedMatch.getLongitude(), savedMatch.getLatitude());
+            matchGeoIndex.addMatch(savedMatch.getId(), savedMatch.getLongitude(), savedMatch.getLatitude(),
+                    savedMatch.getStatus(), savedMatch.getRemainingSlots());
             sharedContext.addTestMatch(savedMatch);
         }
     }
 
+    @먼저("서울 지역에 Redis 요약이 저장된 경기가 {int}개 등록되어 있다")
+    public void 서울_지역에_Redis_요약이_저장된_경기가_N개_등록되어_있다(int count) {
+        서울_지역에_경기가_N개_등록되어_있다(count);
+
+        for (Match match : sharedContext.getTestMatches()) {
+            MatchSummary summary = MatchSummary.from(match);
+            matchGeoIndex.saveSummary(new MatchSummary(
+                    summary.id(), summary.hostId(), summary.hostNickname(),
+                    REDIS_SUMMARY_TITLE_PREFIX + summary.title(),
+                    summary.latitude(), summary.longitude(), summary.address(),
+                    summary.matchDate(), summary.startTime(), summary.endTime(),
+                    summary.maxParticipants(), summary.currentParticipants(), summary.status()));
+        }
+    }
+
+    @그리고("DB에 없는 경기가 서울 지역 Geo Index에만 남아 있다")
+    public void DB에_없는_경기가_서울_지역_Geo_Index에만_남아_있다() {
+        matchGeoIndex.addMatch(Long.MAX_VALUE, SEOUL_LONGITUDE, SEOUL_LATITUDE, MatchStatus.PENDING, 10);
+    }
+
+    @그리고("Geo Index에서 경기 {int}개가 누락되어 있다")
+    public void Geo_Index에서_경기_N개가_누락되어_있다(int count) {
+        sharedContext.getTestMatches().stream()
+                .limit(count)
+                .forEach(match -> matchGeoIndex.removeMatch(match.getId()));
+    }
+
+    @그리고("Geo Index에서 경기 {int}개가 다른 상태와 남은 자리로 남아 있다")
+    public void Geo_Index에서_경기_N개가_다른_상태와_남은_자리로_남아_있다(int count) {
+        sharedContext.getTestMatches().stream()
+                .limit(count)
+                .forEach(match -> matchGeoIndex.updateMatchRecruitment(match.getId(), MatchStatus.CONFIRMED, 0));
+    }
+
+    @만일("Geo Index 동기화를 실행한다")
+    public void Geo_Index_동기화를_실행한다() {
+        syncGeoIndexUseCase.syncGeoIndex();
+    }
+
+    @만일("Geo Index를 다시 초기화한다")
+    public void Geo_Index를_다시_초기화한다() {
+        geoDataInitializer.initializeGeoData();
+    }
+
+    @그러면("Geo Index에는 DB의 경기 {int}개만 남아 있다")
+    public void Geo_Index에는_DB의_경기_N개만_남아_있다(int count) {
+        List<Long> expectedIds = sharedContext.getTestMatches().stream()
+                .map(Match::getId)
+                .toList();
+        assertThat(matchGeoIndex.findAllMatchIds())
+                .as("재초기화 후 Geo Index는 DB의 검색 대상 경기와 같아야 합니다")
+                .hasSize(count)
+                .containsExactlyInAnyOrderElementsOf(expectedIds);
+    }
+
+    @그러면("Geo Index의 상태별 인덱스와 요약은 DB와 같다")
+    public void Geo_Index의_상태별_인덱스와_요약은_DB와_같다() {
+        List<Match> testMatches = sharedContext.getTestMatches();
+        List<Long> expectedIds = testMatches.stream()
+                .map(Match::getId)
+                .toList();
+
+        assertThat(matchGeoIndex.findMatchesWithinRadius(SEOUL_LONGITUDE, SEOUL_LATITUDE, 10,
+                MatchStatus.CONFIRMED, 0, 100))
+                .as("DB에서 PENDING인 경기는 CONFIRMED 인덱스에 남지 않아야 합니다")
+                .isEmpty();
+
+        List<MatchGeoIndexPort.GeoMatchResult> pending = matchGeoIndex.findMatchSummariesWithinRadiusAfter(
+                SEOUL_LONGITUDE, SEOUL_LATITUDE, 10, MatchStatus.PENDING, null, 100);
+        assertThat(pending)
+                .extracting(MatchGeoIndexPort.GeoMatchResult::matchId)
+                .as("모든 경기가 DB 상태의 인덱스에 있어야 합니다")
+                .containsExactlyInAnyOrderElementsOf(expectedIds);
+        assertThat(pending)
+                .extracting(result -> result.summary().title())
+                .as("Redis 요약은 DB 요약으로 다시 저장되어야 합니다")
+                .containsExactlyInAnyOrderElementsOf(testMatches.stream().map(Match::getTitle).toList());
+        assertThat(matchGeoIndex.findDriftedMatchIds(matchRepository.findSummariesByIds(expectedIds)))
+                .isEmpty();
+    }
+
     @만일("해당 경기 상세 조회 API를 호출한다")
     public void 해당_경기_상세_조회_API를_호출한다() {
         Match match = sharedContext.getTestMatches().get(0);
@@ -175,6 +281,169 @@ public class MatchQueryStepDefs {
         sharedContext.setLastResponse(response);
     }
 
+    @만일("서울 중심으로 반경 {int}km 내 경기 목록을 {int}개씩 조회한다")
+    public void 서울_중심으로_반경_Nkm_내_경기_목록을_N개씩_조회한다(int distanceKm, int size) {
+        String path = String.format("/api/matches?latitude=%s&longitude=%s&distance=%d&size=%d",
+                SEOUL_LATITUDE, SEOUL_LONGITUDE, distanceKm, size);
+        requestMatchList(path);
+    }
+
+    @그리고("응답에 다음 페이지 커서가 포함되어 있다")
+    public void 응답에_다음_페이지_커서가_포함되어_있다() {
+        TestResponse response = sharedContext.getLastResponse();
+        Object nextCursor = response.getJsonValue("nextCursor");
+        assertThat(nextCursor)
+                .as("응답에 nextCursor가 포함되어야 합니다")
+                .isNotNull();
+
+        lastCursor = nextCursor.toString();
+        previousPageMatchIds = itemIds(response);
+    }
+
+    @만일("응답의 커서로 다음 페이지 경기 목록을 조회한다")
+    public void 응답의_커서로_다음_페이지_경기_목록을_조회한다() {
+        String path = String.format("/api/matches?latitude=%s&longitude=%s&distance=10&size=2&cursor=%s",
+                SEOUL_LATITUDE, SEOUL_LONGITUDE, lastCursor);
+        requestMatchList(path);
+    }
+
+    @그리고("이전 페이지와 중복된 경기가 없다")
+    public void 이전_페이지와_중복된_경기가_없다() {
+        TestResponse response = sharedContext.getLastResponse();
+        List<Object> currentIds = itemIds(response);
+        assertThat(currentIds)
+                .as("다음 페이지에 이전 페이지의 경기가 포함되지 않아야 합니다")
+                .doesNotContainAnyElementsOf(previousPageMatchIds);
+    }
+
+    @만일("서울 중심으로 반경 {int}km 내 경기 목록을 커서로 {int}개씩 끝까지 조회한다")
+    public void 서울_중심으로_반경_Nkm_내_경기_목록을_커서로_N개씩_끝까지_조회한다(int distanceKm, int size) {
+        String basePath = String.format("/api/matches?latitude=%s&longitude=%s&distance=%d&size=%d",
+                SEOUL_LATITUDE, SEOUL_LONGITUDE, distanceKm, size);
+        pagedMatchIds.clear();
+
+        String cursor = null;
+        for (int pageCount = 0; pageCount < 100; pageCount++) {
+            requestMatchList(cursor == null ? basePath : basePath + "&cursor=" + cursor);
+            TestResponse response = sharedContext.getLastResponse();
+            assertThat(response.statusCode()).isEqualTo(200);
+            pagedMatchIds.addAll(itemIds(response));
+
+            Object nextCursor = response.getJsonValue("nextCursor");
+            if (nextCursor == null) {
+                return;
+            }
+            cursor = nextCursor.toString();
+        }
+    }
+
+    @만일("서울 중심으로 반경 {int}km 내 경기 목록을 페이지 번호로 {int}개씩 끝까지 조회한다")
+    public void 서울_중심으로_반경_Nkm_내_경기_목록을_페이지_번호로_N개씩_끝까지_조회한다(int distanceKm, int size) {
+        String basePath = String.format("/api/matches?latitude=%s&longitude=%s&distance=%d&size=%d",
+                SEOUL_LATITUDE, SEOUL_LONGITUDE, distanceKm, size);
+        pagedMatchIds.clear();
+
+        for (int page = 0; page < 100; page++) {
+            requestMatchList(basePath + "&page=" + page);
+            TestResponse response = sharedContext.getLastResponse();
+            assertThat(response.statusCode()).isEqualTo(200);
+            pagedMatchIds.addAll(itemIds(response));
+
+            if (!Boolean.TRUE.equals(response.getJsonValue("hasMore"))) {
+                return;
+            }
+        }
+    }
+
+    @그러면("모든 페이지에서 조회한 경기는 중복 없이 {int}개이다")
+    public void 모든_페이지에서_조회한_경기는_중복_없이_N개이다(int expectedCount) {
+        assertThat(pagedMatchIds)
+                .as("페이지를 이어 조회한 경기는 빠짐없이, 중복 없이 포함되어야 합니다")
+                .hasSize(expectedCount)
+                .doesNotHaveDuplicates();
+    }
+
+    @만일("서울 중심으로 잘못된 커서로 경기 목록을 조회한다")
+    public void 서울_중심으로_잘못된_커서로_경기_목록을_조회한다() {
+        String path = String.format("/api/matches?latitude=%s&longitude=%s&cursor=invalid-cursor",
+                SEOUL_LATITUDE, SEOUL_LONGITUDE);
+        requestMatchList(path);
+    }
+
+    @만일("서울 시청 주변 지도 영역의 경기 목록을 조회한다")
+    public void 서울_시청_주변_지도_영역의_경기_목록을_조회한다() {
+        String path = String.format(
+                "/api/matches/viewport?minLatitude=%s&minLongitude=%s&maxLatitude=%s&maxLongitude=%s",
+                SEOUL_LATITUDE.subtract(VIEWPORT_MARGIN), SEOUL_LONGITUDE.subtract(VIEWPORT_MARGIN),
+                SEOUL_LATITUDE.add(VIEWPORT_MARGIN), SEOUL_LONGITUDE.add(VIEWPORT_MARGIN));
+        requestMatchList(path);
+    }
+
+    @만일("서울 시청 주변 지도 영역의 경기 목록을 {int}개까지 조회한다")
+    public void 서울_시청_주변_지도_영역의_경기_목록을_N개까지_조회한다(int size) {
+        String path = String.format(
+                "/api/matches/viewport?minLatitude=%s&minLongitude=%s&maxLatitude=%s&maxLongitude=%s&size=%d",
+                SEOUL_LATITUDE.subtract(VIEWPORT_MARGIN), SEOUL_LONGITUDE.subtract(VIEWPORT_MARGIN),
+                SEOUL_LATITUDE.add(VIEWPORT_MARGIN), SEOUL_LONGITUDE.add(VIEWPORT_MARGIN), size);
+        requestMatchList(path);
+    }
+
+    @만일("최솟값이 최댓값보다 큰 지도 영역의 경기 목록을 조회한다")
+    public void 최솟값이_최댓값보다_큰_지도_영역의_경기_목록을_조회한다() {
+        String path = String.format(
+                "/api/matches/viewport?minLatitude=%s&minLongitude=%s&maxLatitude=%s&maxLongitude=%s",
+                SEOUL_LATITUDE.add(VIEWPORT_MARGIN), SEOUL_LONGITUDE.add(VIEWPORT_MARGIN),
+                SEOUL_LATITUDE.subtract(VIEWPORT_MARGIN), SEOUL_LONGITUDE.subtract(VIEWPORT_MARGIN));
+        requestMatchList(path);
+    }
+
+    @만일("서울 중심으로 반경 {int}km 내 경기 목록을 요약 모드로 조회한다")
+    public void 서울_중심으로_반경_Nkm_내_경기_목록을_요약_모드로_조회한다(int distanceKm) {
+        String path = String.format("/api/matches?latitude=%s&longitude=%s&distance=%d&view=SUMMARY",
+                SEOUL_LATITUDE, SEOUL_LONGITUDE, distanceKm);
+        requestMatchList(path);
+    }
+
+    @SuppressWarnings("unchecked")
+    @그리고("응답 경기 목록에 상세 설명이 포함되지 않는다")
+    public void 응답_경기_목록에_상세_설명이_포함되지_않는다() {
+        TestResponse response = sharedContext.getLastResponse();
+        List<Map<String, Object>> items = (List<Map<String, Object>>) response.getJsonValue("items");
+        assertThat(items)
+                .as("요약 응답에는 상세 설명이 없어야 합니다")
+                .allSatisfy(item -> assertThat(item.get("description")).isNull());
+    }
+
+    @SuppressWarnings("unchecked")
+    @그리고("응답 경기 목록은 Redis 요약으로 구성되어 있다")
+    public void 응답_경기_목록은_Redis_요약으로_구성되어_있다() {
+        TestResponse response = sharedContext.getLastResponse();
+        List<Map<String, Object>> items = (List<Map<String, Object>>) response.getJsonValue("items");
+        assertThat(items)
+                .as("Redis에 저장된 요약이 DB 조회 없이 응답되어야 합니다")
+                .isNotEmpty()
+                .allSatisfy(item -> assertThat((String) item.get("title")).startsWith(REDIS_SUMMARY_TITLE_PREFIX));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> itemIds(TestResponse response) {
+        List<Map<String, Object>> items = (List<Map<String, Object>>) response.getJsonValue("items");
+        return items.stream()
+                .map(item -> item.get("id"))
+                .toList();
+    }
+
+    private void requestMatchList(String path) {
+        String accessToken = sharedContext.getAccessToken();
+        TestResponse response;
+        if (accessToken != null) {
+            response = testAdapter.getWithAuth(path, accessToken);
+        } else {
+            response = testAdapter.get(path);
+        }
+        sharedContext.setLastResponse(response);
+    }
+
     @그리고("응답에 거리 정보가 포함되어 있다")
     public void 응답에_거리_정보가_포함되어_있다() {
         TestResponse response = sharedContext.getLastResponse();
@@ -53,7 +53,8 @@ public class MatchRecruitmentStatusStepDefs {
         Match match = createMatchWithParticipants(testUser, SEOUL_LATITUDE, SEOUL_LONGITUDE,
                 "모집현황 테스트 경기", maxParticipants, currentParticipants, status);
         Match savedMatch = matchRepository.save(match);
-        matchGeoIndex.addMatch(savedMatch.getId(), savedMatch.getLongitude(), savedMatch.getLatitude());
+        matchGeoIndex.addMatch(savedMatch.getId(), savedMatch.getLongitude(), savedMatch.getLatitude(),
+                savedMatch.getStatus(), savedMatch.getRemainingSlots());
         sharedContext.addTestMatch(savedMatch);
     }
 
@@ -69,7 +70,8 @@ public class MatchRecruitmentStatusStepDefs {
             Match match = createMatchWithParticipants(testUser, SEOUL_LATITUDE, SEOUL_LONGITUDE,
                     statusName + " 경기 " + (i + 1), maxParticipants, currentParticipants, matchStatus);
             Match savedMatch = matchRepository.save(match);
-            matchGeoIndex.addMatch(savedMatch.getId(), savedMatch.getLongitude(), savedMatch.getLatitude());
+            matchGeoIndex.addMatch(savedMatch.getId(), savedMatch.getLongitude(), savedMatch.getLatitude(),
+                    savedMatch.getStatus(), savedMatch.getRemainingSlots());
             sharedContext.addTestMatch(savedMatch);
         }
     }
@@ -87,7 +89,8 @@ public class MatchRecruitmentStatusStepDefs {
             Match match = createMatchWithParticipants(testUser, SEOUL_LATITUDE, SEOUL_LONGITUDE,
                     "정렬 테스트 경기 " + (i + 1), maxParticipants, current, MatchStatus.PENDING);
             Match savedMatch = matchRepository.save(match);
-            matchGeoIndex.addMatch(savedMatch.getId(), savedMatch.getLongitude(), savedMatch.getLatitude());
+            matchGeoIndex.addMatch(savedMatch.getId(), savedMatch.getLongitude(), savedMatch.getLatitude(),
+                    savedMatch.getStatus(), savedMatch.getRemainingSlots());
             sharedContext.addTestMatch(savedMatch);
         }
     }
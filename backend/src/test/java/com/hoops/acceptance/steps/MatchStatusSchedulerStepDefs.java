@@ -1,10 +1,14 @@
 package com.hoops.acceptance.steps;
 
 import com.hoops.match.application.port.in.UpdateMatchStatusUseCase;
+import com.hoops.match.application.port.out.MatchGeoIndexPort;
+import com.hoops.match.application.port.out.MatchLifecycleSchedulePort;
+import com.hoops.match.application.port.out.MatchLifecycleSchedulePort.LifecycleEntry;
 import com.hoops.match.application.port.out.MatchRepositoryPort;
 import com.hoops.match.domain.model.Match;
 import com.hoops.match.domain.vo.MatchStatus;
 import com.hoops.user.domain.model.User;
+import io.cucumber.java.ko.그러면;
 import io.cucumber.java.ko.그리고;
 import io.cucumber.java.ko.먼저;
 import io.cucumber.java.ko.만일;
@@ -20,16 +24,22 @@ public class MatchStatusSchedulerStepDefs {
     private final MatchRepositoryPort matchRepository;
     private final UpdateMatchStatusUseCase updateMatchStatusUseCase;
     private final SharedTestContext sharedContext;
+    private final MatchGeoIndexPort matchGeoIndex;
+    private final MatchLifecycleSchedulePort lifecycleSchedule;
 
     private int totalStatusChangeCount = 0;
 
     public MatchStatusSchedulerStepDefs(
             MatchRepositoryPort matchRepository,
             UpdateMatchStatusUseCase updateMatchStatusUseCase,
-            SharedTestContext sharedContext) {
+            SharedTestContext sharedContext,
+            MatchGeoIndexPort matchGeoIndex,
+            MatchLifecycleSchedulePort lifecycleSchedule) {
         this.matchRepository = matchRepository;
         this.updateMatchStatusUseCase = updateMatchStatusUseCase;
         this.sharedContext = sharedContext;
+        this.matchGeoIndex = matchGeoIndex;
+        this.lifecycleSchedule = lifecycleSchedule;
     }
 
     @먼저("시작 시간이 지난 PENDING 경기가 있다")
@@ -52,6 +62,33 @@ public class MatchStatusSchedulerStepDefs {
         createMatchWithStatus(MatchStatus.PENDING, false, false);
     }
 
+    @먼저("Geo Index에 등록된 시작 시간이 지난 PENDING 경기가 {int}개 있다")
+    public void Geo_Index에_등록된_시작_시간이_지난_PENDING_경기가_N개_있다(int count) {
+        sharedContext.clearTestMatches();
+        totalStatusChangeCount = 0;
+        for (int i = 0; i < count; i++) {
+            Match match = saveMatch(MatchStatus.PENDING, true, false);
+            matchGeoIndex.addMatch(match.getId(), match.getLongitude(), match.getLatitude(),
+                    match.getStatus(), match.getRemainingSlots());
+        }
+    }
+
+    @먼저("시작/종료 스케줄에 등록된 시작 시간이 지난 PENDING 경기가 있다")
+    public void 시작_종료_스케줄에_등록된_시작_시간이_지난_PENDING_경기가_있다() {
+        createScheduledMatch(true);
+    }
+
+    @먼저("시작/종료 스케줄에 등록된 시작 시간이 되지 않은 PENDING 경기가 있다")
+    public void 시작_종료_스케줄에_등록된_시작_시간이_되지_않은_PENDING_경기가_있다() {
+        createScheduledMatch(false);
+    }
+
+    @만일("예약된 경기 상태 전환이 실행된다")
+    public void 예약된_경기_상태_전환이_실행된다() {
+        // 1초 주기 처리기가 먼저 꺼내 전환했을 수 있으므로 상태로 검증한다
+        totalStatusChangeCount += updateMatchStatusUseCase.advanceScheduledMatches();
+    }
+
     @만일("경기 상태 업데이트가 실행된다")
     public void 경기_상태_업데이트가_실행된다() {
         int startedCount = updateMatchStatusUseCase.startMatches();
@@ -73,12 +110,42 @@ public class MatchStatusSchedulerStepDefs {
                 .isEqualTo(expectedCount);
     }
 
+    @그러면("해당 경기들의 상태가 모두 {word} 이다")
+    public void 해당_경기들의_상태가_모두_이다(String expectedStatus) {
+        for (Match match : sharedContext.getTestMatches()) {
+            Match updatedMatch = matchRepository.findById(match.getId())
+                    .orElseThrow(() -> new AssertionError("경기를 찾을 수 없습니다"));
+            assertThat(updatedMatch.getStatus().name())
+                    .as("경기 %d의 상태가 %s 이어야 합니다", match.getId(), expectedStatus)
+                    .isEqualTo(expectedStatus);
+        }
+    }
+
+    @그리고("해당 경기들이 Geo Index에서 제거되어 있다")
+    public void 해당_경기들이_Geo_Index에서_제거되어_있다() {
+        assertThat(matchGeoIndex.findAllMatchIds())
+                .as("시작된 경기는 검색 대상에서 빠져야 합니다")
+                .isEmpty();
+    }
+
     // "해당 경기의 상태가 {word} 이다" step은 CancelMatchStepDefs에 정의되어 있음
 
     private void createMatchWithStatus(MatchStatus status, boolean started, boolean ended) {
-        User testUser = sharedContext.getTestUser();
         sharedContext.clearTestMatches();
         totalStatusChangeCount = 0;  // 시나리오 시작 시 카운트 초기화
+        saveMatch(status, started, ended);
+    }
+
+    private void createScheduledMatch(boolean started) {
+        sharedContext.clearTestMatches();
+        totalStatusChangeCount = 0;
+        Match match = saveMatch(MatchStatus.PENDING, started, false);
+        lifecycleSchedule.schedule(new LifecycleEntry(match.getId(),
+                match.getSchedule().startDateTime(), match.getSchedule().endDateTime()));
+    }
+
+    private Match saveMatch(MatchStatus status, boolean started, boolean ended) {
+        User testUser = sharedContext.getTestUser();
 
         LocalDate matchDate;
         LocalTime startTime;
@@ -124,5 +191,6 @@ public class MatchStatusSchedulerStepDefs {
 
         Match savedMatch = matchRepository.save(match);
         sharedContext.addTestMatch(savedMatch);
+        return savedMatch;
     }
 }
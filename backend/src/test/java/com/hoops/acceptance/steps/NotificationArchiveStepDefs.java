@@ -0,0 +1,75 @@
+package com.hoops.acceptance.steps;
+
+import com.hoops.notification.application.port.in.ArchiveNotificationsUseCase;
+import com.hoops.notification.application.port.out.NotificationRepositoryPort;
+import com.hoops.notification.domain.model.Notification;
+import com.hoops.notification.domain.vo.NotificationType;
+import io.cucumber.java.ko.그러면;
+import io.cucumber.java.ko.그리고;
+import io.cucumber.java.ko.먼저;
+import io.cucumber.java.ko.만일;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotificationArchiveStepDefs {
+
+    private final SharedTestContext sharedContext;
+    private final NotificationRepositoryPort notificationRepository;
+    private final ArchiveNotificationsUseCase archiveNotificationsUseCase;
+    private final JdbcTemplate jdbcTemplate;
+    private int archivedCount;
+
+    public NotificationArchiveStepDefs(
+            SharedTestContext sharedContext,
+            NotificationRepositoryPort notificationRepository,
+            ArchiveNotificationsUseCase archiveNotificationsUseCase,
+            JdbcTemplate jdbcTemplate) {
+        this.sharedContext = sharedContext;
+        this.notificationRepository = notificationRepository;
+        this.archiveNotificationsUseCase = archiveNotificationsUseCase;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @먼저("내게 {int}일 전에 읽은 알림이 {int}개 있다")
+    public void 내게_N일_전에_읽은_알림이_N개_있다(int days, int count) {
+        saveNotifications(days, count, true);
+    }
+
+    @그리고("내게 {int}일 전에 읽지 않은 알림이 {int}개 있다")
+    public void 내게_N일_전에_읽지_않은_알림이_N개_있다(int days, int count) {
+        saveNotifications(days, count, false);
+    }
+
+    @만일("알림 보관 작업이 실행된다")
+    public void 알림_보관_작업이_실행된다() {
+        archivedCount = archiveNotificationsUseCase.archiveReadNotifications();
+    }
+
+    @그러면("보관 테이블로 옮겨진 알림은 {int}개이다")
+    public void 보관_테이블로_옮겨진_알림은_N개이다(int count) {
+        assertThat(archivedCount).isEqualTo(count);
+        Integer archived = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications_archive WHERE user_id = ?",
+                Integer.class, sharedContext.getTestUser().getId());
+        assertThat(archived).isEqualTo(count);
+    }
+
+    /**
+     * JPA 저장은 생성 시각을 현재로 덮어쓰므로 생성 시각을 그대로 쓰는 배치 저장을 사용한다
+     */
+    private void saveNotifications(int days, int count, boolean read) {
+        Long userId = sharedContext.getTestUser().getId();
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(days);
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            notifications.add(Notification.reconstitute(null, userId, NotificationType.MATCH_UPCOMING,
+                    "지난 알림 " + i, "지난 알림 메시지 " + i, null, read, createdAt));
+        }
+        notificationRepository.saveAll(notifications);
+    }
+}
@@ -2,33 +2,60 @@ package com.hoops.acceptance.steps;
 
 import com.hoops.acceptance.adapter.TestAdapter;
 import com.hoops.acceptance.adapter.TestResponse;
+import com.hoops.match.domain.model.Match;
+import com.hoops.notification.application.service.NotificationDispatcher;
 import com.hoops.notification.domain.model.Notification;
 import com.hoops.notification.domain.vo.NotificationType;
 import com.hoops.notification.application.port.out.NotificationRepositoryPort;
+import com.hoops.participation.application.port.in.ParticipateInMatchCommand;
+import com.hoops.participation.application.port.in.ParticipateInMatchUseCase;
+import com.hoops.user.application.port.out.UserRepositoryPort;
 import com.hoops.user.domain.model.User;
 import io.cucumber.java.ko.그러면;
 import io.cucumber.java.ko.그리고;
 import io.cucumber.java.ko.먼저;
 import io.cucumber.java.ko.만일;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class NotificationStepDefs {
 
+    /**
+     * 시나리오마다 만드는 알림 수보다 충분히 큰 조회 개수
+     */
+    private static final int NOTIFICATION_LOOKUP_LIMIT = 100;
+
     private final TestAdapter testAdapter;
     private final NotificationRepositoryPort notificationRepository;
     private final SharedTestContext sharedContext;
+    private final NotificationDispatcher notificationDispatcher;
+    private final ParticipateInMatchUseCase participateInMatchUseCase;
+    private final UserRepositoryPort userRepository;
+    private final List<Long> participantIds = new ArrayList<>();
+    private final List<Long> pagedNotificationIds = new ArrayList<>();
     private Notification testNotification;
+    private int pageLimit;
 
     public NotificationStepDefs(
             TestAdapter testAdapter,
             NotificationRepositoryPort notificationRepository,
-            SharedTestContext sharedContext) {
+            SharedTestContext sharedContext,
+            NotificationDispatcher notificationDispatcher,
+            ParticipateInMatchUseCase participateInMatchUseCase,
+            UserRepositoryPort userRepository) {
         this.testAdapter = testAdapter;
         this.notificationRepository = notificationRepository;
         this.sharedContext = sharedContext;
+        this.notificationDispatcher = notificationDispatcher;
+        this.participateInMatchUseCase = participateInMatchUseCase;
+        this.userRepository = userRepository;
     }
 
     @먼저("내게 알림이 {int}개 있다")
@@ -83,6 +110,11 @@ public class NotificationStepDefs {
         }
     }
 
+    @그리고("내게 읽지 않은 알림이 {int}개 더 도착한다")
+    public void 내게_읽지_않은_알림이_N개_더_도착한다(int count) {
+        내게_읽지_않은_알림이_N개_있다(count);
+    }
+
     @만일("알림 목록 조회 API를 호출한다")
     public void 알림_목록_조회_API를_호출한다() {
         String token = sharedContext.getAccessToken();
@@ -90,6 +122,48 @@ public class NotificationStepDefs {
         sharedContext.setLastResponse(response);
     }
 
+    @만일("알림 목록을 {int}개씩 조회한다")
+    public void 알림_목록을_N개씩_조회한다(int limit) {
+        pageLimit = limit;
+        pagedNotificationIds.clear();
+        fetchNotificationPage("/api/notifications?limit=" + limit);
+    }
+
+    @그리고("알림 목록 다음 페이지를 조회한다")
+    public void 알림_목록_다음_페이지를_조회한다() {
+        String nextCursor = (String) sharedContext.getLastResponse().getJsonValue("nextCursor");
+        assertThat(nextCursor).isNotNull();
+        fetchNotificationPage("/api/notifications?limit=" + pageLimit + "&before=" + nextCursor);
+    }
+
+    @그리고("다음 알림 페이지가 있다")
+    public void 다음_알림_페이지가_있다() {
+        assertThat(sharedContext.getLastResponse().getJsonValue("hasMore")).isEqualTo(true);
+    }
+
+    @그리고("다음 알림 페이지가 없다")
+    public void 다음_알림_페이지가_없다() {
+        TestResponse response = sharedContext.getLastResponse();
+        assertThat(response.getJsonValue("hasMore")).isEqualTo(false);
+        assertThat(response.getJsonValue("nextCursor")).isNull();
+    }
+
+    @그리고("페이지로 조회한 알림은 모두 {int}개이고 최신순으로 중복 없이 이어진다")
+    public void 페이지로_조회한_알림은_모두_N개이고_최신순으로_중복_없이_이어진다(int count) {
+        assertThat(pagedNotificationIds).hasSize(count);
+        assertThat(pagedNotificationIds).doesNotHaveDuplicates();
+        assertThat(pagedNotificationIds).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @만일("조회한 목록의 최신 위치까지 알림 전체 읽음 처리 API를 호출한다")
+    public void 조회한_목록의_최신_위치까지_알림_전체_읽음_처리_API를_호출한다() {
+        String latestCursor = (String) sharedContext.getLastResponse().getJsonValue("latestCursor");
+        assertThat(latestCursor).isNotNull();
+        String token = sharedContext.getAccessToken();
+        TestResponse response = testAdapter.putWithAuth("/api/notifications/read-all?upTo=" + latestCursor, null, token);
+        sharedContext.setLastResponse(response);
+    }
+
     @만일("해당 알림 읽음 처리 API를 호출한다")
     public void 해당_알림_읽음_처리_API를_호출한다() {
         String token = sharedContext.getAccessToken();
@@ -108,10 +182,37 @@ public class NotificationStepDefs {
         sharedContext.setLastResponse(response);
     }
 
+    @만일("내 알림 하나를 읽음 처리 API로 읽는다")
+    public void 내_알림_하나를_읽음_처리_API로_읽는다() {
+        Long notificationId = notificationRepository.findPageByUserId(sharedContext.getTestUser().getId(), null, 1)
+                .get(0).getId();
+        String token = sharedContext.getAccessToken();
+        TestResponse response = testAdapter.putWithAuth(
+                "/api/notifications/" + notificationId + "/read",
+                null,
+                token
+        );
+        sharedContext.setLastResponse(response);
+    }
+
+    @만일("알림 전체 읽음 처리 API를 호출한다")
+    public void 알림_전체_읽음_처리_API를_호출한다() {
+        String token = sharedContext.getAccessToken();
+        TestResponse response = testAdapter.putWithAuth("/api/notifications/read-all", null, token);
+        sharedContext.setLastResponse(response);
+    }
+
+    @그리고("알림 기록이 끝날 때까지 기다린다")
+    public void 알림_기록이_끝날_때까지_기다린다() {
+        assertThat(notificationDispatcher.flush(Duration.ofSeconds(5)))
+                .as("알림 기록이 제한 시간 안에 끝나야 합니다")
+                .isTrue();
+    }
+
     @그리고("응답에 알림이 {int}개 있다")
     public void 응답에_알림이_N개_있다(int count) {
         TestResponse response = sharedContext.getLastResponse();
-        int size = response.getJsonArraySize();
+        int size = response.getJsonFieldArraySize("items");
         assertThat(size).isEqualTo(count);
     }
 
@@ -128,4 +229,68 @@ public class NotificationStepDefs {
         int unreadCount = (int) response.getJsonValue("count");
         assertThat(unreadCount).isEqualTo(count);
     }
+
+    @만일("다른 사용자가 해당 경기에 참가 신청한다")
+    public void 다른_사용자가_해당_경기에_참가_신청한다() {
+        participate(1);
+    }
+
+    @그리고("해당 경기에 다른 사용자 {int}명이 참가 신청했다")
+    public void 해당_경기에_다른_사용자_N명이_참가_신청했다(int count) {
+        participate(count);
+    }
+
+    @그러면("내게 {word} 알림이 {int}개 생성된다")
+    public void 내게_알림이_N개_생성된다(String type, int count) {
+        Long userId = sharedContext.getTestUser().getId();
+        assertThat(countNotifications(userId, NotificationType.valueOf(type))).isEqualTo(count);
+    }
+
+    @그리고("참가자 모두에게 {word} 알림이 생성된다")
+    public void 참가자_모두에게_알림이_생성된다(String type) {
+        assertThat(participantIds).isNotEmpty();
+        for (Long participantId : participantIds) {
+            assertThat(countNotifications(participantId, NotificationType.valueOf(type)))
+                    .as("참가자 %d의 알림", participantId)
+                    .isEqualTo(1);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fetchNotificationPage(String path) {
+        TestResponse response = testAdapter.getWithAuth(path, sharedContext.getAccessToken());
+        assertThat(response.statusCode()).isEqualTo(200);
+        for (Map<String, Object> item : (List<Map<String, Object>>) response.getJsonValue("items")) {
+            pagedNotificationIds.add(((Number) item.get("id")).longValue());
+        }
+        sharedContext.setLastResponse(response);
+    }
+
+    private void participate(int count) {
+        Match match = sharedContext.getTestMatches().get(0);
+        participantIds.clear();
+        for (int i = 0; i < count; i++) {
+            User participant = userRepository.save(User.reconstitute(null,
+                    "notified" + i + "-" + System.currentTimeMillis() + "@example.com",
+                    "notified" + i + "-사용자",
+                    null,
+                    BigDecimal.valueOf(3.0),
+                    0));
+            participateInMatchUseCase.participateInMatch(
+                    new ParticipateInMatchCommand(match.getId(), participant.getId()));
+            participantIds.add(participant.getId());
+        }
+    }
+
+    /**
+     * 알림은 비동기로 기록되므로 파이프라인을 비운 뒤 조회한다
+     */
+    private long countNotifications(Long userId, NotificationType type) {
+        assertThat(notificationDispatcher.flush(Duration.ofSeconds(5)))
+                .as("알림 기록이 제한 시간 안에 끝나야 합니다")
+                .isTrue();
+        return notificationRepository.findPageByUserId(userId, null, NOTIFICATION_LOOKUP_LIMIT).stream()
+                .filter(notification -> notification.getType() == type)
+                .count();
+    }
 }
@@ -0,0 +1,122 @@
+package com.hoops.acceptance.steps;
+
+import com.hoops.notification.application.port.in.CreateNotificationUseCase;
+import com.hoops.notification.application.port.out.NotificationRepositoryPort;
+import com.hoops.notification.domain.model.Notification;
+import com.hoops.notification.domain.vo.NotificationType;
+import io.cucumber.java.After;
+import io.cucumber.java.ko.그러면;
+import io.cucumber.java.ko.만일;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 실시간 스트림(SSE) 인수 테스트
+ *
+ * 실제 서버에 스트림 연결을 열어 두고, 받은 이벤트의 ID를 별도 스레드에서 모은다.
+ */
+public class NotificationStreamStepDefs {
+
+    private static final Duration RECEIVE_TIMEOUT = Duration.ofSeconds(5);
+    private static final int NOTIFICATION_LOOKUP_LIMIT = 100;
+
+    private final TestRestTemplate restTemplate;
+    private final SharedTestContext sharedContext;
+    private final CreateNotificationUseCase createNotificationUseCase;
+    private final NotificationRepositoryPort notificationRepository;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<Long> receivedIds = new CopyOnWriteArrayList<>();
+    private final ExecutorService reader = Executors.newSingleThreadExecutor();
+    private Stream<String> stream;
+
+    public NotificationStreamStepDefs(
+            TestRestTemplate restTemplate,
+            SharedTestContext sharedContext,
+            CreateNotificationUseCase createNotificationUseCase,
+            NotificationRepositoryPort notificationRepository) {
+        this.restTemplate = restTemplate;
+        this.sharedContext = sharedContext;
+        this.createNotificationUseCase = createNotificationUseCase;
+        this.notificationRepository = notificationRepository;
+    }
+
+    @만일("알림 스트림에 연결한다")
+    public void 알림_스트림에_연결한다() throws Exception {
+        connect(null);
+    }
+
+    @만일("가장 오래된 알림 이후부터 알림 스트림에 다시 연결한다")
+    public void 가장_오래된_알림_이후부터_알림_스트림에_다시_연결한다() throws Exception {
+        connect(myNotificationIds().get(0));
+    }
+
+    @만일("내게 새 알림이 생성된다")
+    public void 내게_새_알림이_생성된다() {
+        createNotificationUseCase.createNotification(sharedContext.getTestUser().getId(),
+                NotificationType.MATCH_UPCOMING, "경기 시작 알림", "곧 경기가 시작됩니다", null);
+    }
+
+    @그러면("스트림으로 알림 {int}개를 받는다")
+    public void 스트림으로_알림_N개를_받는다(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + RECEIVE_TIMEOUT.toNanos();
+        while (receivedIds.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(receivedIds).hasSize(count);
+    }
+
+    @그러면("스트림으로 가장 오래된 알림 이후의 알림을 받는다")
+    public void 스트림으로_가장_오래된_알림_이후의_알림을_받는다() throws InterruptedException {
+        List<Long> ids = myNotificationIds();
+        스트림으로_알림_N개를_받는다(ids.size() - 1);
+        assertThat(receivedIds).containsExactlyElementsOf(ids.subList(1, ids.size()));
+    }
+
+    @After
+    public void closeStream() {
+        if (stream != null) {
+            stream.close();
+        }
+        reader.shutdownNow();
+    }
+
+    private void connect(Long lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+                        URI.create(restTemplate.getRootUri() + "/api/notifications/stream"))
+                .header("Authorization", "Bearer " + sharedContext.getAccessToken())
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", String.valueOf(lastEventId));
+        }
+
+        // 응답 헤더를 받으면 반환되고, 본문은 연결이 끊길 때까지 줄 단위로 읽는다
+        HttpResponse<Stream<String>> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        stream = response.body();
+        reader.execute(() -> stream
+                .filter(line -> line.startsWith("id:"))
+                .forEach(line -> receivedIds.add(Long.parseLong(line.substring(3).trim()))));
+    }
+
+    private List<Long> myNotificationIds() {
+        return notificationRepository.findPageByUserId(sharedContext.getTestUser().getId(), null, NOTIFICATION_LOOKUP_LIMIT)
+                .stream()
+                .map(Notification::getId)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+    }
+}
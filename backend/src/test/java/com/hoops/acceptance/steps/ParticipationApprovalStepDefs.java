@@ -13,19 +13,29 @@ import com.hoops.match.domain.vo.MatchStatus;
 import com.hoops.match.application.port.out.MatchRepositoryPort;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import com.hoops.participation.application.port.in.ApproveParticipationCommand;
+import com.hoops.participation.application.port.in.ApproveParticipationUseCase;
 import com.hoops.participation.domain.model.Participation;
 import com.hoops.participation.domain.vo.ParticipationStatus;
 import com.hoops.participation.application.port.out.ParticipationRepositoryPort;
 import com.hoops.user.domain.model.User;
 import com.hoops.user.application.port.out.UserRepositoryPort;
+import io.cucumber.java.ko.그러면;
 import io.cucumber.java.ko.그리고;
 import io.cucumber.java.ko.먼저;
 import io.cucumber.java.ko.만일;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -42,9 +52,12 @@ public class ParticipationApprovalStepDefs {
     private final ParticipationRepositoryPort participationRepository;
     private final JwtTokenPort jwtTokenProvider;
     private final SharedTestContext sharedContext;
+    private final ApproveParticipationUseCase approveParticipationUseCase;
 
     private Long participationId;
     private User participantUser;
+    private final List<Long> pendingParticipationIds = new ArrayList<>();
+    private final AtomicInteger approvedCount = new AtomicInteger();
 
     public ParticipationApprovalStepDefs(
             TestAdapter testAdapter,
@@ -54,7 +67,8 @@ public class ParticipationApprovalStepDefs {
             LocationRepositoryPort locationRepository,
             ParticipationRepositoryPort participationRepository,
             JwtTokenPort jwtTokenProvider,
-            SharedTestContext sharedContext) {
+            SharedTestContext sharedContext,
+            ApproveParticipationUseCase approveParticipationUseCase) {
         this.testAdapter = testAdapter;
         this.userRepository = userRepository;
         this.authAccountRepository = authAccountRepository;
@@ -63,6 +77,7 @@ public class ParticipationApprovalStepDefs {
         this.participationRepository = participationRepository;
         this.jwtTokenProvider = jwtTokenProvider;
         this.sharedContext = sharedContext;
+        this.approveParticipationUseCase = approveParticipationUseCase;
     }
 
     @먼저("호스트가 회원가입되어 있다")
@@ -95,7 +110,7 @@ public class ParticipationApprovalStepDefs {
     @그리고("호스트가 로그인되어 있다")
     public void 호스트가_로그인되어_있다() {
         User host = sharedContext.getHostUser();
-        String accessToken = jwtTokenProvider.createTokens(host.getId()).accessToken();
+        String accessToken = jwtTokenProvider.createTokens(host.getId(), UUID.randomUUID().toString()).accessToken();
         sharedContext.setAccessToken(accessToken);
     }
 
@@ -203,4 +218,92 @@ public class ParticipationApprovalStepDefs {
                 .as("참가 상태가 REJECTED 이어야 합니다")
                 .isEqualTo("REJECTED");
     }
+
+    @먼저("해당 경기에 {int}명이 참가 신청했다")
+    public void 해당_경기에_N명이_참가_신청했다(int count) {
+        Match match = sharedContext.getTestMatches().get(0);
+        long seed = System.currentTimeMillis();
+
+        for (int i = 0; i < count; i++) {
+            User user = userRepository.save(User.reconstitute(
+                    null,
+                    "concurrent" + seed + "-" + i + "@kakao.com",
+                    "동시참가자" + i,
+                    null,
+                    BigDecimal.valueOf(3.0),
+                    0
+            ));
+            Participation participation = participationRepository.save(Participation.reconstitute(
+                    null,
+                    null,
+                    match.getId(),
+                    user.getId(),
+                    ParticipationStatus.PENDING,
+                    LocalDateTime.now()
+            ));
+            pendingParticipationIds.add(participation.getId());
+        }
+    }
+
+    @만일("호스트가 모든 참가 신청을 동시에 승인한다")
+    public void 호스트가_모든_참가_신청을_동시에_승인한다() throws InterruptedException {
+        Match match = sharedContext.getTestMatches().get(0);
+        Long hostId = sharedContext.getHostUser().getId();
+        int requestCount = pendingParticipationIds.size();
+
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch ready = new CountDownLatch(requestCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requestCount);
+
+        for (Long pendingId : pendingParticipationIds) {
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    approveParticipationUseCase.approveParticipation(
+                            new ApproveParticipationCommand(match.getId(), pendingId, hostId));
+                    approvedCount.incrementAndGet();
+                } catch (Exception ignored) {
+                    // 정원 초과로 거절된 요청
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await(30, TimeUnit.SECONDS);
+        start.countDown();
+        boolean completed = done.await(120, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        assertThat(completed)
+                .as("모든 승인 요청이 제한 시간 안에 끝나야 합니다")
+                .isTrue();
+    }
+
+    @그러면("승인된 참가 신청은 {int}건이다")
+    public void 승인된_참가_신청은_N건이다(int expected) {
+        Match match = sharedContext.getTestMatches().get(0);
+        long confirmed = participationRepository.findByMatchIdAndNotCancelled(match.getId()).stream()
+                .filter(participation -> participation.getStatus() == ParticipationStatus.CONFIRMED)
+                .count();
+
+        assertThat(approvedCount.get())
+                .as("성공한 승인 요청 수")
+                .isEqualTo(expected);
+        assertThat(confirmed)
+                .as("CONFIRMED 상태로 저장된 참가 신청 수")
+                .isEqualTo(expected);
+    }
+
+    @그리고("경기 참가 인원이 정원과 같고 상태는 FULL 이다")
+    public void 경기_참가_인원이_정원과_같고_상태는_FULL_이다() {
+        Match match = matchRepository.findById(sharedContext.getTestMatches().get(0).getId()).orElseThrow();
+
+        assertThat(match.getCurrentParticipants())
+                .as("참가 인원은 정원을 넘지 않아야 합니다")
+                .isEqualTo(match.getMaxParticipants());
+        assertThat(match.getStatus()).isEqualTo(MatchStatus.FULL);
+    }
 }
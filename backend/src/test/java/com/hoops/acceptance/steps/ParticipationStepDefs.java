@@ -2,22 +2,36 @@ package com.hoops.acceptance.steps;
 
 import com.hoops.acceptance.adapter.TestAdapter;
 import com.hoops.acceptance.adapter.TestResponse;
+import com.hoops.match.application.exception.MatchNotRecruitingException;
+import com.hoops.match.application.port.out.MatchParticipationPort;
 import com.hoops.match.application.port.out.MatchRepositoryPort;
 import com.hoops.match.domain.model.Match;
 import com.hoops.match.domain.vo.MatchStatus;
+import com.hoops.participation.application.port.in.ParticipateInMatchCommand;
+import com.hoops.participation.application.port.in.ParticipateInMatchUseCase;
 import com.hoops.participation.domain.model.Participation;
 import com.hoops.participation.domain.vo.ParticipationStatus;
 import com.hoops.participation.application.port.out.ParticipationRepositoryPort;
 import com.hoops.user.domain.model.User;
 import com.hoops.user.application.port.out.UserRepositoryPort;
+import io.cucumber.java.ko.그러면;
 import io.cucumber.java.ko.그리고;
 import io.cucumber.java.ko.먼저;
 import io.cucumber.java.ko.만일;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -31,20 +45,31 @@ public class ParticipationStepDefs {
     private final UserRepositoryPort userRepository;
     private final ParticipationRepositoryPort participationRepository;
     private final SharedTestContext sharedContext;
+    private final ParticipateInMatchUseCase participateInMatchUseCase;
+    private final MatchParticipationPort matchParticipationPort;
+    private final TransactionTemplate transactionTemplate;
 
     private Participation testParticipation;
+    private RuntimeException incrementFailure;
+    private final AtomicInteger succeededCount = new AtomicInteger();
 
     public ParticipationStepDefs(
             TestAdapter testAdapter,
             MatchRepositoryPort matchRepository,
             UserRepositoryPort userRepository,
             ParticipationRepositoryPort participationRepository,
-            SharedTestContext sharedContext) {
+            SharedTestContext sharedContext,
+            ParticipateInMatchUseCase participateInMatchUseCase,
+            MatchParticipationPort matchParticipationPort,
+            TransactionTemplate transactionTemplate) {
         this.testAdapter = testAdapter;
         this.matchRepository = matchRepository;
         this.userRepository = userRepository;
         this.participationRepository = participationRepository;
         this.sharedContext = sharedContext;
+        this.participateInMatchUseCase = participateInMatchUseCase;
+        this.matchParticipationPort = matchParticipationPort;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @그리고("이미 해당 경기에 참가 신청을 했다")
@@ -118,6 +143,65 @@ public class ParticipationStepDefs {
         sharedContext.addTestMatch(savedMatch);
     }
 
+    @먼저("마지막 한 자리만 남은 다른 사용자의 경기가 있다")
+    public void 마지막_한_자리만_남은_다른_사용자의_경기가_있다() {
+        User otherUser = createOtherUser("lastslot");
+        sharedContext.clearTestMatches();
+
+        Match match = Match.reconstitute(
+                null,  // id
+                0L,    // version
+                otherUser.getId(),  // hostId
+                otherUser.getNickname(),  // hostNickname
+                "한 자리 남은 경기",  // title
+                "테스트 경기 설명",  // description
+                BigDecimal.valueOf(37.5665),  // latitude
+                BigDecimal.valueOf(126.9780),  // longitude
+                "서울시 중구",  // address
+                LocalDate.now().plusDays(7),  // matchDate
+                LocalTime.of(18, 0),  // startTime
+                LocalTime.of(20, 0),  // endTime
+                4,   // maxParticipants
+                3,   // currentParticipants
+                MatchStatus.PENDING,  // status
+                null  // cancelledAt
+        );
+        Match savedMatch = matchRepository.save(match);
+        sharedContext.addTestMatch(savedMatch);
+    }
+
+    @그리고("참가 검증 이후 해당 경기의 취소가 먼저 커밋된다")
+    public void 참가_검증_이후_해당_경기의_취소가_먼저_커밋된다() {
+        Match match = sharedContext.getTestMatches().get(0);
+        transactionTemplate.executeWithoutResult(status -> matchRepository.updateStatus(List.of(match.getId()),
+                List.of(MatchStatus.PENDING, MatchStatus.CONFIRMED, MatchStatus.FULL), MatchStatus.CANCELLED));
+    }
+
+    @만일("검증을 마친 참가 요청이 해당 경기의 참가자 수를 늘린다")
+    public void 검증을_마친_참가_요청이_해당_경기의_참가자_수를_늘린다() {
+        Match match = sharedContext.getTestMatches().get(0);
+        incrementFailure = null;
+        try {
+            matchParticipationPort.addParticipant(match.getId());
+        } catch (RuntimeException e) {
+            incrementFailure = e;
+        }
+    }
+
+    @그러면("참가자 수 증가가 거절되고 경기는 취소 상태로 남는다")
+    public void 참가자_수_증가가_거절되고_경기는_취소_상태로_남는다() {
+        Match original = sharedContext.getTestMatches().get(0);
+        assertThat(incrementFailure)
+                .as("취소된 경기에는 참가자를 추가할 수 없어야 합니다")
+                .isInstanceOf(MatchNotRecruitingException.class);
+
+        Match reloaded = matchRepository.findById(original.getId()).orElseThrow();
+        assertThat(reloaded.getStatus())
+                .as("마지막 자리를 채우더라도 FULL로 되살아나면 안 됩니다")
+                .isEqualTo(MatchStatus.CANCELLED);
+        assertThat(reloaded.getCurrentParticipants()).isEqualTo(original.getCurrentParticipants());
+    }
+
     @만일("해당 경기에 참가 신청 API를 호출한다")
     public void 해당_경기에_참가_신청_API를_호출한다() {
         Match match = sharedContext.getTestMatches().get(0);
@@ -159,6 +243,81 @@ public class ParticipationStepDefs {
                 .isEqualTo(expectedStatus);
     }
 
+    @만일("{int}명이 해당 경기에 동시에 참가 신청한다")
+    public void N명이_해당_경기에_동시에_참가_신청한다(int count) throws InterruptedException {
+        Match match = sharedContext.getTestMatches().get(0);
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            userIds.add(createOtherUser("admission" + i + "-").getId());
+        }
+
+        participateConcurrently(match.getId(), userIds);
+    }
+
+    @만일("사용자가 해당 경기에 {int}번 동시에 참가 신청한다")
+    public void 사용자가_해당_경기에_N번_동시에_참가_신청한다(int count) throws InterruptedException {
+        Match match = sharedContext.getTestMatches().get(0);
+        Long userId = sharedContext.getTestUser().getId();
+
+        participateConcurrently(match.getId(), Collections.nCopies(count, userId));
+    }
+
+    @그러면("{int}명 모두 참가 신청이 PENDING 상태로 저장된다")
+    public void N명_모두_참가_신청이_PENDING_상태로_저장된다(int expected) {
+        Match match = sharedContext.getTestMatches().get(0);
+        List<Participation> participations = participationRepository.findByMatchIdAndNotCancelled(match.getId());
+
+        assertThat(succeededCount.get())
+                .as("성공한 참가 신청 요청 수")
+                .isEqualTo(expected);
+        assertThat(participations)
+                .hasSize(expected)
+                .allMatch(participation -> participation.getStatus() == ParticipationStatus.PENDING);
+    }
+
+    @그러면("해당 경기의 참가 신청은 {int}건만 저장된다")
+    public void 해당_경기의_참가_신청은_N건만_저장된다(int expected) {
+        Match match = sharedContext.getTestMatches().get(0);
+
+        assertThat(succeededCount.get())
+                .as("성공한 참가 신청 요청 수")
+                .isEqualTo(expected);
+        assertThat(participationRepository.findByMatchIdAndNotCancelled(match.getId()))
+                .hasSize(expected);
+    }
+
+    private void participateConcurrently(Long matchId, List<Long> userIds) throws InterruptedException {
+        int requestCount = userIds.size();
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch ready = new CountDownLatch(requestCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requestCount);
+
+        for (Long userId : userIds) {
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    participateInMatchUseCase.participateInMatch(new ParticipateInMatchCommand(matchId, userId));
+                    succeededCount.incrementAndGet();
+                } catch (Exception ignored) {
+                    // 중복 신청으로 거절된 요청
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await(30, TimeUnit.SECONDS);
+        start.countDown();
+        boolean completed = done.await(60, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        assertThat(completed)
+                .as("모든 참가 신청 요청이 제한 시간 안에 끝나야 합니다")
+                .isTrue();
+    }
+
     private User createOtherUser(String prefix) {
         User user = User.reconstitute(null,
                 prefix + System.currentTimeMillis() + "@example.com",
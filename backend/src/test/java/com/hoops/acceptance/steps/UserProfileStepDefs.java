@@ -11,6 +11,7 @@ import io.cucumber.java.ko.만일;
 
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -49,7 +50,7 @@ public class UserProfileStepDefs {
     @그리고("사용자가 로그인되어 있다")
     public void 사용자가_로그인되어_있다() {
         User testUser = sharedContext.getTestUser();
-        String accessToken = jwtTokenProvider.createTokens(testUser.getId()).accessToken();
+        String accessToken = jwtTokenProvider.createTokens(testUser.getId(), UUID.randomUUID().toString()).accessToken();
         sharedContext.setAccessToken(accessToken);
     }
 
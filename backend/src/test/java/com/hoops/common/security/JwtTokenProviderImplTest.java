@@ -6,20 +6,31 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.hoops.auth.application.exception.InvalidRefreshTokenException;
 import com.hoops.auth.application.exception.InvalidTempTokenException;
 import com.hoops.auth.domain.vo.AuthProvider;
+import com.hoops.auth.domain.vo.RefreshTokenClaims;
 import com.hoops.auth.domain.vo.TempTokenClaims;
 import com.hoops.auth.domain.vo.TokenPair;
+import com.hoops.auth.domain.vo.VerifiedTokenClaims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 class JwtTokenProviderImplTest {
 
+    private static final String SECRET = "test-secret-key-must-be-at-least-32-characters-long";
+
     private JwtTokenProviderImpl jwtTokenProvider;
 
     @BeforeEach
     void setUp() {
         JwtProperties properties = new JwtProperties(
-                "test-secret-key-must-be-at-least-32-characters-long",
+                SECRET,
                 1800000L,   // 30분
                 1209600000L, // 14일
                 600000L     // 10분
@@ -29,12 +40,12 @@ class JwtTokenProviderImplTest {
 
     @Test
     @DisplayName("userId로 Access Token과 Refresh Token을 생성한다")
-    void createTokens_WithUserId_ReturnsAccessAndRefreshTokens() {
+    void createTokens_WithUserIdAndFamily_ReturnsAccessAndRefreshTokens() {
         // given
         Long userId = 1L;
 
         // when
-        TokenPair result = jwtTokenProvider.createTokens(userId);
+        TokenPair result = jwtTokenProvider.createTokens(userId, "family-1");
 
         // then
         assertThat(result).isNotNull();
@@ -48,7 +59,7 @@ class JwtTokenProviderImplTest {
     void getUserIdFromToken_WithValidToken_ReturnsUserId() {
         // given
         Long userId = 123L;
-        TokenPair tokens = jwtTokenProvider.createTokens(userId);
+        TokenPair tokens = jwtTokenProvider.createTokens(userId, "family-1");
 
         // when
         Long extractedUserId = jwtTokenProvider.getUserIdFromToken(tokens.accessToken());
@@ -61,7 +72,7 @@ class JwtTokenProviderImplTest {
     @DisplayName("유효한 토큰은 검증에 성공한다")
     void validateToken_WithValidToken_ReturnsTrue() {
         // given
-        TokenPair tokens = jwtTokenProvider.createTokens(1L);
+        TokenPair tokens = jwtTokenProvider.createTokens(1L, "family-1");
 
         // when
         boolean isValid = jwtTokenProvider.validateToken(tokens.accessToken());
@@ -135,30 +146,61 @@ class JwtTokenProviderImplTest {
     }
 
     @Test
-    @DisplayName("Refresh 토큰으로 새로운 토큰을 발급한다")
-    void refreshTokens_WithValidRefreshToken_ReturnsNewTokens() {
+    @DisplayName("Refresh 토큰에서 userId와 토큰 패밀리를 추출한다")
+    void getClaimsFromRefreshToken_WithValidRefreshToken_ReturnsClaims() {
         // given
         Long userId = 1L;
-        TokenPair originalTokens = jwtTokenProvider.createTokens(userId);
+        TokenPair tokens = jwtTokenProvider.createTokens(userId, "family-1");
+
+        // when
+        RefreshTokenClaims claims = jwtTokenProvider.getClaimsFromRefreshToken(tokens.refreshToken());
+
+        // then
+        assertThat(claims.userId()).isEqualTo(userId);
+        assertThat(claims.familyId()).isEqualTo("family-1");
+    }
+
+    @Test
+    @DisplayName("토큰 패밀리 도입 이전에 발급된 Refresh 토큰은 패밀리 없는 클레임으로 반환한다")
+    void getClaimsFromRefreshToken_WithLegacyRefreshToken_ReturnsLegacyClaims() {
+        // given
+        String legacyToken = Jwts.builder()
+                .claim("userId", 7L)
+                .claim("tokenType", "refresh")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
 
         // when
-        TokenPair newTokens = jwtTokenProvider.refreshTokens(originalTokens.refreshToken());
+        RefreshTokenClaims claims = jwtTokenProvider.getClaimsFromRefreshToken(legacyToken);
 
         // then
-        assertThat(newTokens.accessToken()).isNotBlank();
-        assertThat(newTokens.refreshToken()).isNotBlank();
-        assertThat(jwtTokenProvider.validateToken(newTokens.accessToken())).isTrue();
-        assertThat(jwtTokenProvider.getUserIdFromToken(newTokens.accessToken())).isEqualTo(userId);
+        assertThat(claims.userId()).isEqualTo(7L);
+        assertThat(claims.isLegacy()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 패밀리로 연달아 발급해도 Refresh 토큰은 서로 다르다")
+    void createTokens_WithSameFamily_ReturnsDistinctRefreshTokens() {
+        // given
+        TokenPair first = jwtTokenProvider.createTokens(1L, "family-1");
+
+        // when
+        TokenPair second = jwtTokenProvider.createTokens(1L, "family-1");
+
+        // then
+        assertThat(second.refreshToken()).isNotEqualTo(first.refreshToken());
     }
 
     @Test
     @DisplayName("Access 토큰으로 갱신 시도 시 예외를 발생시킨다")
-    void refreshTokens_WithAccessToken_ThrowsException() {
+    void getClaimsFromRefreshToken_WithAccessToken_ThrowsException() {
         // given
-        TokenPair tokens = jwtTokenProvider.createTokens(1L);
+        TokenPair tokens = jwtTokenProvider.createTokens(1L, "family-1");
 
         // when & then
-        assertThatThrownBy(() -> jwtTokenProvider.refreshTokens(tokens.accessToken()))
+        assertThatThrownBy(() -> jwtTokenProvider.getClaimsFromRefreshToken(tokens.accessToken()))
                 .isInstanceOf(InvalidRefreshTokenException.class);
     }
 
@@ -173,7 +215,7 @@ class JwtTokenProviderImplTest {
                 1L
         );
         JwtTokenProviderImpl shortExpiryProvider = new JwtTokenProviderImpl(shortExpiryProps);
-        TokenPair tokens = shortExpiryProvider.createTokens(1L);
+        TokenPair tokens = shortExpiryProvider.createTokens(1L, "family-1");
 
         // when - 토큰 만료 대기
         Thread.sleep(10);
@@ -181,4 +223,47 @@ class JwtTokenProviderImplTest {
         // then
         assertThat(shortExpiryProvider.validateToken(tokens.accessToken())).isFalse();
     }
+
+    @Test
+    @DisplayName("토큰을 검증하여 userId와 만료 시각을 반환한다")
+    void verifyToken_WithValidToken_ReturnsClaims() {
+        // given
+        Long userId = 123L;
+        TokenPair tokens = jwtTokenProvider.createTokens(userId, "family-1");
+
+        // when
+        Optional<VerifiedTokenClaims> result = jwtTokenProvider.verifyToken(tokens.accessToken());
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().userId()).isEqualTo(userId);
+        assertThat(result.get().expiresAt())
+                .isAfter(Instant.now())
+                .isBefore(Instant.now().plus(Duration.ofMinutes(31)));
+    }
+
+    @Test
+    @DisplayName("변조되었거나 userId가 없는 토큰은 검증 결과가 비어 있다")
+    void verifyToken_WithInvalidToken_ReturnsEmpty() {
+        // given
+        TokenPair tokens = jwtTokenProvider.createTokens(1L, "family-1");
+        String tamperedToken = tokens.accessToken() + "tampered";
+        String tempToken = jwtTokenProvider.createTempToken(
+                TempTokenClaims.of(AuthProvider.KAKAO, "12345", "test@example.com", null));
+
+        // when & then
+        assertThat(jwtTokenProvider.verifyToken(tamperedToken)).isEmpty();
+        assertThat(jwtTokenProvider.verifyToken(tempToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Refresh 토큰은 Access 토큰으로 검증되지 않는다")
+    void verifyToken_WithRefreshToken_ReturnsEmpty() {
+        // given
+        TokenPair tokens = jwtTokenProvider.createTokens(1L, "family-1");
+
+        // when & then
+        assertThat(jwtTokenProvider.verifyToken(tokens.refreshToken())).isEmpty();
+        assertThat(jwtTokenProvider.verifyToken(tokens.accessToken())).isPresent();
+    }
 }
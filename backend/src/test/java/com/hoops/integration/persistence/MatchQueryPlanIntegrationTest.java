@@ -0,0 +1,264 @@
+package com.hoops.integration.persistence;
+
+import com.hoops.match.adapter.out.persistence.MatchJpaEntity;
+import com.hoops.match.adapter.out.persistence.SpringDataMatchRepository;
+import com.hoops.match.domain.vo.MatchStatus;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매치 조회 실행 계획 회귀 테스트
+ *
+ * Flyway 마이그레이션으로 만든 MySQL 스키마에 운영과 비슷한 분포의 데이터를 넣고,
+ * 상태 전환 스케줄러와 호스트 조회 쿼리가 전체 스캔(ALL, index)으로 떨어지지 않는지 EXPLAIN으로 검증한다.
+ * SpringDataMatchRepository의 @Query JPQL을 그대로 Hibernate로 실행하고, 이때 생성된 SQL을 가로채 EXPLAIN하므로
+ * 리포지토리 쿼리가 바뀌면 바뀐 SQL의 실행 계획을 검증한다.
+ */
+@Testcontainers
+@DisplayName("매치 조회 실행 계획 테스트")
+class MatchQueryPlanIntegrationTest {
+
+    private static final int HOST_COUNT = 100;
+    private static final int MATCH_COUNT = 10_000;
+    private static final List<String> FULL_SCAN_TYPES = List.of("ALL", "index");
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0.36")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    private static final List<String> executedSql = new CopyOnWriteArrayList<>();
+
+    private static JdbcTemplate jdbcTemplate;
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void setUp() {
+        DataSource dataSource = createDataSource();
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        insertHosts();
+        insertMatches();
+        jdbcTemplate.execute("ANALYZE TABLE matches");
+        sessionFactory = createSessionFactory(dataSource);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+    }
+
+    @Test
+    @DisplayName("시작 대상 매치 ID 조회는 인덱스만 읽는다")
+    void findMatchIdsToStart_usesIndex() {
+        LocalDate today = LocalDate.now();
+        String sql = generatedSql("findMatchIdsToStart", query -> query
+                .setParameter("date", today)
+                .setParameter("time", LocalTime.NOON)
+                .setParameter("statuses", List.of(MatchStatus.PENDING, MatchStatus.CONFIRMED, MatchStatus.FULL)));
+
+        Map<String, Object> plan = explain(sql, "PENDING", "CONFIRMED", "FULL",
+                Date.valueOf(today), Date.valueOf(today), Time.valueOf(LocalTime.NOON));
+
+        assertNotFullScan(plan);
+        assertThat(String.valueOf(plan.get("Extra")))
+                .as("ID만 조회하므로 커버링 인덱스여야 함: %s", plan)
+                .contains("Using index");
+    }
+
+    @Test
+    @DisplayName("종료 대상 매치 ID 조회는 인덱스만 읽는다")
+    void findMatchIdsToEnd_usesIndex() {
+        LocalDate today = LocalDate.now();
+        String sql = generatedSql("findMatchIdsToEnd", query -> query
+                .setParameter("date", today)
+                .setParameter("time", LocalTime.NOON)
+                .setParameter("status", MatchStatus.IN_PROGRESS));
+
+        Map<String, Object> plan = explain(sql, "IN_PROGRESS",
+                Date.valueOf(today), Date.valueOf(today), Time.valueOf(LocalTime.NOON));
+
+        assertNotFullScan(plan);
+        assertThat(String.valueOf(plan.get("Extra")))
+                .as("ID만 조회하므로 커버링 인덱스여야 함: %s", plan)
+                .contains("Using index");
+    }
+
+    @Test
+    @DisplayName("호스트의 활성 매치 조회는 호스트 인덱스를 사용한다")
+    void findActiveMatchesByHostId_usesIndex() {
+        String sql = generatedSql("findActiveMatchesByHostId", query -> query
+                .setParameter("hostId", 1L));
+
+        Map<String, Object> plan = explain(sql, 1L);
+
+        assertNotFullScan(plan);
+    }
+
+    /**
+     * 리포지토리 메서드의 @Query JPQL을 실행하고 Hibernate가 실제로 보낸 SQL을 반환
+     * 바인딩 값은 SQL에 나타나는 순서대로 explain에 다시 전달한다
+     */
+    private String generatedSql(String repositoryMethod, UnaryOperator<SelectionQuery<?>> binder) {
+        String jpql = jpqlOf(repositoryMethod);
+        executedSql.clear();
+        try (Session session = sessionFactory.openSession()) {
+            binder.apply(session.createSelectionQuery(jpql)).list();
+        }
+        assertThat(executedSql)
+                .as("JPQL 하나는 SQL 하나로 실행되어야 함: %s", jpql)
+                .hasSize(1);
+        return executedSql.get(0);
+    }
+
+    private String jpqlOf(String repositoryMethod) {
+        Method method = Arrays.stream(SpringDataMatchRepository.class.getDeclaredMethods())
+                .filter(candidate -> candidate.getName().equals(repositoryMethod))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown repository method: " + repositoryMethod));
+        Query query = method.getAnnotation(Query.class);
+        assertThat(query)
+                .as("%s는 @Query로 정의되어 있어야 함", repositoryMethod)
+                .isNotNull();
+        return query.value();
+    }
+
+    private Map<String, Object> explain(String sql, Object... args) {
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as("바인딩 값 수가 SQL 파라미터 수와 같아야 함: %s", sql)
+                .isEqualTo(args.length);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+
+    private void assertNotFullScan(Map<String, Object> plan) {
+        assertThat(String.valueOf(plan.get("type")))
+                .as("전체 스캔으로 떨어지면 안 됨: %s", plan)
+                .isNotIn(FULL_SCAN_TYPES);
+        assertThat(plan.get("key"))
+                .as("인덱스를 사용해야 함: %s", plan)
+                .isNotNull();
+    }
+
+    private static DataSource createDataSource() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        dataSource.setUrl(mysql.getJdbcUrl());
+        dataSource.setUsername(mysql.getUsername());
+        dataSource.setPassword(mysql.getPassword());
+        return dataSource;
+    }
+
+    /**
+     * 운영과 같은 컬럼 이름 규칙(camelCase -> snake_case)으로 매치 엔티티만 매핑하고, 실행되는 SQL을 기록한다
+     */
+    private static SessionFactory createSessionFactory(DataSource dataSource) {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy())
+                .applySetting(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                    executedSql.add(sql);
+                    return sql;
+                })
+                .build();
+        return new MetadataSources(registry)
+                .addAnnotatedClass(MatchJpaEntity.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    private static void insertHosts() {
+        List<Object[]> hosts = new ArrayList<>();
+        for (int i = 1; i <= HOST_COUNT; i++) {
+            hosts.add(new Object[]{"host" + i + "@hoops.com", "host" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, nickname) VALUES (?, ?)", hosts);
+    }
+
+    /**
+     * 대부분 종료/취소된 과거 경기이고, 시작 전/진행 중 경기는 일부인 분포
+     */
+    private static void insertMatches() {
+        LocalDate today = LocalDate.now();
+        List<Object[]> matches = new ArrayList<>();
+        for (int i = 0; i < MATCH_COUNT; i++) {
+            long hostId = i % HOST_COUNT + 1;
+            String status = statusOf(i);
+            LocalDate matchDate = switch (status) {
+                case "ENDED", "CANCELLED" -> today.minusDays(1 + i % 300);
+                case "IN_PROGRESS" -> today;
+                default -> today.plusDays(i % 30);
+            };
+            matches.add(new Object[]{
+                    hostId, "host" + hostId, "경기 " + i, 37.5665, 126.9780,
+                    Date.valueOf(matchDate), Time.valueOf(LocalTime.of(10, 0)), Time.valueOf(LocalTime.of(12, 0)),
+                    10, status
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO matches (host_id, host_nickname, title, latitude, longitude,
+                                     match_date, start_time, end_time, max_participants, status)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, matches);
+    }
+
+    private static String statusOf(int index) {
+        int bucket = index % 100;
+        if (bucket < 80) {
+            return "ENDED";
+        }
+        if (bucket < 85) {
+            return "CANCELLED";
+        }
+        if (bucket < 87) {
+            return "IN_PROGRESS";
+        }
+        if (bucket < 95) {
+            return "PENDING";
+        }
+        return bucket < 98 ? "CONFIRMED" : "FULL";
+    }
+}
@@ -0,0 +1,152 @@
+package com.hoops.integration.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 목록 실행 계획 회귀 테스트
+ *
+ * 이력이 많은 사용자의 알림 목록 조회가 커서 위치부터 인덱스 순서대로 읽고 끝나는지
+ * (정렬을 위해 사용자의 알림 전체를 읽는 filesort로 떨어지지 않는지) EXPLAIN으로 검증한다.
+ * 쿼리는 SpringDataNotificationRepository의 JPQL이 생성하는 SQL과 같은 조건으로 작성한다.
+ */
+@Testcontainers
+@DisplayName("알림 목록 실행 계획 테스트")
+class NotificationQueryPlanIntegrationTest {
+
+    private static final int USER_COUNT = 100;
+    private static final int HEAVY_USER_NOTIFICATIONS = 5_000;
+    private static final int NOTIFICATIONS_PER_USER = 50;
+    private static final long HEAVY_USER_ID = 1L;
+    private static final String FEED_INDEX = "idx_notification_user_created";
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0.36")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        DataSource dataSource = createDataSource();
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        insertUsers();
+        insertNotifications();
+        jdbcTemplate.execute("ANALYZE TABLE notifications");
+    }
+
+    @Test
+    @DisplayName("첫 페이지 조회는 피드 인덱스 순서대로 읽는다")
+    void findLatestByUserId_usesFeedIndexWithoutFilesort() {
+        Map<String, Object> plan = explain("""
+                SELECT * FROM notifications n
+                WHERE n.user_id = ?
+                ORDER BY n.created_at DESC, n.id DESC
+                LIMIT 21
+                """, HEAVY_USER_ID);
+
+        assertFeedIndexScan(plan);
+    }
+
+    @Test
+    @DisplayName("커서 이후 페이지 조회는 커서 위치부터 피드 인덱스 순서대로 읽는다")
+    void findByUserIdBefore_usesFeedIndexWithoutFilesort() {
+        LocalDateTime cursor = LocalDateTime.now().minusHours(HEAVY_USER_NOTIFICATIONS / 2);
+        Map<String, Object> plan = explain("""
+                SELECT * FROM notifications n
+                WHERE n.user_id = ?
+                AND (n.created_at < ? OR (n.created_at = ? AND n.id < ?))
+                ORDER BY n.created_at DESC, n.id DESC
+                LIMIT 21
+                """, HEAVY_USER_ID, Timestamp.valueOf(cursor), Timestamp.valueOf(cursor), Long.MAX_VALUE);
+
+        assertFeedIndexScan(plan);
+        assertThat(String.valueOf(plan.get("type")))
+                .as("커서 위치부터 범위 스캔해야 함: %s", plan)
+                .isEqualTo("range");
+    }
+
+    private Map<String, Object> explain(String sql, Object... args) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+
+    private void assertFeedIndexScan(Map<String, Object> plan) {
+        assertThat(plan.get("key"))
+                .as("피드 인덱스를 사용해야 함: %s", plan)
+                .isEqualTo(FEED_INDEX);
+        assertThat(String.valueOf(plan.get("Extra")))
+                .as("인덱스 순서로 읽어 정렬이 없어야 함: %s", plan)
+                .doesNotContain("Using filesort");
+    }
+
+    private static DataSource createDataSource() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        dataSource.setUrl(mysql.getJdbcUrl());
+        dataSource.setUsername(mysql.getUsername());
+        dataSource.setPassword(mysql.getPassword());
+        return dataSource;
+    }
+
+    private static void insertUsers() {
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= USER_COUNT; i++) {
+            users.add(new Object[]{"user" + i + "@hoops.com", "user" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, nickname) VALUES (?, ?)", users);
+    }
+
+    /**
+     * 한 사용자에게 이력이 몰려 있고, 나머지 사용자는 이력이 적은 분포
+     */
+    private static void insertNotifications() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> notifications = new ArrayList<>();
+        for (int i = 0; i < HEAVY_USER_NOTIFICATIONS; i++) {
+            notifications.add(notification(HEAVY_USER_ID, i, now.minusHours(i)));
+        }
+        for (long userId = 2; userId <= USER_COUNT; userId++) {
+            for (int i = 0; i < NOTIFICATIONS_PER_USER; i++) {
+                notifications.add(notification(userId, i, now.minusHours(i)));
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO notifications (user_id, type, title, message, is_read, created_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, notifications);
+    }
+
+    private static Object[] notification(long userId, int index, LocalDateTime createdAt) {
+        return new Object[]{
+                userId, "MATCH_UPCOMING", "알림 " + index, "알림 메시지 " + index,
+                index % 3 == 0, Timestamp.valueOf(createdAt)
+        };
+    }
+}
@@ -22,3 +22,51 @@
     만일 리프레시 토큰으로 토큰 갱신을 요청한다
     그러면 응답 상태 코드는 200 이다
     그리고 응답에 새로운 액세스 토큰이 포함되어 있다
+    그리고 응답에 새로운 리프레시 토큰이 포함되어 있다
+
+  시나리오: 로테이션된 리프레시 토큰으로 다시 갱신한다
+    먼저 로그인된 사용자가 있다
+    그리고 리프레시 토큰으로 토큰 갱신을 요청한다
+    만일 리프레시 토큰으로 토큰 갱신을 요청한다
+    그러면 응답 상태 코드는 200 이다
+    그리고 응답에 새로운 리프레시 토큰이 포함되어 있다
+
+  시나리오: 동시에 갱신한 직전 리프레시 토큰은 유예 시간 동안 허용된다
+    먼저 로그인된 사용자가 있다
+    그리고 리프레시 토큰으로 토큰 갱신을 요청한다
+    만일 이미 사용한 리프레시 토큰으로 토큰 갱신을 요청한다
+    그러면 응답 상태 코드는 200 이다
+    만일 리프레시 토큰으로 토큰 갱신을 요청한다
+    그러면 응답 상태 코드는 200 이다
+
+  시나리오: 이미 사용한 리프레시 토큰을 재사용하면 토큰 패밀리 전체가 폐기된다
+    먼저 로그인된 사용자가 있다
+    그리고 리프레시 토큰으로 토큰 갱신을 요청한다
+    그리고 리프레시 토큰 재사용 유예 시간이 지난다
+    만일 이미 사용한 리프레시 토큰으로 토큰 갱신을 요청한다
+    그러면 응답 상태 코드는 401 이다
+    만일 리프레시 토큰으로 토큰 갱신을 요청한다
+    그러면 응답 상태 코드는 401 이다
+
+  시나리오: 토큰 패밀리 도입 이전에 발급된 리프레시 토큰은 한 번만 갱신할 수 있다
+    먼저 로그인된 사용자가 있다
+    그리고 토큰 패밀리 없이 발급된 이전 방식의 리프레시 토큰을 가지고 있다
+    만일 리프레시 토큰으로 토큰 갱신을 요청한다
+    그러면 응답 상태 코드는 200 이다
+    그리고 응답에 새로운 리프레시 토큰이 포함되어 있다
+    만일 이미 사용한 리프레시 토큰으로 토큰 갱신을 요청한다
+    그러면 응답 상태 코드는 401 이다
+    만일 리프레시 토큰으로 토큰 갱신을 요청한다
+    그러면 응답 상태 코드는 200 이다
+
+  시나리오: 모든 기기에서 로그아웃하면 리프레시 토큰으로 갱신할 수 없다
+    먼저 로그인된 사용자가 있다
+    만일 모든 기기에서 로그아웃을 요청한다
+    그러면 응답 상태 코드는 204 이다
+    만일 리프레시 토큰으로 토큰 갱신을 요청한다
+    그러면 응답 상태 코드는 401 이다
+
+  시나리오: 리프레시 토큰으로는 API를 인증할 수 없다
+    먼저 로그인된 사용자가 있다
+    만일 리프레시 토큰을 액세스 토큰 대신 사용하여 내 정보를 조회한다
+    그러면 응답 상태 코드는 401 이다
@@ -56,3 +56,79 @@
     만일 서울 중심으로 반경 10km 내 경기 목록을 조회한다
     그러면 응답 상태 코드는 200 이다
     그리고 응답에 경기가 3개 포함되어 있다
+
+  시나리오: 커서로 다음 페이지 경기 목록 조회
+    먼저 서울 지역에 경기가 3개 등록되어 있다
+    만일 서울 중심으로 반경 10km 내 경기 목록을 2개씩 조회한다
+    그러면 응답 상태 코드는 200 이다
+    그리고 응답에 경기가 2개 포함되어 있다
+    그리고 응답에 다음 페이지 커서가 포함되어 있다
+    만일 응답의 커서로 다음 페이지 경기 목록을 조회한다
+    그러면 응답 상태 코드는 200 이다
+    그리고 응답에 경기가 1개 포함되어 있다
+    그리고 이전 페이지와 중복된 경기가 없다
+
+  시나리오: 같은 거리의 경기가 여러 페이지에 걸쳐도 커서로 빠짐없이 조회
+    먼저 서울 지역에 경기가 7개 등록되어 있다
+    만일 서울 중심으로 반경 10km 내 경기 목록을 커서로 2개씩 끝까지 조회한다
+    그러면 모든 페이지에서 조회한 경기는 중복 없이 7개이다
+
+  시나리오: 같은 거리의 경기가 여러 페이지에 걸쳐도 페이지 번호로 빠짐없이 조회
+    먼저 서울 지역에 경기가 7개 등록되어 있다
+    만일 서울 중심으로 반경 10km 내 경기 목록을 페이지 번호로 2개씩 끝까지 조회한다
+    그러면 모든 페이지에서 조회한 경기는 중복 없이 7개이다
+
+  시나리오: 잘못된 커서로 조회 시 400 에러
+    만일 서울 중심으로 잘못된 커서로 경기 목록을 조회한다
+    그러면 응답 상태 코드는 400 이다
+
+  시나리오: 지도 영역 내 경기만 조회
+    먼저 서울 지역에 경기가 3개 등록되어 있다
+    그리고 부산 지역에 경기가 2개 등록되어 있다
+    만일 서울 시청 주변 지도 영역의 경기 목록을 조회한다
+    그러면 응답 상태 코드는 200 이다
+    그리고 응답에 경기가 3개 포함되어 있다
+
+  시나리오: 잘못된 지도 영역으로 조회 시 400 에러
+    만일 최솟값이 최댓값보다 큰 지도 영역의 경기 목록을 조회한다
+    그러면 응답 상태 코드는 400 이다
+
+  시나리오: 조회 개수가 1보다 작으면 지도 영역 조회 시 400 에러
+    만일 서울 시청 주변 지도 영역의 경기 목록을 0개까지 조회한다
+    그러면 응답 상태 코드는 400 이다
+
+  시나리오: 요약 모드로 경기 목록 조회
+    먼저 서울 지역에 경기가 3개 등록되어 있다
+    만일 서울 중심으로 반경 10km 내 경기 목록을 요약 모드로 조회한다
+    그러면 응답 상태 코드는 200 이다
+    그리고 응답에 경기가 3개 포함되어 있다
+    그리고 응답 경기 목록에 상세 설명이 포함되지 않는다
+
+  시나리오: Redis에 저장된 요약으로 경기 목록 조회
+    먼저 서울 지역에 Redis 요약이 저장된 경기가 3개 등록되어 있다
+    만일 서울 중심으로 반경 10km 내 경기 목록을 요약 모드로 조회한다
+    그러면 응답 상태 코드는 200 이다
+    그리고 응답에 경기가 3개 포함되어 있다
+    그리고 응답 경기 목록은 Redis 요약으로 구성되어 있다
+
+  시나리오: Geo Index 재초기화 시 DB 기준으로 인덱스 교체
+    먼저 서울 지역에 경기가 3개 등록되어 있다
+    그리고 DB에 없는 경기가 서울 지역 Geo Index에만 남아 있다
+    만일 Geo Index를 다시 초기화한다
+    그러면 Geo Index에는 DB의 경기 3개만 남아 있다
+    만일 서울 중심으로 반경 10km 내 경기 목록을 조회한다
+    그러면 응답 상태 코드는 200 이다
+    그리고 응답에 경기가 3개 포함되어 있다
+
+  시나리오: Geo Index 동기화 시 누락 경기 추가와 고아 경기 제거
+    먼저 서울 지역에 경기가 3개 등록되어 있다
+    그리고 DB에 없는 경기가 서울 지역 Geo Index에만 남아 있다
+    그리고 Geo Index에서 경기 1개가 누락되어 있다
+    만일 Geo Index 동기화를 실행한다
+    그러면 Geo Index에는 DB의 경기 3개만 남아 있다
+
+  시나리오: Geo Index 동기화 시 DB와 다른 상태, 남은 자리, 요약 복구
+    먼저 서울 지역에 Redis 요약이 저장된 경기가 3개 등록되어 있다
+    그리고 Geo Index에서 경기 1개가 다른 상태와 남은 자리로 남아 있다
+    만일 Geo Index 동기화를 실행한다
+    그러면 Geo Index의 상태별 인덱스와 요약은 DB와 같다
@@ -43,3 +43,21 @@
     그러면 해당 경기의 상태가 ENDED 이다
     만일 경기 상태 업데이트가 다시 실행된다
     그러면 해당 경기의 상태가 ENDED 이다
+
+  시나리오: 시작 시간이 지난 여러 경기를 한 번에 IN_PROGRESS로 바꾸고 Geo Index에서 제거한다
+    먼저 Geo Index에 등록된 시작 시간이 지난 PENDING 경기가 5개 있다
+    만일 경기 상태 업데이트가 실행된다
+    그러면 해당 경기들의 상태가 모두 IN_PROGRESS 이다
+    그리고 경기 상태 변경 횟수가 5회 이다
+    그리고 해당 경기들이 Geo Index에서 제거되어 있다
+
+  시나리오: 시작/종료 스케줄에 등록된 경기는 시작 시각이 되면 IN_PROGRESS로 변경된다
+    먼저 시작/종료 스케줄에 등록된 시작 시간이 지난 PENDING 경기가 있다
+    만일 예약된 경기 상태 전환이 실행된다
+    그러면 해당 경기의 상태가 IN_PROGRESS 이다
+
+  시나리오: 시작/종료 스케줄에 등록되었어도 시작 시각 전인 경기는 변경되지 않는다
+    먼저 시작/종료 스케줄에 등록된 시작 시간이 되지 않은 PENDING 경기가 있다
+    만일 예약된 경기 상태 전환이 실행된다
+    그러면 해당 경기의 상태가 PENDING 이다
+    그리고 경기 상태 변경 횟수가 0회 이다
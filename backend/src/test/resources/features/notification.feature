@@ -24,3 +24,82 @@
     만일 읽지 않은 알림 개수 조회 API를 호출한다
     그러면 응답 상태 코드는 200 이다
     그리고 읽지 않은 알림 개수는 2 이다
+
+  시나리오: 내 경기에 참가 신청이 들어오면 알림이 생성된다
+    먼저 내가 생성한 경기가 있다
+    만일 다른 사용자가 해당 경기에 참가 신청한다
+    그러면 내게 PARTICIPATION_CREATED 알림이 1개 생성된다
+
+  시나리오: 여러 사용자가 같은 경기에 참가 신청하면 신청마다 알림이 생성된다
+    먼저 내가 생성한 경기가 있다
+    만일 해당 경기에 다른 사용자 3명이 참가 신청했다
+    그러면 내게 PARTICIPATION_CREATED 알림이 3개 생성된다
+
+  시나리오: 경기가 취소되면 참가자 모두에게 알림이 생성된다
+    먼저 내가 생성한 경기가 있다
+    그리고 해당 경기에 다른 사용자 3명이 참가 신청했다
+    만일 해당 경기 취소 API를 호출한다
+    그러면 응답 상태 코드는 204 이다
+    그리고 참가자 모두에게 MATCH_CANCELLED 알림이 생성된다
+
+  시나리오: 알림 하나를 읽음 처리하면 읽지 않은 알림 개수가 줄어든다
+    먼저 내게 읽지 않은 알림이 3개 있다
+    그리고 읽지 않은 알림 개수 조회 API를 호출한다
+    만일 내 알림 하나를 읽음 처리 API로 읽는다
+    그리고 읽지 않은 알림 개수 조회 API를 호출한다
+    그러면 읽지 않은 알림 개수는 2 이다
+
+  시나리오: 알림 전체 읽음 처리
+    먼저 내게 읽지 않은 알림이 3개 있다
+    그리고 읽지 않은 알림 개수 조회 API를 호출한다
+    만일 알림 전체 읽음 처리 API를 호출한다
+    그러면 응답 상태 코드는 200 이다
+    그리고 읽지 않은 알림 개수 조회 API를 호출한다
+    그리고 읽지 않은 알림 개수는 0 이다
+
+  시나리오: 읽지 않은 알림 개수를 조회한 뒤 생성된 알림도 개수에 반영된다
+    먼저 내가 생성한 경기가 있다
+    그리고 읽지 않은 알림 개수 조회 API를 호출한다
+    만일 다른 사용자가 해당 경기에 참가 신청한다
+    그리고 알림 기록이 끝날 때까지 기다린다
+    그리고 읽지 않은 알림 개수 조회 API를 호출한다
+    그러면 읽지 않은 알림 개수는 1 이다
+
+  시나리오: 알림 스트림에 연결해 두면 새 알림을 실시간으로 받는다
+    만일 알림 스트림에 연결한다
+    그리고 내게 새 알림이 생성된다
+    그러면 스트림으로 알림 1개를 받는다
+
+  시나리오: 알림 스트림에 다시 연결하면 놓친 알림을 먼저 받는다
+    먼저 내게 알림이 3개 있다
+    만일 가장 오래된 알림 이후부터 알림 스트림에 다시 연결한다
+    그러면 스트림으로 가장 오래된 알림 이후의 알림을 받는다
+
+  시나리오: 알림 목록을 커서로 나누어 조회한다
+    먼저 내게 알림이 5개 있다
+    만일 알림 목록을 2개씩 조회한다
+    그러면 응답에 알림이 2개 있다
+    그리고 다음 알림 페이지가 있다
+    그리고 알림 목록 다음 페이지를 조회한다
+    그리고 알림 목록 다음 페이지를 조회한다
+    그리고 응답에 알림이 1개 있다
+    그리고 다음 알림 페이지가 없다
+    그리고 페이지로 조회한 알림은 모두 5개이고 최신순으로 중복 없이 이어진다
+
+  시나리오: 조회한 위치까지만 알림을 한 번에 읽음 처리한다
+    먼저 내게 읽지 않은 알림이 3개 있다
+    그리고 알림 목록을 10개씩 조회한다
+    그리고 내게 읽지 않은 알림이 2개 더 도착한다
+    만일 조회한 목록의 최신 위치까지 알림 전체 읽음 처리 API를 호출한다
+    그러면 응답 상태 코드는 200 이다
+    그리고 읽지 않은 알림 개수 조회 API를 호출한다
+    그리고 읽지 않은 알림 개수는 2 이다
+
+  시나리오: 보관 기간이 지난 읽은 알림만 보관 테이블로 옮겨진다
+    먼저 내게 100일 전에 읽은 알림이 3개 있다
+    그리고 내게 100일 전에 읽지 않은 알림이 1개 있다
+    그리고 내게 알림이 2개 있다
+    만일 알림 보관 작업이 실행된다
+    그러면 보관 테이블로 옮겨진 알림은 3개이다
+    그리고 알림 목록 조회 API를 호출한다
+    그리고 응답에 알림이 3개 있다
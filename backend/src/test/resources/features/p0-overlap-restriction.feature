@@ -23,6 +23,14 @@
     만일 두번째 경기에 참가 신청 API를 호출한다
     그러면 응답 상태 코드는 201 이다
 
+  시나리오: 방금 참가 신청한 경기와 시간이 겹치는 경기에 참가 신청 시도
+    먼저 내일 14시부터 16시까지 진행되는 다른 사용자의 경기가 있다
+    그리고 해당 경기에 참가 신청 API를 호출한다
+    그리고 내일 15시부터 17시까지 진행되는 또 다른 경기가 있다
+    만일 두번째 경기에 참가 신청 API를 호출한다
+    그러면 응답 상태 코드는 409 이다
+    그리고 응답 에러 코드가 "OVERLAPPING_PARTICIPATION" 이다
+
   # 중복 호스팅 제한
   시나리오: 시간이 겹치는 경기 생성 시도
     먼저 내일 14시부터 16시까지 진행되는 내 경기가 있다
@@ -34,3 +42,10 @@
     먼저 내일 14시부터 16시까지 진행되는 내 경기가 있다
     만일 내일 17시부터 19시까지 경기 생성 API를 호출한다
     그러면 응답 상태 코드는 201 이다
+
+  시나리오: 방금 생성한 경기와 시간이 겹치는 경기 생성 시도
+    먼저 내일 14시부터 16시까지 경기 생성 API를 호출한다
+    그리고 응답 상태 코드는 201 이다
+    만일 내일 15시부터 17시까지 경기 생성 API를 호출한다
+    그러면 응답 상태 코드는 409 이다
+    그리고 응답 에러 코드가 "OVERLAPPING_HOSTING" 이다
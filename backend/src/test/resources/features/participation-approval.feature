@@ -19,3 +19,9 @@
     만일 호스트가 해당 참가 신청을 거절한다
     그러면 응답 상태 코드는 200 이다
     그리고 참가 상태가 REJECTED 이다
+
+  시나리오: 참가 승인 요청 500건이 동시에 들어와도 정원을 넘지 않는다
+    먼저 해당 경기에 500명이 참가 신청했다
+    만일 호스트가 모든 참가 신청을 동시에 승인한다
+    그러면 승인된 참가 신청은 9건이다
+    그리고 경기 참가 인원이 정원과 같고 상태는 FULL 이다
@@ -35,6 +35,12 @@
     만일 해당 경기에 참가 신청 API를 호출한다
     그러면 응답 상태 코드는 400 이다
 
+  시나리오: 참가 검증 이후 취소된 경기에는 참가자가 추가되지 않는다
+    먼저 마지막 한 자리만 남은 다른 사용자의 경기가 있다
+    그리고 참가 검증 이후 해당 경기의 취소가 먼저 커밋된다
+    만일 검증을 마친 참가 요청이 해당 경기의 참가자 수를 늘린다
+    그러면 참가자 수 증가가 거절되고 경기는 취소 상태로 남는다
+
   시나리오: 존재하지 않는 경기에 참가 신청 시도
     만일 존재하지 않는 경기에 참가 신청 API를 호출한다
     그러면 응답 상태 코드는 404 이다
@@ -53,3 +59,13 @@
     그러면 응답 상태 코드는 201 이다
     그리고 응답에 참가 ID가 포함되어 있다
     그리고 응답의 참가 상태가 "PENDING" 이다
+
+  시나리오: 여러 사용자가 같은 경기에 동시에 참가 신청한다
+    먼저 다른 사용자가 생성한 경기가 있다
+    만일 30명이 해당 경기에 동시에 참가 신청한다
+    그러면 30명 모두 참가 신청이 PENDING 상태로 저장된다
+
+  시나리오: 같은 사용자의 동시 중복 참가 신청은 한 건만 저장된다
+    먼저 다른 사용자가 생성한 경기가 있다
+    만일 사용자가 해당 경기에 10번 동시에 참가 신청한다
+    그러면 해당 경기의 참가 신청은 1건만 저장된다
@@ -0,0 +1,45 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://54.116.54.99:8080';
+
+// 상태 필터 유무에 따른 p95 비교용
+// 상태별 Geo Index 분리 전/후 비교는 아직 실행하지 않았다 (개선 효과는 측정되지 않음).
+// 분리 이전 커밋과 이후 커밋에 각각 배포한 뒤 같은 시드 데이터로 실행하여 pending_filter_duration p95를 비교한다:
+//   k6 run -e BASE_URL=http://<host>:8080 load-test/status-filter-load-test.js
+const unfilteredDuration = new Trend('unfiltered_duration', true);
+const pendingDuration = new Trend('pending_filter_duration', true);
+
+export const options = {
+    stages: [
+        { duration: '30s', target: 10 },
+        { duration: '30s', target: 50 },
+        { duration: '1m', target: 100 },
+        { duration: '30s', target: 0 },
+    ],
+    thresholds: {
+        http_req_duration: ['p(95)<2000'],
+        http_req_failed: ['rate<0.1'],
+        pending_filter_duration: ['p(95)<500'],
+    },
+};
+
+export default function () {
+    const base = `${BASE_URL}/api/matches?latitude=37.5665&longitude=126.9780&distance=10`;
+
+    const unfiltered = http.get(base);
+    unfilteredDuration.add(unfiltered.timings.duration);
+
+    const pending = http.get(`${base}&status=PENDING`);
+    pendingDuration.add(pending.timings.duration);
+
+    check(unfiltered, {
+        'unfiltered status 200': (r) => r.status === 200,
+    });
+    check(pending, {
+        'pending status 200': (r) => r.status === 200,
+    });
+
+    sleep(1);
+}